@@ -31,5 +31,20 @@ public interface BaseInsertCriteriaBuilder<T, X extends BaseInsertCriteriaBuilde
      * @return The query builder for chaining calls
      */
     public SelectBuilder<X> bind(String attribute);
+
+    /**
+     * Turns this insert statement into an upsert statement, which updates the bound attributes of an existing row instead of failing,
+     * if a row with the same identity exists already. The identity of a row is the id of the entity for entity inserts
+     * and the owner id together with the key, index or element for collection inserts.
+     * The statement is rendered by the dbms dialect e.g. as <code>INSERT ... ON CONFLICT DO UPDATE</code>, <code>MERGE</code> or <code>INSERT ... ON DUPLICATE KEY UPDATE</code>.
+     * Depending on the dbms, a unique constraint on the columns of the row identity is required.
+     * Upsert statements can't be used in CTEs and can't be combined with a limit or returning clause.
+     * Dbms that render upsert statements as <code>MERGE</code> also don't support combining them with CTEs.
+     *
+     * @return The query builder for chaining calls
+     * @throws IllegalStateException If the dbms does not support upsert statements
+     * @since 1.6.15
+     */
+    public X upsert();
     
 }
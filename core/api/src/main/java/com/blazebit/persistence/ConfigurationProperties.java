@@ -200,6 +200,16 @@ public final class ConfigurationProperties {
      */
     public static final String CRITERIA_VALUE_AS_PARAMETER = "com.blazebit.persistence.criteria_value_as_parameter";
 
+    /**
+     * If set to true, the analysis of the attributes of managed types is deferred to the first access of the extended metamodel.
+     * Only the entity and enum types needed during bootstrap are discovered eagerly.
+     * Valid values for this property are <code>true</code> and <code>false</code>.
+     * Default is <code>false</code>.
+     *
+     * @since 1.6.15
+     */
+    public static final String LAZY_METAMODEL_ANALYSIS = "com.blazebit.persistence.lazy_metamodel_analysis";
+
     private ConfigurationProperties() {
     }
 }
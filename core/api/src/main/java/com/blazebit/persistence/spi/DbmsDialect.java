@@ -186,6 +186,32 @@ public interface DbmsDialect {
      */
     public boolean supportsReturningColumns();
 
+    /**
+     * Returns true if the dbms supports turning an insert statement into an upsert statement via {@link #applyUpsert(StringBuilder, String[])}, false otherwise.
+     *
+     * @return Whether upsert statements are supported by the dbms
+     * @since 1.6.15
+     */
+    public boolean supportsUpsert();
+
+    /**
+     * Turns the insert statement contained in the given string builder into an upsert statement.
+     * When a row with the same values for the given conflict columns exists already, the upsert statement updates the remaining inserted columns of that row instead.
+     *
+     * @param sqlSb The string builder containing the insert statement
+     * @param conflictColumns The columns that identify an existing row
+     * @since 1.6.15
+     */
+    public void applyUpsert(StringBuilder sqlSb, String[] conflictColumns);
+
+    /**
+     * Returns true if the dbms supports the with clause in statements produced by {@link #applyUpsert(StringBuilder, String[])}, false otherwise.
+     *
+     * @return Whether the with clause is supported in upsert statements by the dbms
+     * @since 1.6.15
+     */
+    public boolean supportsWithClauseInUpsert();
+
     /**
      * Returns true if the dbms supports matching non-trivial expressions that appear in the group by clause with usages in the having clause.
      *
@@ -87,6 +87,16 @@ public final class JpqlFunctionGroup {
         this.rdbmsFunctions = new HashMap<>(rdbmsFunctions);
     }
 
+    /**
+     * Constructs a copy of the given function group that shares the functions, but can be modified independently.
+     *
+     * @param original The function group to copy
+     * @since 1.6.15
+     */
+    public JpqlFunctionGroup(JpqlFunctionGroup original) {
+        this(original.name, original.kind, original.rdbmsFunctions);
+    }
+
     /**
      * The name of the function.
      *
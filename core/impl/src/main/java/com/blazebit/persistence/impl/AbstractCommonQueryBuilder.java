@@ -3838,9 +3838,13 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
     }
 
     protected String buildBaseQueryString(boolean externalRepresentation) {
-        StringBuilder sbSelectFrom = new StringBuilder();
-        buildBaseQueryString(sbSelectFrom, externalRepresentation, null, false);
-        return sbSelectFrom.toString();
+        StringBuilder sbSelectFrom = mainQuery.acquireQueryBuffer();
+        try {
+            buildBaseQueryString(sbSelectFrom, externalRepresentation, null, false);
+            return sbSelectFrom.toString();
+        } finally {
+            mainQuery.releaseQueryBuffer(sbSelectFrom);
+        }
     }
 
     protected void buildBaseQueryString(StringBuilder sbSelectFrom, boolean externalRepresentation, JoinNode lateralJoinNode, boolean countWrapped) {
@@ -3872,9 +3876,13 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
     }
 
     protected String buildExternalQueryString() {
-        StringBuilder sbSelectFrom = new StringBuilder();
-        buildExternalQueryString(sbSelectFrom);
-        return sbSelectFrom.toString();
+        StringBuilder sbSelectFrom = mainQuery.acquireQueryBuffer();
+        try {
+            buildExternalQueryString(sbSelectFrom);
+            return sbSelectFrom.toString();
+        } finally {
+            mainQuery.releaseQueryBuffer(sbSelectFrom);
+        }
     }
 
     protected void buildExternalQueryString(StringBuilder sbSelectFrom) {
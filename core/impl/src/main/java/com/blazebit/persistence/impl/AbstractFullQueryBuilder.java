@@ -264,25 +264,29 @@ public abstract class AbstractFullQueryBuilder<T, X extends FullQueryBuilder<T,
     }
 
     protected String buildPageCountQueryString(boolean externalRepresentation, boolean countAll, long maximumCount) {
-        StringBuilder sbSelectFrom = new StringBuilder();
-        if (externalRepresentation && isMainQuery) {
-            mainQuery.cteManager.buildClause(sbSelectFrom);
-        }
-        if (useCountWrapper(countAll)) {
-            if (externalRepresentation) {
-                sbSelectFrom.append("SELECT COUNT(*) FROM (");
-                buildBaseQueryString(sbSelectFrom, externalRepresentation, null, true);
-                if (maximumCount != Long.MAX_VALUE) {
-                    sbSelectFrom.append(" LIMIT ").append(maximumCount);
+        StringBuilder sbSelectFrom = mainQuery.acquireQueryBuffer();
+        try {
+            if (externalRepresentation && isMainQuery) {
+                mainQuery.cteManager.buildClause(sbSelectFrom);
+            }
+            if (useCountWrapper(countAll)) {
+                if (externalRepresentation) {
+                    sbSelectFrom.append("SELECT COUNT(*) FROM (");
+                    buildBaseQueryString(sbSelectFrom, externalRepresentation, null, true);
+                    if (maximumCount != Long.MAX_VALUE) {
+                        sbSelectFrom.append(" LIMIT ").append(maximumCount);
+                    }
+                    sbSelectFrom.append(')');
+                } else {
+                    buildBaseQueryString(sbSelectFrom, externalRepresentation, null, true);
                 }
-                sbSelectFrom.append(')');
             } else {
-                buildBaseQueryString(sbSelectFrom, externalRepresentation, null, true);
+                buildPageCountQueryString(sbSelectFrom, externalRepresentation, countAll && !hasGroupBy && !selectManager.isDistinct(), maximumCount);
             }
-        } else {
-            buildPageCountQueryString(sbSelectFrom, externalRepresentation, countAll && !hasGroupBy && !selectManager.isDistinct(), maximumCount);
+            return sbSelectFrom.toString();
+        } finally {
+            mainQuery.releaseQueryBuffer(sbSelectFrom);
         }
-        return sbSelectFrom.toString();
     }
 
     protected final boolean useCountWrapper(boolean countAll) {
@@ -33,6 +33,7 @@ import javax.persistence.metamodel.ListAttribute;
 import javax.persistence.metamodel.MapAttribute;
 import javax.persistence.metamodel.SingularAttribute;
 import javax.persistence.metamodel.Type;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -143,6 +144,18 @@ public abstract class AbstractInsertCollectionCriteriaBuilder<T, X extends BaseI
         JpaUtils.expandBindings(bindingMap, collectionColumnBindingMap, collectionAttributeEntries, ClauseType.SELECT, this, keyFunctionExpression, true);
     }
 
+    @Override
+    protected String[] getConflictColumns() {
+        JoinTable joinTable = mainQuery.jpaProvider.getJoinTable(entityType, collectionName);
+        List<String> columns = new ArrayList<>(joinTable.getIdColumnMappings().keySet());
+        if (joinTable.getKeyColumnMappings() == null) {
+            columns.addAll(joinTable.getTargetColumnMappings().keySet());
+        } else {
+            columns.addAll(joinTable.getKeyColumnMappings().keySet());
+        }
+        return columns.toArray(new String[columns.size()]);
+    }
+
     @Override
     protected Query getQuery(Map<DbmsModificationState, String> includedModificationStates) {
         Query baseQuery = em.createQuery(getBaseQueryStringWithCheck(null, null));
@@ -262,7 +275,8 @@ public abstract class AbstractInsertCollectionCriteriaBuilder<T, X extends BaseI
                 insertSqlSb.toString(),
                 cutoffColumns,
                 getForeignKeyParticipatingQueries(),
-                mainQuery.getQueryConfiguration().isQueryPlanCacheEnabled()
+                mainQuery.getQueryConfiguration().isQueryPlanCacheEnabled(),
+                getUpsertConflictColumns()
         );
     }
 
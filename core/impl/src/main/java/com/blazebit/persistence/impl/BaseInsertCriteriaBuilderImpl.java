@@ -13,6 +13,7 @@ import java.util.Set;
 import java.util.TreeMap;
 
 import javax.persistence.Query;
+import javax.persistence.metamodel.SingularAttribute;
 
 import com.blazebit.persistence.BaseInsertCriteriaBuilder;
 import com.blazebit.persistence.ReturningBuilder;
@@ -22,6 +23,7 @@ import com.blazebit.persistence.impl.query.CustomSQLQuery;
 import com.blazebit.persistence.impl.query.EntityFunctionNode;
 import com.blazebit.persistence.impl.query.ModificationQuerySpecification;
 import com.blazebit.persistence.impl.query.QuerySpecification;
+import com.blazebit.persistence.parser.util.JpaMetamodelUtils;
 import com.blazebit.persistence.parser.expression.ExpressionCopyContext;
 import com.blazebit.persistence.spi.DbmsModificationState;
 import com.blazebit.persistence.spi.DbmsStatementType;
@@ -35,6 +37,7 @@ import com.blazebit.persistence.spi.DbmsStatementType;
 public abstract class BaseInsertCriteriaBuilderImpl<T, X extends BaseInsertCriteriaBuilder<T, X>, Y> extends AbstractModificationCriteriaBuilder<T, X, Y> implements BaseInsertCriteriaBuilder<T, X>, SelectBuilder<X> {
 
     protected final Map<String, Integer> bindingMap = new TreeMap<>();
+    protected boolean upsert;
 
     public BaseInsertCriteriaBuilderImpl(MainQuery mainQuery, QueryContext queryContext, boolean isMainQuery, Class<T> clazz, CTEManager.CTEKey cteKey, Class<?> cteClass, Y result, CTEBuilderListener listener) {
         super(mainQuery, queryContext, isMainQuery, DbmsStatementType.INSERT, clazz, null, cteKey, cteClass, result, listener);
@@ -47,6 +50,7 @@ public abstract class BaseInsertCriteriaBuilderImpl<T, X extends BaseInsertCrite
     public BaseInsertCriteriaBuilderImpl(BaseInsertCriteriaBuilderImpl<T, X, Y> builder, MainQuery mainQuery, QueryContext queryContext, Map<JoinManager, JoinManager> joinManagerMapping, ExpressionCopyContext copyContext) {
         super(builder, mainQuery, queryContext, joinManagerMapping, copyContext);
         bindingMap.putAll(builder.bindingMap);
+        this.upsert = builder.upsert;
     }
 
     @Override
@@ -69,6 +73,40 @@ public abstract class BaseInsertCriteriaBuilderImpl<T, X extends BaseInsertCrite
         return this;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public X upsert() {
+        if (!mainQuery.dbmsDialect.supportsUpsert()) {
+            throw new IllegalStateException("The dbms dialect does not support upsert statements!");
+        }
+        if (!isMainQuery) {
+            throw new IllegalStateException("Upsert statements are not supported in CTEs!");
+        }
+        this.upsert = true;
+        return (X) this;
+    }
+
+    protected String[] getUpsertConflictColumns() {
+        if (!upsert) {
+            return null;
+        }
+        if (hasLimit() || returningAttributeBindingMap.size() > 0) {
+            throw new IllegalStateException("Upsert statements can't be combined with a limit or returning clause!");
+        }
+        if (mainQuery.cteManager.hasCtes() && !mainQuery.dbmsDialect.supportsWithClauseInUpsert()) {
+            throw new IllegalStateException("The dbms dialect does not support upsert statements with CTEs!");
+        }
+        return getConflictColumns();
+    }
+
+    protected String[] getConflictColumns() {
+        List<String> columns = new ArrayList<>();
+        for (SingularAttribute<?, ?> idAttribute : JpaMetamodelUtils.getIdAttributes(entityType)) {
+            Collections.addAll(columns, mainQuery.jpaProvider.getColumnNames(entityType, idAttribute.getName()));
+        }
+        return columns.toArray(new String[columns.size()]);
+    }
+
     protected void addBind(String attributeName) {
         // NOTE: We are not resolving embedded properties, because hibernate does not support them
         // Just do that to assert the attribute exists
@@ -192,7 +230,8 @@ public abstract class BaseInsertCriteriaBuilderImpl<T, X extends BaseInsertCrite
                 null,
                 includedModificationStates,
                 returningAttributeBindingMap,
-                mainQuery.getQueryConfiguration().isQueryPlanCacheEnabled()
+                mainQuery.getQueryConfiguration().isQueryPlanCacheEnabled(),
+                getUpsertConflictColumns()
         );
 
         CustomSQLQuery query = new CustomSQLQuery(
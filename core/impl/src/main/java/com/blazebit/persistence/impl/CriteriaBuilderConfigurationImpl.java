@@ -572,9 +572,25 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
         loadDefaultProperties();
         loadExtendedQuerySupport();
         loadEntityManagerIntegrator();
+        loadDefaultRegistry();
+        loadExtensions();
+    }
+
+    private CriteriaBuilderConfigurationImpl() {
+        // Only used for building the default registry
         loadDbmsDialects();
         loadFunctions();
-        loadExtensions();
+    }
+
+    private void loadDefaultRegistry() {
+        // The dialects and functions are stateless, so the instances of the default registry are shared
+        CriteriaBuilderConfigurationImpl defaultRegistry = DefaultRegistryHolder.INSTANCE;
+        dbmsDialects.putAll(defaultRegistry.dbmsDialects);
+        treatTypes.putAll(defaultRegistry.treatTypes);
+        for (Map.Entry<String, JpqlFunctionGroup> entry : defaultRegistry.functions.entrySet()) {
+            // The groups on the other hand are mutable and need to be copied
+            functions.put(entry.getKey(), new JpqlFunctionGroup(entry.getValue()));
+        }
     }
 
     // NOTE: When adding a function here, you might want to also add it in AbstractCoreTest so it is recognized
@@ -2185,6 +2201,7 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
         properties.put(ConfigurationProperties.INLINE_ID_QUERY, "auto");
         properties.put(ConfigurationProperties.INLINE_COUNT_QUERY, "auto");
         properties.put(ConfigurationProperties.INLINE_CTES, "true");
+        properties.put(ConfigurationProperties.LAZY_METAMODEL_ANALYSIS, "false");
     }
 
     private void loadExtendedQuerySupport() {
@@ -2347,4 +2364,17 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
         return this;
     }
 
+    /**
+     * Lazily builds the default dialects and functions once, as that involves instantiating thousands of objects.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static final class DefaultRegistryHolder {
+
+        private static final CriteriaBuilderConfigurationImpl INSTANCE = new CriteriaBuilderConfigurationImpl();
+
+        private DefaultRegistryHolder() {
+        }
+    }
 }
@@ -5,6 +5,7 @@
 
 package com.blazebit.persistence.impl;
 
+import com.blazebit.persistence.ConfigurationProperties;
 import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.CriteriaBuilderFactory;
 import com.blazebit.persistence.DeleteCriteriaBuilder;
@@ -96,7 +97,7 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
         final boolean optimize = queryConfiguration.isExpressionOptimizationEnabled();
 
         this.entityManagerFactory = entityManagerFactory;
-        this.metamodel = new EntityMetamodelImpl(entityManagerFactory, configuredJpaProviderFactory);
+        this.metamodel = new EntityMetamodelImpl(entityManagerFactory, configuredJpaProviderFactory, Boolean.parseBoolean(config.getProperty(ConfigurationProperties.LAZY_METAMODEL_ANALYSIS)));
         this.jpaProvider = new CachingJpaProvider(metamodel);
 
         this.transientEntityParameterTransformerFactory = new TransientEntityAssociationParameterTransformerFactory(metamodel, new AssociationToIdParameterTransformer(jpaProvider));
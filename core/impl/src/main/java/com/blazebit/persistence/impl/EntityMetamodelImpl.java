@@ -68,11 +68,24 @@ public class EntityMetamodelImpl implements EntityMetamodel {
     private final Map<Class<?>, Type<?>> classMap;
     private final ConcurrentMap<Class<?>, Type<?>> basicTypeMap = new ConcurrentHashMap<>();
     private final Map<Class<?>, ManagedType<?>> cteMap;
-    private final Map<Object, ExtendedManagedTypeImpl<?>> extendedManagedTypes;
-    private final Map<Class<?>, AttributeExample> exampleAttributes;
+    private volatile ExtendedMetamodel extendedMetamodel;
 
-    @SuppressWarnings({ "unchecked", "rawtypes" })
     public EntityMetamodelImpl(EntityManagerFactory emf, JpaProviderFactory jpaProviderFactory) {
+        this(emf, jpaProviderFactory, false);
+    }
+
+    /**
+     * Creates the metamodel and analyzes the managed types. When <code>lazyAnalysis</code> is <code>true</code>,
+     * only the entity names, subtypes and enum types, which are needed during bootstrap, are collected eagerly.
+     * The extended managed types along with their attribute entries are then analyzed on first access.
+     *
+     * @param emf The entity manager factory
+     * @param jpaProviderFactory The JPA provider factory
+     * @param lazyAnalysis Whether to defer the analysis of extended managed types to the first access
+     * @since 1.6.15
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public EntityMetamodelImpl(EntityManagerFactory emf, JpaProviderFactory jpaProviderFactory, boolean lazyAnalysis) {
         this.delegate = emf.getMetamodel();
         Set<ManagedType<?>> managedTypes = delegate.getManagedTypes();
         Set<EntityType<?>> originalEntityTypes = delegate.getEntities();
@@ -90,10 +103,7 @@ public class EntityMetamodelImpl implements EntityMetamodel {
             em.close();
         }
 
-        Set<Class<?>> seenTypesForEnumResolving = new HashSet<>();
-        Map<String, TemporaryExtendedManagedType> temporaryExtendedManagedTypes = new HashMap<>();
         Map<EntityType<?>, Set<EntityType<?>>> entitySubtypes = new HashMap<>();
-        Map<AttributeAccessorCacheKey, AttributeAccessor<?, ?>> accessorCache = new HashMap<>();
 
         for (EntityType<?> e : originalEntityTypes) {
             // Only discover entity types
@@ -105,21 +115,16 @@ public class EntityMetamodelImpl implements EntityMetamodel {
             if (e.getJavaType() != null) {
                 classToType.put(e.getJavaType(), e);
                 entityTypes.put(e.getJavaType().getName(), e.getJavaType());
-                seenTypesForEnumResolving.add(e.getJavaType());
 
                 if (AnnotationUtils.findAnnotation(e.getJavaType(), CTE.class) != null) {
                     cteToType.put(e.getJavaType(), e);
                 }
             }
-
-            TemporaryExtendedManagedType extendedManagedType = getTemporaryType(e, temporaryExtendedManagedTypes);
-            collectColumnNames(e, extendedManagedType.attributes, null, null, null, e, temporaryExtendedManagedTypes, seenTypesForEnumResolving, enumTypes, enumTypesForLiterals, accessorCache);
         }
 
         for (ManagedType<?> t : managedTypes) {
             // we already checked all entity types, so skip these
             if (!(t instanceof EntityType<?>)) {
-                collectColumnNames(null, null, null, null, null, t, temporaryExtendedManagedTypes, seenTypesForEnumResolving, enumTypes, enumTypesForLiterals, accessorCache);
                 if (t.getJavaType() != null) {
                     classToType.put(t.getJavaType(), t);
                 }
@@ -142,8 +147,61 @@ public class EntityMetamodelImpl implements EntityMetamodel {
             entry.setValue(Collections.unmodifiableSet(entry.getValue()));
         }
 
+        if (lazyAnalysis) {
+            discoverEnumTypes(enumTypes, enumTypesForLiterals);
+        } else {
+            this.extendedMetamodel = analyzeManagedTypes(classToType, enumTypes, enumTypesForLiterals);
+        }
+
+        this.entityNameMap = Collections.unmodifiableMap(nameToType);
+        this.entityTypes = Collections.unmodifiableMap(entityTypes);
+        this.entitySubtypes = Collections.unmodifiableMap(entitySubtypes);
+        this.enumTypes = Collections.unmodifiableMap(enumTypes);
+        this.enumTypesForLiterals = Collections.unmodifiableMap(enumTypesForLiterals);
+        this.classMap = Collections.unmodifiableMap(classToType);
+        this.cteMap = Collections.unmodifiableMap(cteToType);
+    }
+
+    private ExtendedMetamodel getExtendedMetamodel() {
+        ExtendedMetamodel extendedMetamodel = this.extendedMetamodel;
+        if (extendedMetamodel == null) {
+            synchronized (this) {
+                extendedMetamodel = this.extendedMetamodel;
+                if (extendedMetamodel == null) {
+                    // The enum types were already discovered eagerly, so the analysis doesn't have to discover them again
+                    extendedMetamodel = analyzeManagedTypes(classMap, null, null);
+                    this.extendedMetamodel = extendedMetamodel;
+                }
+            }
+        }
+        return extendedMetamodel;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private ExtendedMetamodel analyzeManagedTypes(Map<Class<?>, Type<?>> classToType, Map<String, Class<Enum<?>>> enumTypes, Map<String, Class<Enum<?>>> enumTypesForLiterals) {
+        Set<EntityType<?>> entities = delegate.getEntities();
+        Set<Class<?>> seenTypesForEnumResolving = new HashSet<>();
+        Map<String, TemporaryExtendedManagedType> temporaryExtendedManagedTypes = new HashMap<>();
+        Map<AttributeAccessorCacheKey, AttributeAccessor<?, ?>> accessorCache = new HashMap<>();
+
+        for (EntityType<?> e : entities) {
+            if (e.getJavaType() != null) {
+                seenTypesForEnumResolving.add(e.getJavaType());
+            }
+
+            TemporaryExtendedManagedType extendedManagedType = getTemporaryType(e, temporaryExtendedManagedTypes);
+            collectColumnNames(e, extendedManagedType.attributes, null, null, null, e, temporaryExtendedManagedTypes, seenTypesForEnumResolving, enumTypes, enumTypesForLiterals, accessorCache);
+        }
+
+        for (ManagedType<?> t : delegate.getManagedTypes()) {
+            // we already checked all entity types, so skip these
+            if (!(t instanceof EntityType<?>)) {
+                collectColumnNames(null, null, null, null, null, t, temporaryExtendedManagedTypes, seenTypesForEnumResolving, enumTypes, enumTypesForLiterals, accessorCache);
+            }
+        }
+
         Set<Class<?>> cascadingDeleteCycleSet = new HashSet<>();
-        for (EntityType<?> e : originalEntityTypes) {
+        for (EntityType<?> e : entities) {
             Class<?> targetClass = e.getJavaType();
             TemporaryExtendedManagedType targetManagedType = temporaryExtendedManagedTypes.get(JpaMetamodelUtils.getTypeName(e));
             cascadingDeleteCycleSet.add(targetClass);
@@ -169,25 +227,60 @@ public class EntityMetamodelImpl implements EntityMetamodel {
             }
         }
 
-        this.entityNameMap = Collections.unmodifiableMap(nameToType);
-        this.entityTypes = Collections.unmodifiableMap(entityTypes);
-        this.entitySubtypes = Collections.unmodifiableMap(entitySubtypes);
-        this.enumTypes = Collections.unmodifiableMap(enumTypes);
-        this.enumTypesForLiterals = Collections.unmodifiableMap(enumTypesForLiterals);
-        this.classMap = Collections.unmodifiableMap(classToType);
-        this.cteMap = Collections.unmodifiableMap(cteToType);
-        this.extendedManagedTypes = Collections.unmodifiableMap(extendedManagedTypes);
         Map<Class<?>, AttributeExample> exampleAttributes = new HashMap<>();
         for (ExtendedManagedTypeImpl<?> extendedManagedType : extendedManagedTypes.values()) {
             for (AttributeEntry<?, ?> attributeEntry : extendedManagedType.ownedSingularAttributes.values()) {
                 if (attributeEntry.ownerType instanceof EntityType<?> &&
                         !exampleAttributes.containsKey(attributeEntry.getElementClass()) &&
-                        classMap.get(attributeEntry.getElementClass()) == null) {
+                        classToType.get(attributeEntry.getElementClass()) == null) {
                     exampleAttributes.put(attributeEntry.getElementClass(), new AttributeExample(attributeEntry, "SELECT e." + attributeEntry.attributePathString + " FROM " + JpaMetamodelUtils.getTypeName(attributeEntry.ownerType) + " e WHERE e." + attributeEntry.attributePathString + "="));
                 }
             }
         }
-        this.exampleAttributes = Collections.unmodifiableMap(exampleAttributes);
+        return new ExtendedMetamodel(Collections.unmodifiableMap(extendedManagedTypes), Collections.unmodifiableMap(exampleAttributes));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void discoverEnumTypes(Map<String, Class<Enum<?>>> enumTypes, Map<String, Class<Enum<?>>> enumTypesForLiterals) {
+        // Visits the attributes in the same way as collectColumnNames does, but without building attribute entries
+        Set<Class<?>> seenTypesForEnumResolving = new HashSet<>();
+        for (EntityType<?> e : delegate.getEntities()) {
+            if (e.getJavaType() != null) {
+                seenTypesForEnumResolving.add(e.getJavaType());
+            }
+            discoverEnumTypes(seenTypesForEnumResolving, enumTypes, enumTypesForLiterals, e, null, true);
+        }
+
+        for (ManagedType<?> t : delegate.getManagedTypes()) {
+            if (!(t instanceof EntityType<?>)) {
+                discoverEnumTypes(seenTypesForEnumResolving, enumTypes, enumTypesForLiterals, t, null, false);
+            }
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void discoverEnumTypes(Set<Class<?>> seenTypesForEnumResolving, Map<String, Class<Enum<?>>> enumTypes, Map<String, Class<Enum<?>>> enumTypesForLiterals, ManagedType<?> type, String parent, boolean walkEmbeddables) {
+        for (Attribute<?, ?> attribute : (Set<Attribute<?, ?>>) (Set) type.getAttributes()) {
+            if (walkEmbeddables) {
+                String attributeName = parent == null ? attribute.getName() : parent + "." + attribute.getName();
+                Class<?> fieldType = JpaMetamodelUtils.resolveFieldClass(type.getJavaType(), attribute);
+                EmbeddableType<?> embeddableType = null;
+                if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.EMBEDDED) {
+                    // Hibernate Envers reports java.util.Map as type for the embedded id of an audited entity which we have to handle specially
+                    if (fieldType == Map.class) {
+                        embeddableType = (EmbeddableType<?>) ((SingularAttribute<?, ?>) attribute).getType();
+                    } else {
+                        embeddableType = delegate.embeddable(fieldType);
+                    }
+                } else if (attribute instanceof PluralAttribute<?, ?, ?> && ((PluralAttribute<?, ?, ?>) attribute).getElementType() instanceof EmbeddableType<?>) {
+                    embeddableType = (EmbeddableType<?>) ((PluralAttribute<?, ?, ?>) attribute).getElementType();
+                }
+                if (embeddableType != null) {
+                    discoverEnumTypes(seenTypesForEnumResolving, enumTypes, enumTypesForLiterals, embeddableType, attributeName, true);
+                }
+            }
+            discoverEnumTypes(seenTypesForEnumResolving, enumTypes, enumTypesForLiterals, type, parent, attribute);
+        }
     }
 
     private TemporaryExtendedManagedType getTemporaryType(ManagedType<?> type, Map<String, TemporaryExtendedManagedType> temporaryExtendedManagedTypes) {
@@ -395,7 +488,10 @@ public class EntityMetamodelImpl implements EntityMetamodel {
                 }
             }
 
-            discoverEnumTypes(seenTypesForEnumResolving, enumTypes, enumTypesForLiterals, type, parent, attribute);
+            // The enum type maps are null if the enum types were already discovered eagerly
+            if (enumTypes != null) {
+                discoverEnumTypes(seenTypesForEnumResolving, enumTypes, enumTypesForLiterals, type, parent, attribute);
+            }
             AttributeEntry attributeEntry = null;
             if (e == null) {
                 // Never overwrite an existing attribute with one that has no owner
@@ -572,7 +668,7 @@ public class EntityMetamodelImpl implements EntityMetamodel {
     }
 
     public Map<Class<?>, AttributeExample> getBasicTypeExampleAttributes() {
-        return exampleAttributes;
+        return getExtendedMetamodel().exampleAttributes;
     }
 
     @Override
@@ -675,7 +771,7 @@ public class EntityMetamodelImpl implements EntityMetamodel {
     }
 
     private ExtendedManagedType<?> getEntry(Class<?> ownerType) {
-        ExtendedManagedType<?> extendedManagedType = extendedManagedTypes.get(ownerType);
+        ExtendedManagedType<?> extendedManagedType = getExtendedMetamodel().extendedManagedTypes.get(ownerType);
         if (extendedManagedType == null) {
             throw new IllegalArgumentException("Unknown managed type '" + ownerType.getName() + "'");
         }
@@ -683,13 +779,27 @@ public class EntityMetamodelImpl implements EntityMetamodel {
     }
 
     private ExtendedManagedType<?> getEntry(String managedTypeName) {
-        ExtendedManagedType<?> extendedManagedType = extendedManagedTypes.get(managedTypeName);
+        ExtendedManagedType<?> extendedManagedType = getExtendedMetamodel().extendedManagedTypes.get(managedTypeName);
         if (extendedManagedType == null) {
             throw new IllegalArgumentException("Unknown managed type '" + managedTypeName + "'");
         }
         return extendedManagedType;
     }
 
+    /**
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static final class ExtendedMetamodel {
+        private final Map<Object, ExtendedManagedTypeImpl<?>> extendedManagedTypes;
+        private final Map<Class<?>, AttributeExample> exampleAttributes;
+
+        private ExtendedMetamodel(Map<Object, ExtendedManagedTypeImpl<?>> extendedManagedTypes, Map<Class<?>, AttributeExample> exampleAttributes) {
+            this.extendedManagedTypes = extendedManagedTypes;
+            this.exampleAttributes = exampleAttributes;
+        }
+    }
+
     /**
      * @author Christian Beikov
      * @since 1.2.0
@@ -3601,6 +3601,14 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
         return new JoinResult(newBaseNode, field == null ? null : Arrays.asList(field), type, -1, -1, lazy);
     }
 
+    private static String getJoinRelationName(List<String> joinRelationAttributes) {
+        // Implicit joins mostly join a single attribute, so avoid building a new string for that
+        if (joinRelationAttributes.size() == 1) {
+            return joinRelationAttributes.get(0);
+        }
+        return StringUtils.join(".", joinRelationAttributes);
+    }
+
     private JoinType getModelAwareType(JoinNode baseNode, Attribute<?, ?> attr) {
         if (baseNode.getJoinType() == JoinType.LEFT || baseNode.getJoinType() == JoinType.FULL) {
             return JoinType.LEFT;
@@ -3616,7 +3624,7 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
 
     private JoinResult createOrUpdateNode(JoinNode baseNode, List<String> joinRelationAttributes, String treatType, String alias, JoinType joinType, JoinNode currentJoinNode, boolean implicit, boolean defaultJoin, boolean joinAllowed, boolean singularJoinAllowed) {
         Type<?> baseNodeType = baseNode.getNodeType();
-        String joinRelationName = StringUtils.join(".", joinRelationAttributes);
+        String joinRelationName = getJoinRelationName(joinRelationAttributes);
         JpaMetamodelAccessor jpaMetamodelAccessor = mainQuery.jpaProvider.getJpaMetamodelAccessor();
         AttributeHolder attrJoinResult = JpaUtils.getAttributeForJoining(metamodel, baseNodeType, expressionFactory.createJoinPathExpression(joinRelationName), null);
         Attribute<?, ?> attr = attrJoinResult.getAttribute();
@@ -3674,32 +3682,26 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
         JoinTreeNode treeNode = baseNode.getOrCreateTreeNode(joinRelationName, attribute);
         JoinNode node = treeNode.getJoinNode(alias, defaultJoin);
         String qualificationExpression = null;
-        String qualifiedJoinPath;
 
         if (attribute instanceof QualifiedAttribute) {
             QualifiedAttribute qualifiedAttribute = (QualifiedAttribute) attribute;
             qualificationExpression = qualifiedAttribute.getQualificationExpression();
-            qualifiedJoinPath = joinRelationName.substring(0, qualificationExpression.length() + 1) +
-                    baseNode.getAliasInfo().getAbsolutePath()  + "." + joinRelationName.substring(qualificationExpression.length() + 1);
-        } else {
-            qualifiedJoinPath = baseNode.getAliasInfo().getAbsolutePath() + "." + joinRelationName;
         }
 
         EntityType<?> treatJoinType;
-        String currentJoinPath;
 
         // We can't treat the default join directly, the caller is responsible for invoking getTreatedJoinNode
         if (!defaultJoin && treatType != null) {
             // Verify it's a valid type
             treatJoinType = metamodel.getEntity(treatType);
-            currentJoinPath = "TREAT(" + qualifiedJoinPath + " AS " + treatJoinType.getName() + ")";
         } else {
             treatJoinType = null;
-            currentJoinPath = qualifiedJoinPath;
         }
 
         if (node == null) {
             // a join node for the join relation does not yet exist
+            // The join path is only built when needed, as implicit joins mostly hit an existing node
+            String currentJoinPath = getCurrentJoinPath(baseNode, joinRelationName, qualificationExpression, treatJoinType);
             AliasManager aliasManager = baseNode.getAliasInfo().getAliasOwner();
             checkAliasIsAvailable(aliasManager, alias, currentJoinPath, errorMessage);
 
@@ -3736,7 +3738,7 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
                     explicitJoinNodes.add(node);
                 } else if (!nodeAliasInfo.isImplicit() && !implicit) {
                     throw new IllegalArgumentException("Alias conflict [" + nodeAliasInfo.getAlias() + "=" + nodeAliasInfo.getAbsolutePath() + ", "
-                            + alias + "=" + currentJoinPath + "]");
+                            + alias + "=" + getCurrentJoinPath(baseNode, joinRelationName, qualificationExpression, treatJoinType) + "]");
                 }
             }
 
@@ -3752,6 +3754,21 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
         return node;
     }
 
+    private static String getCurrentJoinPath(JoinNode baseNode, String joinRelationName, String qualificationExpression, EntityType<?> treatJoinType) {
+        String qualifiedJoinPath;
+        if (qualificationExpression == null) {
+            qualifiedJoinPath = baseNode.getAliasInfo().getAbsolutePath() + "." + joinRelationName;
+        } else {
+            qualifiedJoinPath = joinRelationName.substring(0, qualificationExpression.length() + 1) +
+                    baseNode.getAliasInfo().getAbsolutePath()  + "." + joinRelationName.substring(qualificationExpression.length() + 1);
+        }
+
+        if (treatJoinType == null) {
+            return qualifiedJoinPath;
+        }
+        return "TREAT(" + qualifiedJoinPath + " AS " + treatJoinType.getName() + ")";
+    }
+
     private JoinNode findNode(JoinNode baseNode, String joinRelationName, final ArrayExpression arrayExpression) {
         if (arrayExpression.getBase() instanceof PropertyExpression) {
             if (baseNode == null) {
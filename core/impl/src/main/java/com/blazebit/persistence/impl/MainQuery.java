@@ -21,6 +21,9 @@ import java.util.Map;
  */
 public class MainQuery {
 
+    // Buffers that grew bigger than this are not kept to avoid retaining too much memory
+    private static final int MAX_QUERY_BUFFER_CAPACITY = 16 * 1024;
+
     final CriteriaBuilderFactoryImpl cbf;
     final ExpressionFactory expressionFactory;
     final ExpressionFactory subqueryExpressionFactory;
@@ -36,6 +39,7 @@ public class MainQuery {
 
     private final JpqlMacroStorage macroStorage;
     private QueryConfiguration queryConfiguration;
+    private StringBuilder queryBuffer;
 
     private MainQuery(CriteriaBuilderFactoryImpl cbf, EntityManager em, JpaProvider jpaProvider, DbmsDialect dbmsDialect, Map<String, JpqlFunction> registeredFunctions, Map<String, String> registeredFunctionNames, ParameterManager parameterManager) {
         super();
@@ -71,6 +75,37 @@ public class MainQuery {
         return new MainQuery(cbf, em, jpaProvider, dbmsDialect, registeredFunctions, registeredFunctionNames, parameterManager);
     }
 
+    /**
+     * Returns a buffer for rendering a query string. The buffer is reused for the query strings of all builders of this main query,
+     * so that rendering e.g. the count, id and object query of a paginated query doesn't have to grow a new buffer every time.
+     *
+     * @return An empty buffer
+     * @since 1.6.15
+     */
+    StringBuilder acquireQueryBuffer() {
+        StringBuilder sb = queryBuffer;
+        if (sb == null) {
+            return new StringBuilder();
+        }
+        // Acquisitions during the rendering with this buffer get a new buffer
+        queryBuffer = null;
+        return sb;
+    }
+
+    /**
+     * Makes the given buffer available for reuse. Callers must invoke this in a finally block after reading the rendered query string,
+     * so that a failed rendering doesn't leave the buffer checked out.
+     *
+     * @param sb The buffer acquired through {@link #acquireQueryBuffer()}
+     * @since 1.6.15
+     */
+    void releaseQueryBuffer(StringBuilder sb) {
+        if (sb.capacity() <= MAX_QUERY_BUFFER_CAPACITY) {
+            sb.setLength(0);
+            queryBuffer = sb;
+        }
+    }
+
     public final void registerMacro(String macroName, JpqlMacro jpqlMacro) {
         macroStorage.registerMacro(macroName, jpqlMacro);
     }
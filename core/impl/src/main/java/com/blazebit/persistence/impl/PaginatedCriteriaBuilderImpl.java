@@ -1144,12 +1144,16 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
     }
 
     private String buildPageIdQueryString(boolean externalRepresentation) {
-        StringBuilder sbSelectFrom = new StringBuilder();
-        if (externalRepresentation && isMainQuery) {
-            mainQuery.cteManager.buildClause(sbSelectFrom);
+        StringBuilder sbSelectFrom = mainQuery.acquireQueryBuffer();
+        try {
+            if (externalRepresentation && isMainQuery) {
+                mainQuery.cteManager.buildClause(sbSelectFrom);
+            }
+            buildPageIdQueryString(sbSelectFrom, false, externalRepresentation);
+            return sbSelectFrom.toString();
+        } finally {
+            mainQuery.releaseQueryBuffer(sbSelectFrom);
         }
-        buildPageIdQueryString(sbSelectFrom, false, externalRepresentation);
-        return sbSelectFrom.toString();
     }
 
     private String buildPageIdQueryString(StringBuilder sbSelectFrom, boolean aliasFunction, boolean externalRepresentation) {
@@ -1256,12 +1260,16 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
 
     @Override
     protected String buildBaseQueryString(boolean externalRepresentation) {
-        StringBuilder sbSelectFrom = new StringBuilder();
-        if (externalRepresentation && isMainQuery) {
-            mainQuery.cteManager.buildClause(sbSelectFrom);
+        StringBuilder sbSelectFrom = mainQuery.acquireQueryBuffer();
+        try {
+            if (externalRepresentation && isMainQuery) {
+                mainQuery.cteManager.buildClause(sbSelectFrom);
+            }
+            buildBaseQueryString(sbSelectFrom, externalRepresentation, null, false);
+            return sbSelectFrom.toString();
+        } finally {
+            mainQuery.releaseQueryBuffer(sbSelectFrom);
         }
-        buildBaseQueryString(sbSelectFrom, externalRepresentation, null, false);
-        return sbSelectFrom.toString();
     }
 
     @Override
@@ -1321,12 +1329,16 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
     }
 
     private String buildObjectQueryString(boolean externalRepresentation) {
-        StringBuilder sbSelectFrom = new StringBuilder();
-        if (externalRepresentation && isMainQuery) {
-            mainQuery.cteManager.buildClause(sbSelectFrom);
+        StringBuilder sbSelectFrom = mainQuery.acquireQueryBuffer();
+        try {
+            if (externalRepresentation && isMainQuery) {
+                mainQuery.cteManager.buildClause(sbSelectFrom);
+            }
+            buildObjectQueryString(sbSelectFrom, externalRepresentation);
+            return sbSelectFrom.toString();
+        } finally {
+            mainQuery.releaseQueryBuffer(sbSelectFrom);
         }
-        buildObjectQueryString(sbSelectFrom, externalRepresentation);
-        return sbSelectFrom.toString();
     }
 
     private void appendPageIdQueryAsSubquery(StringBuilder sbSelectFrom, boolean externalRepresentation) {
@@ -77,6 +77,11 @@ public class DB2DbmsDialect extends DefaultDbmsDialect {
         return true;
     }
 
+    @Override
+    public boolean supportsUpsert() {
+        return true;
+    }
+
     @Override
     public boolean supportsModificationQueryInWithClause() {
         return true;
@@ -499,6 +499,70 @@ public class DefaultDbmsDialect implements DbmsDialect {
         return false;
     }
 
+    @Override
+    public boolean supportsUpsert() {
+        return false;
+    }
+
+    @Override
+    public void applyUpsert(StringBuilder sqlSb, String[] conflictColumns) {
+        // By default, we use a standard SQL MERGE statement with a derived column list for the source query
+        InsertStatement insert = InsertStatement.parse(sqlSb);
+        StringBuilder sb = new StringBuilder(sqlSb.length() + 256);
+        sb.append("merge into ").append(insert.table).append(" tgt_ using (");
+        sb.append(insert.query);
+        sb.append(") src_(");
+        appendColumns(sb, insert.columns, null);
+        sb.append(')');
+        appendMergeClauses(sb, insert, conflictColumns);
+        sqlSb.setLength(0);
+        sqlSb.append(sb);
+    }
+
+    @Override
+    public boolean supportsWithClauseInUpsert() {
+        // A with clause can't be put in front of a MERGE statement
+        return false;
+    }
+
+    protected void appendMergeClauses(StringBuilder sb, InsertStatement insert, String[] conflictColumns) {
+        sb.append(" on (");
+        for (int i = 0; i < conflictColumns.length; i++) {
+            if (i != 0) {
+                sb.append(" and ");
+            }
+            sb.append("tgt_.").append(conflictColumns[i]).append(" = src_.").append(conflictColumns[i]);
+        }
+        sb.append(')');
+        List<String> updateColumns = insert.getUpdateColumns(conflictColumns);
+        if (!updateColumns.isEmpty()) {
+            sb.append(" when matched then update set ");
+            for (int i = 0; i < updateColumns.size(); i++) {
+                if (i != 0) {
+                    sb.append(", ");
+                }
+                sb.append(updateColumns.get(i)).append(" = src_.").append(updateColumns.get(i));
+            }
+        }
+        sb.append(" when not matched then insert (");
+        appendColumns(sb, insert.columns, null);
+        sb.append(") values (");
+        appendColumns(sb, insert.columns, "src_.");
+        sb.append(')');
+    }
+
+    protected static void appendColumns(StringBuilder sb, String[] columns, String prefix) {
+        for (int i = 0; i < columns.length; i++) {
+            if (i != 0) {
+                sb.append(", ");
+            }
+            if (prefix != null) {
+                sb.append(prefix);
+            }
+            sb.append(columns[i]);
+        }
+    }
+
     @Override
     public boolean supportsGroupByExpressionInHavingMatching() {
         return true;
@@ -562,4 +626,48 @@ public class DefaultDbmsDialect implements DbmsDialect {
     public void appendLimit(StringBuilder sqlSb, boolean isSubquery, String limit, String offset) {
         createLimitHandler().applySql(sqlSb, isSubquery, limit, offset);
     }
+
+    /**
+     * The parts of an insert statement of the form <code>insert into table(columns) query</code>.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    protected static final class InsertStatement {
+
+        private static final String INSERT_INTO = "insert into ";
+
+        protected final String table;
+        protected final String[] columns;
+        protected final String query;
+        protected final int columnListEnd;
+
+        private InsertStatement(String table, String[] columns, String query, int columnListEnd) {
+            this.table = table;
+            this.columns = columns;
+            this.query = query;
+            this.columnListEnd = columnListEnd;
+        }
+
+        public static InsertStatement parse(StringBuilder sqlSb) {
+            int insertIndex = sqlSb.indexOf(INSERT_INTO);
+            if (insertIndex == -1) {
+                throw new IllegalArgumentException("Expected an insert statement but got: " + sqlSb);
+            }
+            int tableStart = insertIndex + INSERT_INTO.length();
+            int columnListStart = sqlSb.indexOf("(", tableStart);
+            int columnListEnd = sqlSb.indexOf(")", columnListStart);
+            String[] columns = sqlSb.substring(columnListStart + 1, columnListEnd).split(",");
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = columns[i].trim();
+            }
+            return new InsertStatement(sqlSb.substring(tableStart, columnListStart).trim(), columns, sqlSb.substring(columnListEnd + 1).trim(), columnListEnd);
+        }
+
+        public List<String> getUpdateColumns(String[] conflictColumns) {
+            List<String> updateColumns = new ArrayList<>(Arrays.asList(columns));
+            updateColumns.removeAll(Arrays.asList(conflictColumns));
+            return updateColumns;
+        }
+    }
 }
@@ -43,6 +43,24 @@ public class H2DbmsDialect extends DefaultDbmsDialect {
     public boolean supportsReturningAllGeneratedKeys() {
         return false;
     }
+
+    @Override
+    public boolean supportsUpsert() {
+        return true;
+    }
+
+    @Override
+    public void applyUpsert(StringBuilder sqlSb, String[] conflictColumns) {
+        // H2 supports a MERGE variant that looks just like an insert statement
+        InsertStatement insert = InsertStatement.parse(sqlSb);
+        StringBuilder keySb = new StringBuilder();
+        keySb.append(" key (");
+        appendColumns(keySb, conflictColumns, null);
+        keySb.append(')');
+        sqlSb.insert(insert.columnListEnd + 1, keySb);
+        int insertIndex = sqlSb.indexOf("insert into ");
+        sqlSb.replace(insertIndex, insertIndex + "insert".length(), "merge");
+    }
     
     @Override
     public boolean supportsWithClause() {
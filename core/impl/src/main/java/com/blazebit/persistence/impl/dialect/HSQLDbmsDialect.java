@@ -32,6 +32,11 @@ public class HSQLDbmsDialect extends DefaultDbmsDialect {
         return true;
     }
 
+    @Override
+    public boolean supportsUpsert() {
+        return true;
+    }
+
     @Override
     public boolean supportsWindowFunctions() {
         return false;
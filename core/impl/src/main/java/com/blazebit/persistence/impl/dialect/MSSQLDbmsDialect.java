@@ -58,6 +58,18 @@ public class MSSQLDbmsDialect extends DefaultDbmsDialect {
         return true;
     }
 
+    @Override
+    public boolean supportsUpsert() {
+        return true;
+    }
+
+    @Override
+    public void applyUpsert(StringBuilder sqlSb, String[] conflictColumns) {
+        super.applyUpsert(sqlSb, conflictColumns);
+        // SQL Server requires that a MERGE statement is terminated
+        sqlSb.append(';');
+    }
+
     @Override
     public boolean isNullSmallest() {
         return true;
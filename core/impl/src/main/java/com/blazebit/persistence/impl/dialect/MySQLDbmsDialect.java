@@ -13,6 +13,7 @@ import com.blazebit.persistence.spi.UpdateJoinStyle;
 import com.blazebit.persistence.spi.ValuesStrategy;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -43,6 +44,29 @@ public class MySQLDbmsDialect extends DefaultDbmsDialect {
 
         return types;
     }
+
+    @Override
+    public boolean supportsUpsert() {
+        return true;
+    }
+
+    @Override
+    public void applyUpsert(StringBuilder sqlSb, String[] conflictColumns) {
+        // MySQL detects the conflict through any unique key, so the conflict columns are only used for the no-op update
+        InsertStatement insert = InsertStatement.parse(sqlSb);
+        List<String> updateColumns = insert.getUpdateColumns(conflictColumns);
+        sqlSb.append(" on duplicate key update ");
+        if (updateColumns.isEmpty()) {
+            sqlSb.append(conflictColumns[0]).append(" = ").append(conflictColumns[0]);
+        } else {
+            for (int i = 0; i < updateColumns.size(); i++) {
+                if (i != 0) {
+                    sqlSb.append(", ");
+                }
+                sqlSb.append(updateColumns.get(i)).append(" = values(").append(updateColumns.get(i)).append(')');
+            }
+        }
+    }
     @Override
     public boolean supportsWindowFunctions() {
         return false;
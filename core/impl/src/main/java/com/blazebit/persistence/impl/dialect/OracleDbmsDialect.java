@@ -214,6 +214,26 @@ public class OracleDbmsDialect extends DefaultDbmsDialect {
         return true;
     }
 
+    @Override
+    public boolean supportsUpsert() {
+        return true;
+    }
+
+    @Override
+    public void applyUpsert(StringBuilder sqlSb, String[] conflictColumns) {
+        // Oracle does not support a derived column list, so we use a CTE to name the columns of the source query
+        InsertStatement insert = InsertStatement.parse(sqlSb);
+        StringBuilder sb = new StringBuilder(sqlSb.length() + 256);
+        sb.append("merge into ").append(insert.table).append(" tgt_ using (with src_(");
+        appendColumns(sb, insert.columns, null);
+        sb.append(") as (");
+        sb.append(insert.query);
+        sb.append(") select * from src_) src_");
+        appendMergeClauses(sb, insert, conflictColumns);
+        sqlSb.setLength(0);
+        sqlSb.append(sb);
+    }
+
     @Override
     public boolean supportsRowValueConstructor() {
         return false;
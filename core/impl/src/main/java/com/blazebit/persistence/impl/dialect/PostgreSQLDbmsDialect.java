@@ -58,6 +58,36 @@ public class PostgreSQLDbmsDialect extends DefaultDbmsDialect {
         return true;
     }
 
+    @Override
+    public boolean supportsUpsert() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsWithClauseInUpsert() {
+        return true;
+    }
+
+    @Override
+    public void applyUpsert(StringBuilder sqlSb, String[] conflictColumns) {
+        InsertStatement insert = InsertStatement.parse(sqlSb);
+        List<String> updateColumns = insert.getUpdateColumns(conflictColumns);
+        sqlSb.append(" on conflict (");
+        appendColumns(sqlSb, conflictColumns, null);
+        sqlSb.append(") do ");
+        if (updateColumns.isEmpty()) {
+            sqlSb.append("nothing");
+        } else {
+            sqlSb.append("update set ");
+            for (int i = 0; i < updateColumns.size(); i++) {
+                if (i != 0) {
+                    sqlSb.append(", ");
+                }
+                sqlSb.append(updateColumns.get(i)).append(" = excluded.").append(updateColumns.get(i));
+            }
+        }
+    }
+
     @Override
     public boolean supportsIntersect(boolean all) {
         return true;
@@ -34,8 +34,8 @@ public class CollectionInsertModificationQuerySpecification<T> extends Modificat
     public CollectionInsertModificationQuerySpecification(AbstractCommonQueryBuilder<?, ?, ?, ?, ?> commonQueryBuilder, Query baseQuery, Query exampleQuery, Collection<? extends Parameter<?>> parameters, Set<String> parameterListNames,
                                                           List<String> keyRestrictedLeftJoinAliases, List<EntityFunctionNode> entityFunctionNodes, boolean recursive, List<CTENode> ctes, boolean shouldRenderCteNodes,
                                                           boolean isEmbedded, String[] returningColumns, ReturningObjectBuilder<T> objectBuilder, Map<DbmsModificationState, String> includedModificationStates, Map<String, String> returningAttributeBindingMap,
-                                                          Query insertExampleQuery, String insertSql, int cutoffColumns, Collection<Query> foreignKeyParticipatingQueries, boolean queryPlanCacheEnabled) {
-        super(commonQueryBuilder, baseQuery, exampleQuery, parameters, parameterListNames, keyRestrictedLeftJoinAliases, entityFunctionNodes, recursive, ctes, shouldRenderCteNodes, isEmbedded, returningColumns, objectBuilder, includedModificationStates, returningAttributeBindingMap, queryPlanCacheEnabled);
+                                                          Query insertExampleQuery, String insertSql, int cutoffColumns, Collection<Query> foreignKeyParticipatingQueries, boolean queryPlanCacheEnabled, String[] upsertConflictColumns) {
+        super(commonQueryBuilder, baseQuery, exampleQuery, parameters, parameterListNames, keyRestrictedLeftJoinAliases, entityFunctionNodes, recursive, ctes, shouldRenderCteNodes, isEmbedded, returningColumns, objectBuilder, includedModificationStates, returningAttributeBindingMap, queryPlanCacheEnabled, upsertConflictColumns);
         this.insertExampleQuery = insertExampleQuery;
         this.insertSql = insertSql;
         this.cutoffColumns = cutoffColumns;
@@ -105,6 +105,9 @@ public class CollectionInsertModificationQuerySpecification<T> extends Modificat
         }
         sqlSb.insert(0, insertSql);
         sqlSb.insert(insertSql.length(), ' ');
+        if (upsertConflictColumns != null) {
+            dbmsDialect.applyUpsert(sqlSb, upsertConflictColumns);
+        }
 
         String dmlAffectedTable = insertSql.substring("insert into ".length(), insertSql.indexOf('('));
 
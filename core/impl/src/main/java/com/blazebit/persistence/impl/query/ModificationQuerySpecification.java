@@ -38,6 +38,7 @@ public class ModificationQuerySpecification<T> extends CustomQuerySpecification<
     protected final Map<DbmsModificationState, String> includedModificationStates;
     protected final Map<String, String> returningAttributeBindingMap;
     protected final ReturningObjectBuilder<T> objectBuilder;
+    protected final String[] upsertConflictColumns;
 
     protected Query query;
 
@@ -45,6 +46,14 @@ public class ModificationQuerySpecification<T> extends CustomQuerySpecification<
                                           List<String> keyRestrictedLeftJoinAliases, List<EntityFunctionNode> entityFunctionNodes, boolean recursive, List<CTENode> ctes, boolean shouldRenderCteNodes,
                                           boolean isEmbedded, String[] returningColumns, ReturningObjectBuilder<T> objectBuilder, Map<DbmsModificationState, String> includedModificationStates, Map<String, String> returningAttributeBindingMap,
                                           boolean queryPlanCacheEnabled) {
+        this(commonQueryBuilder, baseQuery, exampleQuery, parameters, parameterListNames, keyRestrictedLeftJoinAliases, entityFunctionNodes, recursive, ctes, shouldRenderCteNodes,
+            isEmbedded, returningColumns, objectBuilder, includedModificationStates, returningAttributeBindingMap, queryPlanCacheEnabled, null);
+    }
+
+    public ModificationQuerySpecification(AbstractCommonQueryBuilder<?, ?, ?, ?, ?> commonQueryBuilder, Query baseQuery, Query exampleQuery, Collection<? extends Parameter<?>> parameters, Set<String> parameterListNames,
+                                          List<String> keyRestrictedLeftJoinAliases, List<EntityFunctionNode> entityFunctionNodes, boolean recursive, List<CTENode> ctes, boolean shouldRenderCteNodes,
+                                          boolean isEmbedded, String[] returningColumns, ReturningObjectBuilder<T> objectBuilder, Map<DbmsModificationState, String> includedModificationStates, Map<String, String> returningAttributeBindingMap,
+                                          boolean queryPlanCacheEnabled, String[] upsertConflictColumns) {
         super(commonQueryBuilder, baseQuery, parameters, parameterListNames, null, null, keyRestrictedLeftJoinAliases, entityFunctionNodes, recursive, ctes, shouldRenderCteNodes, queryPlanCacheEnabled, null);
         this.exampleQuery = exampleQuery;
         this.isEmbedded = isEmbedded;
@@ -52,6 +61,7 @@ public class ModificationQuerySpecification<T> extends CustomQuerySpecification<
         this.objectBuilder = objectBuilder;
         this.includedModificationStates = includedModificationStates;
         this.returningAttributeBindingMap = new HashMap<>(returningAttributeBindingMap);
+        this.upsertConflictColumns = upsertConflictColumns;
     }
 
     @Override
@@ -112,6 +122,9 @@ public class ModificationQuerySpecification<T> extends CustomQuerySpecification<
             throw new UnsupportedOperationException("Unsupported statement type: " + statementType);
         }
         StringBuilder sqlSb = applySqlTransformations(sqlQuery);
+        if (upsertConflictColumns != null) {
+            dbmsDialect.applyUpsert(sqlSb, upsertConflictColumns);
+        }
         StringBuilder withClause = applyCtes(sqlSb, baseQuery, participatingQueries);
         // NOTE: CTEs will only be added, if this is a subquery
         Map<String, String> addedCtes = applyExtendedSql(sqlSb, false, isEmbedded, withClause, affectedDmlTable, returningColumns, includedModificationStates);
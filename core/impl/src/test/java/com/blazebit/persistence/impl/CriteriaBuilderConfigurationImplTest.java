@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.impl;
+
+import com.blazebit.persistence.impl.function.limit.LimitFunction;
+import com.blazebit.persistence.spi.JpqlFunctionGroup;
+import com.blazebit.persistence.spi.PackageOpener;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class CriteriaBuilderConfigurationImplTest {
+
+    @Test
+    public void sharesDefaultFunctionsButNotGroups() {
+        CriteriaBuilderConfigurationImpl config1 = new CriteriaBuilderConfigurationImpl(PackageOpener.NOOP);
+        CriteriaBuilderConfigurationImpl config2 = new CriteriaBuilderConfigurationImpl(PackageOpener.NOOP);
+        JpqlFunctionGroup group1 = config1.getFunction(LimitFunction.FUNCTION_NAME);
+        JpqlFunctionGroup group2 = config2.getFunction(LimitFunction.FUNCTION_NAME);
+
+        assertNotSame(group1, group2);
+        assertSame(group1.get("mysql"), group2.get("mysql"));
+        assertSame(config1.getDbmsDialects().get("mysql"), config2.getDbmsDialects().get("mysql"));
+
+        group1.add("custom", group1.get(null));
+        assertTrue(group1.contains("custom"));
+        assertFalse(group2.contains("custom"));
+    }
+}
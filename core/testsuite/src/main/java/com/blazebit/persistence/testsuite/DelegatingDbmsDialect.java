@@ -131,6 +131,21 @@ public class DelegatingDbmsDialect implements DbmsDialect {
         return delegate.supportsReturningColumns();
     }
 
+    @Override
+    public boolean supportsUpsert() {
+        return delegate.supportsUpsert();
+    }
+
+    @Override
+    public void applyUpsert(StringBuilder sqlSb, String[] conflictColumns) {
+        delegate.applyUpsert(sqlSb, conflictColumns);
+    }
+
+    @Override
+    public boolean supportsWithClauseInUpsert() {
+        return delegate.supportsWithClauseInUpsert();
+    }
+
     @Override
     public boolean supportsGroupByExpressionInHavingMatching() {
         return delegate.supportsGroupByExpressionInHavingMatching();
@@ -586,6 +586,63 @@ public class CTETest extends AbstractCoreTest {
         }
     }
     
+    // The query strings are rendered into a buffer that is reused between the queries, and the CTEs are rendered with a nested buffer
+    @Test
+    @Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class, NoMySQLOld.class, NoOracle.class })
+    public void testRecursiveCTEPaginationQueryStringsIndependentOfRenderOrder() {
+        PaginatedCriteriaBuilder<Tuple> pcb = createRecursiveCTEPaginatedCriteriaBuilder();
+        String countQuery = pcb.getPageCountQueryString();
+        String idQuery = pcb.getPageIdQueryString();
+        String objectQuery = pcb.getQueryString();
+
+        pcb = createRecursiveCTEPaginatedCriteriaBuilder();
+        assertEquals(objectQuery, pcb.getQueryString());
+        assertEquals(idQuery, pcb.getPageIdQueryString());
+        assertEquals(countQuery, pcb.getPageCountQueryString());
+
+        assertEquals(countQuery, createRecursiveCTEPaginatedCriteriaBuilder().getPageCountQueryString());
+        assertEquals(idQuery, createRecursiveCTEPaginatedCriteriaBuilder().getPageIdQueryString());
+        assertEquals(objectQuery, createRecursiveCTEPaginatedCriteriaBuilder().getQueryString());
+
+        String cte = "WITH RECURSIVE TestCTE(id, name, level) AS(\n"
+                + "SELECT e.id, e.name, 0 FROM RecursiveEntity e WHERE e.parent IS NULL"
+                + "\nUNION ALL\n"
+                + "SELECT e.id, e.name, t.level + 1 FROM " + TestCTE.class.getSimpleName() + " t JOIN RecursiveEntity e" + onClause("t.id = e.parent.id")
+                + "\n)\n";
+        assertEquals(cte + "SELECT " + countPaginated("r.id", false) + " FROM RecursiveEntity r WHERE r.id IN (SELECT t.id FROM TestCTE t WHERE t.level < 2)", countQuery);
+        assertEquals(cte + "SELECT r.id FROM RecursiveEntity r WHERE r.id IN (SELECT t.id FROM TestCTE t WHERE t.level < 2) ORDER BY r.id ASC", idQuery);
+        assertEquals(cte + "SELECT r.name, children_1.name FROM RecursiveEntity r LEFT JOIN r.children children_1 WHERE r.id IN :ids ORDER BY r.id ASC", objectQuery);
+    }
+
+    private PaginatedCriteriaBuilder<Tuple> createRecursiveCTEPaginatedCriteriaBuilder() {
+        CriteriaBuilder<Tuple> cb = cbf.create(em, Tuple.class);
+        cb.withRecursive(TestCTE.class)
+        .from(RecursiveEntity.class, "e")
+            .bind("id").select("e.id")
+            .bind("name").select("e.name")
+            .bind("level").select("0")
+            .where("e.parent").isNull()
+        .unionAll()
+            .from(TestCTE.class, "t")
+            .innerJoinOn(RecursiveEntity.class, "e")
+                .on("t.id").eqExpression("e.parent.id")
+            .end()
+            .bind("id").select("e.id")
+            .bind("name").select("e.name")
+            .bind("level").select("t.level + 1")
+        .end();
+        cb.from(RecursiveEntity.class, "r")
+            .select("r.name")
+            .select("r.children.name")
+            .where("r.id").in()
+                .from(TestCTE.class, "t")
+                .select("t.id")
+                .where("t.level").ltExpression("2")
+            .end()
+            .orderByAsc("r.id");
+        return cb.page(0, 2).withInlineIdQuery(false).withInlineCountQuery(false);
+    }
+
     // NOTE: Apparently H2 before 1.4.199 can't handle multiple CTEs
     @Test
     @Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class, NoMySQLOld.class })
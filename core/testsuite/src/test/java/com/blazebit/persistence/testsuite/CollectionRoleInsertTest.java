@@ -9,10 +9,12 @@ import com.blazebit.persistence.InsertCriteriaBuilder;
 import com.blazebit.persistence.ReturningResult;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoFirebird;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoH2;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoMySQL;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoOracle;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoSQLite;
 import com.blazebit.persistence.testsuite.entity.IndexedEmbeddable;
 import com.blazebit.persistence.testsuite.entity.IndexedNode;
 import com.blazebit.persistence.testsuite.entity.KeyedEmbeddable;
@@ -328,6 +330,32 @@ public class CollectionRoleInsertTest extends AbstractCoreTest {
         });
     }
 
+    // NOTE: Firebird and SQLite dialects don't support upsert statements yet
+    @Test
+    @Category({ NoFirebird.class, NoSQLite.class })
+    public void insertKeyedUpsert() {
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                InsertCriteriaBuilder<Root> criteria = cbf.insertCollection(em, Root.class, "keyedNodes");
+                criteria.fromValues(Integer.class, "valuesAlias", Collections.singletonList(0));
+                criteria.bind("id").select("1");
+                criteria.bind("KEY(keyedNodes)").select("'a'");
+                criteria.bind("keyedNodes.id").select("5");
+                criteria.upsert();
+
+                assertEquals("INSERT INTO Root.keyedNodes(KEY(keyedNodes), id, keyedNodes.id)\n"
+                        + "SELECT 'a', 1, 5"
+                        + " FROM Integer(1 VALUES) valuesAlias", criteria.getQueryString());
+                criteria.executeUpdate();
+                Root r = getRoot(em);
+
+                assertEquals(1, r.getKeyedNodes().size());
+                assertEquals(K2_ID, r.getKeyedNodes().get("a").getId());
+            }
+        });
+    }
+
     @Test
     public void insertKeyedMany() {
         transactional(new TxVoidWork() {
@@ -247,6 +247,24 @@ public class JoinTest extends AbstractCoreTest {
         verifyException(criteria, IllegalArgumentException.class, r -> r.join("owner", "", JoinType.LEFT, true));
     }
 
+    @Test
+    public void testDefaultJoinAliasConflict() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .leftJoinDefault("d.partners", "p1");
+        IllegalArgumentException e = verifyException(criteria, IllegalArgumentException.class, r -> r.leftJoinDefault("d.partners", "p2"));
+        assertEquals("Alias conflict [p1=d.partners, p2=d.partners]", e.getMessage());
+    }
+
+    @Test
+    public void testDefaultJoinMapKeyAliasConflict() {
+        CriteriaBuilder<DocumentForEntityKeyMaps> criteria = cbf.create(em, DocumentForEntityKeyMaps.class, "d")
+                .leftJoin("contactDocuments", "contact")
+                .leftJoinDefault("KEY(contact)", "person1");
+        IllegalArgumentException e = verifyException(criteria, IllegalArgumentException.class, r -> r.leftJoinDefault("KEY(contact)", "person2"));
+        // The qualified join path of the conflicting alias must match the path of the existing join node
+        assertTrue(e.getMessage(), e.getMessage().matches("Alias conflict \\[person1=KEY\\((.+)\\), person2=KEY\\(\\1\\)\\]"));
+    }
+
     @Test
     public void testUnresolvedAlias1() {
         CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d");
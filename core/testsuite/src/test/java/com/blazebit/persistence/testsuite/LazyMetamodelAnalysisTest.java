@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.ConfigurationProperties;
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.impl.EntityMetamodelImpl;
+import com.blazebit.persistence.parser.EntityMetamodel;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.spi.ExtendedAttribute;
+import com.blazebit.persistence.spi.ExtendedManagedType;
+import com.blazebit.persistence.spi.JpaProviderFactory;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import org.junit.Test;
+
+import javax.persistence.metamodel.EmbeddableType;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.ManagedType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class LazyMetamodelAnalysisTest extends AbstractCoreTest {
+
+    private static final int THREADS = 8;
+
+    @Override
+    protected void configure(CriteriaBuilderConfiguration config) {
+        super.configure(config);
+        config.setProperty(ConfigurationProperties.LAZY_METAMODEL_ANALYSIS, "true");
+    }
+
+    @Test
+    public void testQueryWithLazyAnalysis() {
+        CriteriaBuilder<Document> cb = cbf.create(em, Document.class, "d")
+                .innerJoin("d.owner", "o")
+                .where("o.name").eq("Karl");
+        assertEquals("SELECT d FROM Document d JOIN d.owner o WHERE o.name = :param_0", cb.getQueryString());
+        cb.getResultList();
+    }
+
+    @Test
+    public void testLazyAnalysisMatchesEagerAnalysis() {
+        JpaProviderFactory jpaProviderFactory = cbf.getService(JpaProviderFactory.class);
+        EntityMetamodel lazyMetamodel = new EntityMetamodelImpl(emf, jpaProviderFactory, true);
+        EntityMetamodel eagerMetamodel = new EntityMetamodelImpl(emf, jpaProviderFactory, false);
+
+        // The enum types are discovered eagerly in both cases
+        assertEquals(eagerMetamodel.getEnumTypes(), lazyMetamodel.getEnumTypes());
+        assertEquals(eagerMetamodel.getEnumTypesForLiterals(), lazyMetamodel.getEnumTypesForLiterals());
+        assertEquals(describe(eagerMetamodel), describe(lazyMetamodel));
+    }
+
+    @Test
+    public void testConcurrentFirstAccessAnalyzesOnce() throws Exception {
+        final EntityMetamodel lazyMetamodel = new EntityMetamodelImpl(emf, cbf.getService(JpaProviderFactory.class), true);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<ExtendedManagedType<?>>> futures = new ArrayList<>(THREADS);
+            for (int i = 0; i < THREADS; i++) {
+                final Class<?> entityClass = i % 2 == 0 ? Document.class : Person.class;
+                futures.add(executor.submit(new Callable<ExtendedManagedType<?>>() {
+                    @Override
+                    public ExtendedManagedType<?> call() throws Exception {
+                        startLatch.await();
+                        ExtendedManagedType<?> managedType = lazyMetamodel.getManagedType(ExtendedManagedType.class, entityClass);
+                        // The attributes must be fully initialized when the analysis result is published
+                        assertNotNull(managedType.getAttribute("id"));
+                        return lazyMetamodel.getManagedType(ExtendedManagedType.class, Document.class);
+                    }
+                }));
+            }
+            startLatch.countDown();
+
+            ExtendedManagedType<?> documentType = lazyMetamodel.getManagedType(ExtendedManagedType.class, Document.class);
+            for (Future<ExtendedManagedType<?>> future : futures) {
+                // All threads see the result of a single analysis
+                assertSame(documentType, future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<String> describe(EntityMetamodel metamodel) {
+        List<String> description = new ArrayList<>();
+        for (EntityType<?> entityType : emf.getMetamodel().getEntities()) {
+            ExtendedManagedType<?> extendedManagedType = metamodel.getManagedType(ExtendedManagedType.class, entityType.getName());
+            description.add(entityType.getName() + " cascadingDeleteCycle=" + extendedManagedType.hasCascadingDeleteCycle());
+            for (Map.Entry<String, ? extends ExtendedAttribute<?, ?>> entry : extendedManagedType.getAttributes().entrySet()) {
+                ExtendedAttribute<?, ?> attribute = entry.getValue();
+                description.add(entityType.getName() + "." + entry.getKey() + ": " + attribute.getElementClass().getName()
+                        + " path=" + attribute.getAttributePathString()
+                        + " cascadingDeleteCycle=" + attribute.hasCascadingDeleteCycle()
+                        + " owned=" + extendedManagedType.getOwnedAttributes().containsKey(entry.getKey()));
+            }
+        }
+        for (ManagedType<?> managedType : emf.getMetamodel().getManagedTypes()) {
+            if (managedType instanceof EmbeddableType<?> && managedType.getJavaType() != null) {
+                ExtendedManagedType<?> extendedManagedType = metamodel.getManagedType(ExtendedManagedType.class, managedType.getJavaType());
+                description.add(managedType.getJavaType().getName() + " singularOwner=" + ownerString(extendedManagedType.getEmbeddableSingularOwner())
+                        + " pluralOwner=" + ownerString(extendedManagedType.getEmbeddablePluralOwner())
+                        + " attributes=" + extendedManagedType.getAttributes().keySet());
+            }
+        }
+        Collections.sort(description);
+        return description;
+    }
+
+    private static String ownerString(Map.Entry<EntityType<?>, String> owner) {
+        return owner == null ? "null" : owner.getKey().getName() + "#" + owner.getValue();
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  *
@@ -180,6 +181,16 @@ public class TreatTest extends AbstractCoreTest {
         criteria.getResultList();
     }
 
+    @Test
+    public void joinTreatedRelationWithConflictingTreatType() {
+        CriteriaBuilder<Integer> criteria = cbf.create(em, Integer.class);
+        criteria.from(PolymorphicBase.class, "p");
+        criteria.innerJoin("TREAT(p.parent AS PolymorphicSub1)", "polymorphicSub");
+        IllegalArgumentException e = verifyException(criteria, IllegalArgumentException.class, r -> r.innerJoin("TREAT(p.parent AS PolymorphicSub2)", "polymorphicSub"));
+        // The message contains the treated join path of the existing join node
+        assertTrue(e.getMessage(), e.getMessage().startsWith("A join node [polymorphicSub=TREAT(p.parent AS PolymorphicSub1)] for treat type [PolymorphicSub2]"));
+    }
+
     @Test
     // NOTE: With datanucleus this only fails with INNER JOIN but works with left join. Maybe a bug? TODO: report the error
     // Eclipselink and Datanucleus do not support root treat joins
@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.InsertCriteriaBuilder;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoFirebird;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoSQLite;
+import com.blazebit.persistence.testsuite.entity.IdHolderCTE;
+import com.blazebit.persistence.testsuite.entity.IndexedEmbeddable;
+import com.blazebit.persistence.testsuite.entity.IndexedNode;
+import com.blazebit.persistence.testsuite.entity.KeyedEmbeddable;
+import com.blazebit.persistence.testsuite.entity.KeyedNode;
+import com.blazebit.persistence.testsuite.entity.Parent;
+import com.blazebit.persistence.testsuite.entity.Root;
+import com.blazebit.persistence.testsuite.entity.Sub1;
+import com.blazebit.persistence.testsuite.entity.Sub1Sub1;
+import com.blazebit.persistence.testsuite.entity.Sub1Sub2;
+import com.blazebit.persistence.testsuite.entity.Sub2;
+import com.blazebit.persistence.testsuite.entity.Sub2Sub1;
+import com.blazebit.persistence.testsuite.entity.Sub2Sub2;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.persistence.EntityManager;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeFalse;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+// NOTE: No advanced sql support for datanucleus, eclipselink and openjpa yet
+// NOTE: Firebird and SQLite dialects don't support upsert statements yet
+@Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class, NoFirebird.class, NoSQLite.class })
+public class UpsertTest extends AbstractCoreTest {
+
+    @Before
+    public void setUp() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                IndexedNode i1 = new IndexedNode(2);
+                i1.setIndex(0);
+                em.persist(i1);
+                IndexedNode i2 = new IndexedNode(4);
+                i2.setIndex(0);
+                em.persist(i2);
+            }
+        });
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[]{
+            Root.class,
+            IndexedNode.class,
+            KeyedNode.class,
+            KeyedEmbeddable.class,
+            IndexedEmbeddable.class,
+            Parent.class,
+            Sub1.class,
+            Sub2.class,
+            Sub1Sub1.class,
+            Sub1Sub2.class,
+            Sub2Sub1.class,
+            Sub2Sub2.class,
+            IdHolderCTE.class
+        };
+    }
+
+    @Test
+    public void testUpsertUpdatesExistingAndInsertsNewRows() {
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                InsertCriteriaBuilder<IndexedNode> criteria = cbf.insert(em, IndexedNode.class);
+                criteria.fromValues(Integer.class, "valuesAlias", Arrays.asList(2, 6));
+                criteria.bind("id").select("valuesAlias");
+                criteria.bind("index").select("valuesAlias");
+                criteria.upsert();
+
+                assertEquals("INSERT INTO IndexedNode(id, index)\n"
+                        + "SELECT valuesAlias, valuesAlias"
+                        + " FROM Integer(2 VALUES) valuesAlias", criteria.getQueryString());
+                criteria.executeUpdate();
+            }
+        });
+
+        List<IndexedNode> nodes = cbf.create(em, IndexedNode.class, "n")
+                .orderByAsc("n.id")
+                .getResultList();
+        assertEquals(3, nodes.size());
+        assertEquals(Integer.valueOf(2), nodes.get(0).getId());
+        assertEquals(Integer.valueOf(2), nodes.get(0).getIndex());
+        assertEquals(Integer.valueOf(4), nodes.get(1).getId());
+        assertEquals(Integer.valueOf(0), nodes.get(1).getIndex());
+        assertEquals(Integer.valueOf(6), nodes.get(2).getId());
+        assertEquals(Integer.valueOf(6), nodes.get(2).getIndex());
+    }
+
+    @Test
+    public void testUpsertWithCteIsRejectedIfUnsupported() {
+        assumeFalse(dbmsDialect.supportsWithClauseInUpsert());
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                InsertCriteriaBuilder<IndexedNode> criteria = cbf.insert(em, IndexedNode.class);
+                criteria.with(IdHolderCTE.class)
+                        .from(IndexedNode.class, "node")
+                        .bind("id").select("node.id")
+                        .end();
+                criteria.from(IndexedNode.class, "n");
+                criteria.where("n.id").in()
+                        .from(IdHolderCTE.class, "cte")
+                        .select("cte.id")
+                        .end();
+                criteria.bind("id").select("n.id");
+                criteria.bind("index").select("1");
+                criteria.upsert();
+
+                try {
+                    criteria.executeUpdate();
+                    fail("Expected upsert with CTEs to be rejected");
+                } catch (IllegalStateException ex) {
+                    // Expected
+                }
+            }
+        });
+    }
+}
@@ -246,6 +246,87 @@ public final class ConfigurationProperties {
      */
     public static final String CREATE_EMPTY_FLAT_VIEWS = "com.blazebit.persistence.view.create_empty_flat_views";
 
+    /**
+     * A boolean flag that allows to specify that the query result is ordered by the ids of all objects that own join fetched collections.
+     * When enabled, join fetched collections are reduced in a single pass over the result list by only comparing the ids of adjacent tuples,
+     * instead of grouping the tuples by their parent id in a hash table. Enabling this for results that are not ordered accordingly leads to wrong results.
+     * By default the ordered reduction is disabled i.e. the default value is <code>false</code>.
+     * Valid values for this property are <code>true</code> or <code>false</code>.
+     *
+     * @since 1.6.15
+     */
+    public static final String ORDERED_TUPLE_REDUCTION = "com.blazebit.persistence.view.ordered_tuple_reduction";
+
+    /**
+     * A boolean flag to make it possible to collect statistics about the observed collection sizes and root counts of plural attributes,
+     * based on which a fetch strategy is recommended through the entity view metamodel.
+     * By default the collection of fetch statistics is disabled i.e. the default value is <code>false</code>.
+     * Valid values for this property are <code>true</code> or <code>false</code>.
+     *
+     * @since 1.6.15
+     */
+    public static final String FETCH_STATISTICS_ENABLED = "com.blazebit.persistence.view.fetch_statistics.enabled";
+
+    /**
+     * An integer value that defines the minimum number of query executions that have to be observed for an attribute,
+     * before a fetch strategy other than the configured one is recommended.
+     * By default the value is 10.
+     *
+     * @since 1.6.15
+     */
+    public static final String FETCH_STATISTICS_MIN_EXECUTIONS = "com.blazebit.persistence.view.fetch_statistics.min_executions";
+
+    /**
+     * An integer value that defines the average collection size up to which the MULTISET fetch strategy is recommended,
+     * or the JOIN fetch strategy if MULTISET is unsupported.
+     * By default the value is 10.
+     *
+     * @since 1.6.15
+     */
+    public static final String FETCH_STATISTICS_MULTISET_MAX_AVERAGE_SIZE = "com.blazebit.persistence.view.fetch_statistics.multiset_max_average_size";
+
+    /**
+     * An integer value that defines the average number of roots per query execution from which on the SELECT fetch strategy
+     * is recommended over the SUBSELECT fetch strategy for collections that exceed the average size for MULTISET fetching.
+     * By default the value is 100.
+     *
+     * @since 1.6.15
+     */
+    public static final String FETCH_STATISTICS_SELECT_MIN_AVERAGE_ROOTS = "com.blazebit.persistence.view.fetch_statistics.select_min_average_roots";
+
+    /**
+     * A boolean flag to make it possible to load plural and subview attributes, that were not fetched due to fetches specified in an {@link EntityViewSetting},
+     * on first access. All such attributes are then loaded for all objects of the query result with a query per batch of objects.
+     * The <code>EntityManager</code> that was used for the query must still be open when accessing such an attribute.
+     * The configuration value enables support for lazy loading in the entity view proxies, whereas the value in an {@link EntityViewSetting}
+     * allows to disable lazy loading for a specific query.
+     * By default lazy loading is disabled i.e. the default value is <code>false</code>.
+     * Valid values for this property are <code>true</code> or <code>false</code>.
+     *
+     * @since 1.6.15
+     */
+    public static final String LAZY_LOADING = "com.blazebit.persistence.view.lazy_loading";
+
+    /**
+     * An integer specifying the number of threads to use for validating the expressions of entity views
+     * and for the eager loading of templates, proxies and updaters during the creation of the entity view manager.
+     * The value <code>1</code> means that everything is done on the calling thread
+     * and a value of <code>0</code> or less means that the number of available processors is used.
+     * By default the value is <code>1</code>.
+     *
+     * @since 1.6.15
+     */
+    public static final String BOOT_PARALLELISM = "com.blazebit.persistence.view.boot_parallelism";
+    /**
+     * A comma separated list of entity view class names for which the view templates should be built in a background thread
+     * after the entity view manager was created, or <code>*</code> for all entity views.
+     * Contrary to {@link #TEMPLATE_EAGER_LOADING}, this does not delay the startup. Requests for a template that is still being built
+     * wait for the result instead of building it again. By default, no templates are warmed up.
+     *
+     * @since 1.6.15
+     */
+    public static final String TEMPLATE_WARMUP_VIEWS = "com.blazebit.persistence.view.template_warmup_views";
+
     private ConfigurationProperties() {
     }
 }
@@ -9,10 +9,12 @@ import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.FullQueryBuilder;
 import com.blazebit.persistence.PaginatedCriteriaBuilder;
 import com.blazebit.persistence.spi.ServiceProvider;
+import com.blazebit.persistence.view.change.ChangePatchWriter;
 import com.blazebit.persistence.view.change.SingularChangeModel;
 import com.blazebit.persistence.view.metamodel.ViewMetamodel;
 
 import javax.persistence.EntityManager;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -102,6 +104,16 @@ public interface EntityViewManager extends ServiceProvider {
      */
     public <T> SingularChangeModel<T> getChangeModel(T entityView);
 
+    /**
+     * Writes the changes of the entity view instance as patch operations to the given writer.
+     * In contrast to {@link #getChangeModel(Object)}, this only visits the dirty parts of the entity view and doesn't create change model objects.
+     *
+     * @param entityView The entity view
+     * @param writer The writer to receive the patch operations
+     * @since 1.6.15
+     */
+    public void writeChangePatch(Object entityView, ChangePatchWriter writer);
+
     /**
      * Creates a new instance of the entity view class and returns it.
      *
@@ -430,6 +442,39 @@ public interface EntityViewManager extends ServiceProvider {
      */
     public FlushOperationBuilder saveFullWithTo(EntityManager entityManager, Object view, Object entity);
 
+    /**
+     * Saves the entities which the given entity views map to.
+     * Issues partial updates if enabled for the given views.
+     * This is a convenience for saving multiple views within a single flush operation. Every view is flushed on its own
+     * in the order of the given collection, so views can depend on views that come before them.
+     * The entities of adjacent views of the same type and with the same dirty state are loaded with a single query if required.
+     * With the {@link FlushStrategy#ENTITY} flush strategy, the versions of these views are verified before flushing them,
+     * so that a single {@link OptimisticLockException} reports all conflicting views. With the {@link FlushStrategy#QUERY} flush strategy,
+     * the versions are verified by the update statements, so the flush fails on the first conflicting view.
+     *
+     * @param entityManager The entity manager to use for the save
+     * @param views The views to use for saving
+     * @since 1.6.15
+     */
+    public void saveAll(EntityManager entityManager, Collection<?> views);
+
+    /**
+     * Saves the entities which the given entity views map to.
+     * Issues partial updates if enabled for the given views.
+     * This is a convenience for saving multiple views within a single flush operation. Every view is flushed on its own
+     * in the order of the given collection, so views can depend on views that come before them.
+     * The entities of adjacent views of the same type and with the same dirty state are loaded with a single query if required.
+     * With the {@link FlushStrategy#ENTITY} flush strategy, the versions of these views are verified before flushing them,
+     * so that a single {@link OptimisticLockException} reports all conflicting views. With the {@link FlushStrategy#QUERY} flush strategy,
+     * the versions are verified by the update statements, so the flush fails on the first conflicting view.
+     *
+     * @param entityManager The entity manager to use for the save
+     * @param views The views to use for saving
+     * @return A flush operation builder for further configuring the flush operation
+     * @since 1.6.15
+     */
+    public FlushOperationBuilder saveAllWith(EntityManager entityManager, Collection<?> views);
+
     /**
      * Removes the entity represented by the given view.
      * Also cascades deletes to attributes that have {@link CascadeType#DELETE} enabled.
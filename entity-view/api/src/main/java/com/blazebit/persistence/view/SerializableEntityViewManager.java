@@ -7,12 +7,14 @@ package com.blazebit.persistence.view;
 
 import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.FullQueryBuilder;
+import com.blazebit.persistence.view.change.ChangePatchWriter;
 import com.blazebit.persistence.view.change.SingularChangeModel;
 import com.blazebit.persistence.view.metamodel.ViewMetamodel;
 
 import javax.persistence.EntityManager;
 import java.io.Serializable;
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -89,6 +91,11 @@ public class SerializableEntityViewManager implements EntityViewManager, Seriali
         return getEvm().getChangeModel(entityView);
     }
 
+    @Override
+    public void writeChangePatch(Object entityView, ChangePatchWriter writer) {
+        getEvm().writeChangePatch(entityView, writer);
+    }
+
     @Override
     public <T> T create(Class<T> entityViewClass) {
         return getEvm().create(entityViewClass);
@@ -231,6 +238,16 @@ public class SerializableEntityViewManager implements EntityViewManager, Seriali
         return getEvm().saveFullWithTo(entityManager, view, entity);
     }
 
+    @Override
+    public void saveAll(EntityManager entityManager, Collection<?> views) {
+        getEvm().saveAll(entityManager, views);
+    }
+
+    @Override
+    public FlushOperationBuilder saveAllWith(EntityManager entityManager, Collection<?> views) {
+        return getEvm().saveAllWith(entityManager, views);
+    }
+
     @Override
     public void remove(EntityManager entityManager, Object view) {
         getEvm().remove(entityManager, view);
@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.change;
+
+/**
+ * Receives the changes of an updatable entity view as patch operations, similar to the operations of a JSON Patch document.
+ * Paths are JSON Pointers relative to the root entity view. Elements of lists are addressed by index,
+ * entries of maps by key and elements of other collections by the entity view id.
+ * The operations are reported in an order that can be applied sequentially, i.e. list removals are reported from the highest index to the lowest
+ * and list additions from the lowest index to the highest.
+ * Map keys and ids are rendered with {@link String#valueOf(Object)}.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public interface ChangePatchWriter {
+
+    /**
+     * Called when the value at the given path was replaced.
+     *
+     * @param path The path of the value
+     * @param value The new value
+     */
+    public void replace(String path, Object value);
+
+    /**
+     * Called when a value was added. For lists, the path ends with the index of the added element,
+     * for maps, it ends with the key of the added entry and for other collections, it ends with <code>-</code>.
+     *
+     * @param path The path of the added value
+     * @param value The added value
+     */
+    public void add(String path, Object value);
+
+    /**
+     * Called when a value was removed. For lists, the path ends with the index of the removed element,
+     * for maps, it ends with the key of the removed entry. Since elements of other collections have no position,
+     * the path is the one of the collection for them, which has no equivalent in JSON Patch.
+     *
+     * @param path The path of the removed value
+     * @param value The removed element or map value
+     */
+    public void remove(String path, Object value);
+}
@@ -9,6 +9,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import javax.persistence.EntityManagerFactory;
 
@@ -33,6 +34,19 @@ public interface EntityViewConfiguration {
      */
     public EntityViewConfiguration addEntityView(Class<?> clazz);
 
+    /**
+     * Adds the entity views listed in the entity view indexes that can be found through the given class loader.
+     * The indexes are generated by the entity view annotation processor when the <code>generateIndex</code> option is enabled
+     * and allow to register the entity views without scanning the class path.
+     *
+     * @param classLoader The class loader to use for finding the indexes and loading the entity view classes
+     * @return this for method chaining
+     * @throws IllegalArgumentException If no index can be found
+     * @throws IllegalStateException If an index is unreadable, has an unsupported version or lists a class that can't be loaded
+     * @since 1.6.15
+     */
+    public EntityViewConfiguration addEntityViewsFromIndex(ClassLoader classLoader);
+
     /**
      * Creates an entity view mapping based on the given annotated class
      * that can be further refined and finally added.
@@ -269,6 +283,67 @@ public interface EntityViewConfiguration {
      */
     public EntityViewConfiguration setTransactionSupport(TransactionSupport transactionSupport);
 
+    /**
+     * Returns the configured executor for invoking post commit listeners asynchronously or <code>null</code>.
+     *
+     * @return the configured executor for post commit listeners
+     * @since 1.6.15
+     */
+    public Executor getPostCommitListenerExecutor();
+
+    /**
+     * Sets the executor that is used for invoking post commit listeners asynchronously.
+     * By default, post commit listeners are invoked synchronously on the committing thread.
+     * When an executor is set, the listeners for an entity view are invoked in a task that is submitted to the executor,
+     * and the tasks for the same entity are guaranteed to run in commit order.
+     * The listeners receive a copy of the view that is created via {@link com.blazebit.persistence.view.EntityViewManager#convert(Object, Class, com.blazebit.persistence.view.ConvertOption...)}
+     * on the committing thread, so the flushed view can still be used by the application. Views of types that can't be converted are passed as is
+     * and must not be modified until the listeners ran.
+     * Since the entity manager passed to the listeners might already be closed, it must not be used by the listeners.
+     *
+     * @param executor The executor or <code>null</code> to invoke post commit listeners synchronously
+     * @return this for method chaining
+     * @since 1.6.15
+     */
+    public EntityViewConfiguration setPostCommitListenerExecutor(Executor executor);
+
+    /**
+     * Returns the configured error handler for asynchronously invoked post commit listeners or <code>null</code>.
+     *
+     * @return the configured error handler for post commit listeners
+     * @since 1.6.15
+     */
+    public PostCommitListenerErrorHandler getPostCommitListenerErrorHandler();
+
+    /**
+     * Sets the error handler that is notified about exceptions thrown by asynchronously invoked post commit listeners.
+     * If no error handler is set, the exceptions are logged.
+     *
+     * @param errorHandler The error handler
+     * @return this for method chaining
+     * @since 1.6.15
+     */
+    public EntityViewConfiguration setPostCommitListenerErrorHandler(PostCommitListenerErrorHandler errorHandler);
+
+    /**
+     * Returns the configured executor for the template warmup or <code>null</code>.
+     *
+     * @return the configured executor for the template warmup
+     * @since 1.6.15
+     */
+    public Executor getTemplateWarmupExecutor();
+
+    /**
+     * Sets the executor that is used for building the templates of the entity views configured via
+     * {@link com.blazebit.persistence.view.ConfigurationProperties#TEMPLATE_WARMUP_VIEWS} in the background.
+     * By default, a dedicated daemon thread is used. Closing the entity view manager stops the warmup in either case.
+     *
+     * @param executor The executor or <code>null</code> to use a dedicated thread
+     * @return this for method chaining
+     * @since 1.6.15
+     */
+    public EntityViewConfiguration setTemplateWarmupExecutor(Executor executor);
+
     /**
      * Returns all globally configured optional parameters.
      *
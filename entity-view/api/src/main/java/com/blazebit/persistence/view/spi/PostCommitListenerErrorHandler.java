@@ -0,0 +1,29 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.spi;
+
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.ViewTransition;
+
+/**
+ * A callback that is notified about exceptions thrown by post commit listeners that are invoked asynchronously.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ * @see EntityViewConfiguration#setPostCommitListenerExecutor(java.util.concurrent.Executor)
+ */
+public interface PostCommitListenerErrorHandler {
+
+    /**
+     * Handles the given exception that was thrown by a post commit listener for the given view.
+     *
+     * @param entityViewManager The entity view manager
+     * @param view The view for which the listener was invoked
+     * @param transition The view transition
+     * @param exception The exception thrown by the listener
+     */
+    public void handleError(EntityViewManager entityViewManager, Object view, ViewTransition transition, RuntimeException exception);
+}
@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.spi.type;
+
+/**
+ * Creates entity view objects from a query result tuple without reflection.
+ * Static implementations generated by the annotation processor expose an instance in a public static field named {@link #FIELD_NAME}.
+ *
+ * @param <T> The type of the created objects
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public interface EntityViewTupleInstantiator<T> {
+
+    /**
+     * The name of the field in a static implementation class that holds the tuple instantiator.
+     */
+    public static final String FIELD_NAME = "TUPLE_INSTANTIATOR";
+
+    /**
+     * Creates a new object from the elements of the given tuple, starting at the given offset.
+     *
+     * @param offset The offset of the first element in the tuple
+     * @param tuple The tuple
+     * @return The new object
+     */
+    public T newInstance(int offset, Object[] tuple);
+}
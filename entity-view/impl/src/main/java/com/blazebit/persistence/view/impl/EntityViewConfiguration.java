@@ -42,6 +42,7 @@ public final class EntityViewConfiguration {
     private final NavigableSet<String> fetches;
     private final Map<String, Integer> batchSizeConfiguration;
     private final Map<String, BatchCorrelationMode> expectBatchCorrelationValuesConfiguration;
+    private final boolean orderedTupleReduction;
 
     public EntityViewConfiguration(FullQueryBuilder<?, ?> criteriaBuilder, ExpressionFactory expressionFactory, ViewJpqlMacro viewJpqlMacro, EmbeddingViewJpqlMacro embeddingViewJpqlMacro, Map<String, Object> optionalParameters, Map<String, Object> properties, Collection<String> fetches, String attributePath) {
         this(criteriaBuilder, expressionFactory, viewJpqlMacro, embeddingViewJpqlMacro, optionalParameters, properties, getFetches(fetches, attributePath));
@@ -54,6 +55,7 @@ public final class EntityViewConfiguration {
     private EntityViewConfiguration(FullQueryBuilder<?, ?> criteriaBuilder, ExpressionFactory expressionFactory, ViewJpqlMacro viewJpqlMacro, EmbeddingViewJpqlMacro embeddingViewJpqlMacro, Map<String, Object> optionalParameters, Map<String, Object> properties, NavigableSet<String> fetches) {
         Map<String, Integer> batchSizeConfiguration = new HashMap<String, Integer>(properties.size());
         Map<String, BatchCorrelationMode> expectBatchCorrelationValuesConfiguration = new HashMap<>(properties.size());
+        boolean orderedTupleReduction = false;
 
         for (Map.Entry<String, Object> entry : properties.entrySet()) {
             String key = entry.getKey();
@@ -87,6 +89,8 @@ public final class EntityViewConfiguration {
                     key = key.substring(ConfigurationProperties.EXPECT_BATCH_MODE.length() + 1);
                     expectBatchCorrelationValuesConfiguration.put(key, value);
                 }
+            } else if (ConfigurationProperties.ORDERED_TUPLE_REDUCTION.equals(key)) {
+                orderedTupleReduction = getBoolean(key, entry.getValue());
             }
         }
 
@@ -98,6 +102,7 @@ public final class EntityViewConfiguration {
         this.fetches = fetches;
         this.batchSizeConfiguration = Collections.unmodifiableMap(batchSizeConfiguration);
         this.expectBatchCorrelationValuesConfiguration = Collections.unmodifiableMap(expectBatchCorrelationValuesConfiguration);
+        this.orderedTupleReduction = orderedTupleReduction;
         this.criteriaBuilder.registerMacro("view", viewJpqlMacro);
         this.criteriaBuilder.registerMacro("embedding_view", embeddingViewJpqlMacro);
     }
@@ -111,6 +116,7 @@ public final class EntityViewConfiguration {
         this.fetches = fetches;
         this.batchSizeConfiguration = original.batchSizeConfiguration;
         this.expectBatchCorrelationValuesConfiguration = original.expectBatchCorrelationValuesConfiguration;
+        this.orderedTupleReduction = original.orderedTupleReduction;
     }
 
     private static NavigableSet<String> getFetches(Collection<String> fetches, String attributePath) {
@@ -289,6 +295,10 @@ public final class EntityViewConfiguration {
         return getExpectBatchCorrelationValues(attributePath, BatchCorrelationMode.VALUES);
     }
 
+    public boolean hasExpectBatchCorrelationValues(String attributePath) {
+        return expectBatchCorrelationValuesConfiguration.containsKey(attributePath) || expectBatchCorrelationValuesConfiguration.containsKey("");
+    }
+
     private BatchCorrelationMode getExpectBatchCorrelationValues(String attributePath, BatchCorrelationMode defaultValue) {
         BatchCorrelationMode value = expectBatchCorrelationValuesConfiguration.get(attributePath);
         if (value == null) {
@@ -301,6 +311,20 @@ public final class EntityViewConfiguration {
         return value;
     }
 
+    public boolean isOrderedTupleReduction() {
+        return orderedTupleReduction;
+    }
+
+    private static boolean getBoolean(String key, Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        } else if (value instanceof String) {
+            return Boolean.parseBoolean((String) value);
+        }
+
+        throw new IllegalArgumentException("Invalid boolean configuration for key: " + key);
+    }
+
     private BatchCorrelationMode getExpectBatchCorrelationValues(String key, Object value) {
         BatchCorrelationMode val = null;
         if (value instanceof Boolean) {
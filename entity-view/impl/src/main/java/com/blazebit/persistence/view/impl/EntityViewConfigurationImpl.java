@@ -13,6 +13,7 @@ import com.blazebit.persistence.view.impl.metamodel.MetamodelBootContext;
 import com.blazebit.persistence.view.impl.metamodel.MetamodelBootContextImpl;
 import com.blazebit.persistence.view.impl.metamodel.MappingReader;
 import com.blazebit.persistence.view.impl.type.MutableBasicUserTypeRegistry;
+import com.blazebit.persistence.view.spi.PostCommitListenerErrorHandler;
 import com.blazebit.persistence.view.spi.TransactionSupport;
 import com.blazebit.persistence.view.spi.type.BasicUserType;
 import com.blazebit.persistence.view.spi.EntityViewConfiguration;
@@ -40,6 +41,7 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
 /**
  *
@@ -54,6 +56,9 @@ public class EntityViewConfigurationImpl implements EntityViewConfiguration {
     private final Map<Class<?>, Object> typeTestValues = new HashMap<>();
     private Properties properties = new Properties();
     private TransactionSupport transactionSupport;
+    private Executor postCommitListenerExecutor;
+    private PostCommitListenerErrorHandler postCommitListenerErrorHandler;
+    private Executor templateWarmupExecutor;
     private Map<String, Object> optionalParameters = new HashMap<>();
 
     public EntityViewConfigurationImpl() {
@@ -71,6 +76,13 @@ public class EntityViewConfigurationImpl implements EntityViewConfiguration {
         properties.put(ConfigurationProperties.STATIC_IMPLEMENTATION_SCANNING_DISABLED, "false");
         properties.put(ConfigurationProperties.STATIC_METAMODEL_SCANNING_DISABLED, "false");
         properties.put(ConfigurationProperties.CREATE_EMPTY_FLAT_VIEWS, "true");
+        properties.put(ConfigurationProperties.FETCH_STATISTICS_ENABLED, "false");
+        properties.put(ConfigurationProperties.LAZY_LOADING, "false");
+        properties.put(ConfigurationProperties.BOOT_PARALLELISM, "1");
+        properties.put(ConfigurationProperties.TEMPLATE_WARMUP_VIEWS, "");
+        properties.put(ConfigurationProperties.FETCH_STATISTICS_MIN_EXECUTIONS, "10");
+        properties.put(ConfigurationProperties.FETCH_STATISTICS_MULTISET_MAX_AVERAGE_SIZE, "10");
+        properties.put(ConfigurationProperties.FETCH_STATISTICS_SELECT_MIN_AVERAGE_ROOTS, "100");
 
         typeTestValues.put(boolean.class, true);
         typeTestValues.put(byte.class, Byte.MAX_VALUE);
@@ -155,6 +167,14 @@ public class EntityViewConfigurationImpl implements EntityViewConfiguration {
         return this;
     }
 
+    @Override
+    public EntityViewConfiguration addEntityViewsFromIndex(ClassLoader classLoader) {
+        for (Class<?> entityViewClass : EntityViewIndex.loadEntityViewClasses(classLoader)) {
+            createEntityViewMapping(entityViewClass);
+        }
+        return this;
+    }
+
     @Override
     public EntityViewMapping createEntityViewMapping(Class<?> clazz) {
         return annotationMappingReader.readViewMapping(clazz);
@@ -312,6 +332,39 @@ public class EntityViewConfigurationImpl implements EntityViewConfiguration {
         return this;
     }
 
+    @Override
+    public Executor getPostCommitListenerExecutor() {
+        return postCommitListenerExecutor;
+    }
+
+    @Override
+    public EntityViewConfiguration setPostCommitListenerExecutor(Executor executor) {
+        this.postCommitListenerExecutor = executor;
+        return this;
+    }
+
+    @Override
+    public PostCommitListenerErrorHandler getPostCommitListenerErrorHandler() {
+        return postCommitListenerErrorHandler;
+    }
+
+    @Override
+    public EntityViewConfiguration setPostCommitListenerErrorHandler(PostCommitListenerErrorHandler errorHandler) {
+        this.postCommitListenerErrorHandler = errorHandler;
+        return this;
+    }
+
+    @Override
+    public Executor getTemplateWarmupExecutor() {
+        return templateWarmupExecutor;
+    }
+
+    @Override
+    public EntityViewConfiguration setTemplateWarmupExecutor(Executor executor) {
+        this.templateWarmupExecutor = executor;
+        return this;
+    }
+
     @Override
     public Map<String, Object> getOptionalParameters() {
         return optionalParameters;
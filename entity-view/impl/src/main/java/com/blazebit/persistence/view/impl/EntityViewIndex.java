@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * Reads the entity view indexes generated by the annotation processor, which list the binary names of the entity views of a compilation unit.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public final class EntityViewIndex {
+
+    public static final String RESOURCE_NAME = "META-INF/blaze-persistence/entity-views.idx";
+    private static final int VERSION = 1;
+    private static final String VERSION_PREFIX = "version=";
+
+    private EntityViewIndex() {
+    }
+
+    /**
+     * Loads the entity view classes of all indexes that can be found through the given class loader.
+     *
+     * @param classLoader The class loader to use for finding the indexes and loading the classes
+     * @return The entity view classes
+     * @throws IllegalArgumentException If no index can be found
+     * @throws IllegalStateException If an index can't be read, has an unsupported version or lists a class that can't be loaded
+     */
+    public static List<Class<?>> loadEntityViewClasses(ClassLoader classLoader) {
+        List<Class<?>> entityViewClasses = new ArrayList<>();
+        Enumeration<URL> resources;
+        try {
+            resources = classLoader.getResources(RESOURCE_NAME);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not lookup the entity view indexes", ex);
+        }
+        if (!resources.hasMoreElements()) {
+            throw new IllegalArgumentException("No entity view index '" + RESOURCE_NAME + "' could be found. Please enable the 'generateIndex' option of the entity view annotation processor!");
+        }
+
+        while (resources.hasMoreElements()) {
+            URL url = resources.nextElement();
+            List<String> classNames;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                classNames = readClassNames(reader, url.toString());
+            } catch (IOException ex) {
+                throw new IllegalStateException("Could not read the entity view index " + url, ex);
+            }
+            for (String className : classNames) {
+                try {
+                    entityViewClasses.add(Class.forName(className, false, classLoader));
+                } catch (ClassNotFoundException ex) {
+                    throw new IllegalStateException("The entity view class '" + className + "' listed in the entity view index " + url + " could not be found. The index is probably outdated and should be regenerated!", ex);
+                }
+            }
+        }
+
+        return entityViewClasses;
+    }
+
+    static List<String> readClassNames(BufferedReader reader, String source) throws IOException {
+        List<String> classNames = new ArrayList<>();
+        boolean versionRead = false;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.charAt(0) == '#') {
+                continue;
+            }
+            if (!versionRead) {
+                if (!line.startsWith(VERSION_PREFIX)) {
+                    throw new IllegalStateException("The entity view index " + source + " does not start with a version!");
+                }
+                String version = line.substring(VERSION_PREFIX.length());
+                if (!Integer.toString(VERSION).equals(version)) {
+                    throw new IllegalStateException("The entity view index " + source + " has the unsupported version " + version + " but only version " + VERSION + " is supported. Please regenerate the index with a matching annotation processor version!");
+                }
+                versionRead = true;
+            } else {
+                classNames.add(line);
+            }
+        }
+
+        return classNames;
+    }
+}
@@ -47,6 +47,7 @@ import com.blazebit.persistence.view.StaticMetamodel;
 import com.blazebit.persistence.view.StaticRelation;
 import com.blazebit.persistence.view.ViewFilterProvider;
 import com.blazebit.persistence.view.ViewTransition;
+import com.blazebit.persistence.view.change.ChangePatchWriter;
 import com.blazebit.persistence.view.change.SingularChangeModel;
 import com.blazebit.persistence.view.filter.BetweenFilter;
 import com.blazebit.persistence.view.filter.ContainsFilter;
@@ -63,6 +64,7 @@ import com.blazebit.persistence.view.filter.StartsWithFilter;
 import com.blazebit.persistence.view.filter.StartsWithIgnoreCaseFilter;
 import com.blazebit.persistence.view.impl.accessor.AttributeAccessor;
 import com.blazebit.persistence.view.impl.accessor.EntityIdAttributeAccessor;
+import com.blazebit.persistence.view.impl.change.ChangePatchExporter;
 import com.blazebit.persistence.view.impl.change.ViewChangeModel;
 import com.blazebit.persistence.view.impl.filter.BetweenFilterImpl;
 import com.blazebit.persistence.view.impl.filter.ContainsFilterImpl;
@@ -97,6 +99,7 @@ import com.blazebit.persistence.view.impl.update.DefaultUpdateContext;
 import com.blazebit.persistence.view.impl.update.EntityViewUpdater;
 import com.blazebit.persistence.view.impl.update.EntityViewUpdaterImpl;
 import com.blazebit.persistence.view.impl.update.Listeners;
+import com.blazebit.persistence.view.impl.update.PostCommitListenerDispatcher;
 import com.blazebit.persistence.view.impl.update.SimpleUpdateContext;
 import com.blazebit.persistence.view.impl.update.UpdateContext;
 import com.blazebit.persistence.view.impl.update.flush.CompositeAttributeFlusher;
@@ -141,7 +144,9 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -149,8 +154,17 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  *
@@ -159,6 +173,7 @@ import java.util.concurrent.ConcurrentMap;
  */
 public class EntityViewManagerImpl implements EntityViewManager {
 
+    private static final Logger LOG = Logger.getLogger(EntityViewManagerImpl.class.getName());
     private static final String META_MODEL_CLASS_NAME_SUFFIX = "_";
     private static final String RELATION_CLASS_NAME_SUFFIX = "Relation";
     private static final String MULTI_RELATION_CLASS_NAME_SUFFIX = "MultiRelation";
@@ -183,9 +198,12 @@ public class EntityViewManagerImpl implements EntityViewManager {
     private final ViewMetamodelImpl metamodel;
     private final ProxyFactory proxyFactory;
     private final TransactionSupport transactionSupport;
+    private final PostCommitListenerDispatcher postCommitListenerDispatcher;
     private final Map<String, Object> optionalParameters;
     private final boolean supportsTransientReference;
     private final ConcurrentMap<ViewTypeObjectBuilderTemplate.Key, ViewTypeObjectBuilderTemplate<?>> objectBuilderCache;
+    private final ConcurrentMap<ViewTypeObjectBuilderTemplate.Key, TemplateCreation> pendingTemplateCreations;
+    private volatile TemplateWarmup templateWarmup;
     private final ConcurrentMap<ManagedViewType<?>, EntityViewUpdaterImpl> entityViewUpdaterCache;
     private final ConcurrentMap<ContextAwareUpdaterKey, EntityViewUpdaterImpl> contextAwareEntityViewUpdaterCache;
     private final ConcurrentMap<ViewMapper.Key<?, ?>, ViewMapper<?, ?>> entityViewMappers;
@@ -201,6 +219,7 @@ public class EntityViewManagerImpl implements EntityViewManager {
     private final Map<ViewBuilderKey, Constructor<? extends EntityViewBuilder<?>>> viewBuilderClasses;
     private final boolean unsafeDisabled;
     private final boolean strictCascadingCheck;
+    private final boolean lazyLoading;
 
     public EntityViewManagerImpl(EntityViewConfigurationImpl config, CriteriaBuilderFactory cbf) {
         this.cbf = cbf;
@@ -212,8 +231,14 @@ public class EntityViewManagerImpl implements EntityViewManager {
         this.entityIdAccessor = new EntityIdAttributeAccessor(jpaProvider);
         this.unsafeDisabled = !Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.PROXY_UNSAFE_ALLOWED)));
         this.strictCascadingCheck = Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.UPDATER_STRICT_CASCADING_CHECK)));
-        this.proxyFactory = new ProxyFactory(unsafeDisabled, strictCascadingCheck, packageOpener);
+        this.lazyLoading = Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.LAZY_LOADING)));
+        this.proxyFactory = new ProxyFactory(unsafeDisabled, strictCascadingCheck, lazyLoading, packageOpener);
         this.transactionSupport = config.getTransactionSupport();
+        if (config.getPostCommitListenerExecutor() == null) {
+            this.postCommitListenerDispatcher = null;
+        } else {
+            this.postCommitListenerDispatcher = new PostCommitListenerDispatcher(this, config.getPostCommitListenerExecutor(), config.getPostCommitListenerErrorHandler());
+        }
         this.optionalParameters = Collections.unmodifiableMap(new HashMap<>(config.getOptionalParameters()));
         this.serializableDelegates = new ClassValue<EntityViewManager>() {
             @Override
@@ -239,7 +264,7 @@ public class EntityViewManagerImpl implements EntityViewManager {
             registeredFunctions.put(entry.getKey().toLowerCase(), entry.getValue());
         }
 
-        MetamodelBuildingContext context = new MetamodelBuildingContextImpl(
+        final MetamodelBuildingContext context = new MetamodelBuildingContextImpl(
                 config.getProperties(),
                 new DefaultBasicUserTypeRegistry(config.getUserTypeRegistry(), cbf),
                 entityMetamodel,
@@ -254,10 +279,12 @@ public class EntityViewManagerImpl implements EntityViewManager {
 
         ViewMetamodelImpl viewMetamodel = null;
         RuntimeException exception = null;
+        // The executor threads time out on their own, so it is fine if an error prevents the shutdown
+        ParallelBootExecutor bootExecutor = new ParallelBootExecutor(Integer.parseInt(String.valueOf(config.getProperty(ConfigurationProperties.BOOT_PARALLELISM))));
         Map<Class<?>, Object> typeTestValues = config.getTypeTestValues();
 
         try {
-            viewMetamodel = new ViewMetamodelImpl(entityMetamodel, context, typeTestValues, validateManagedTypes, validateExpressions);
+            viewMetamodel = new ViewMetamodelImpl(entityMetamodel, context, typeTestValues, validateManagedTypes, validateExpressions, bootExecutor);
         } catch (RuntimeException ex) {
             exception = ex;
         }
@@ -279,6 +306,7 @@ public class EntityViewManagerImpl implements EntityViewManager {
         this.metamodel = viewMetamodel;
         this.supportsTransientReference = jpaProvider.supportsTransientEntityAsParameter();
         this.objectBuilderCache = new ConcurrentHashMap<>();
+        this.pendingTemplateCreations = new ConcurrentHashMap<>();
         this.entityViewUpdaterCache = new ConcurrentHashMap<>();
         this.contextAwareEntityViewUpdaterCache = new ConcurrentHashMap<>();
         this.entityViewMappers = new ConcurrentHashMap<>();
@@ -422,31 +450,103 @@ public class EntityViewManagerImpl implements EntityViewManager {
 
         this.listeners = listeners;
 
+        // The eager loading of the views is independent, so it can be done in parallel
+        List<Runnable> eagerLoadingTasks = new ArrayList<>();
         if (Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.TEMPLATE_EAGER_LOADING)))) {
-            for (ViewTypeImpl<?> view : metamodel.views()) {
-                // TODO: Might be a good idea to let the view root be overridden or specified via the annotation
-                String probableViewRoot = StringUtils.firstToLower(view.getEntityClass().getSimpleName());
-                MacroConfigurationExpressionFactory macroAwareExpressionFactory = context.createMacroAwareExpressionFactory(probableViewRoot);
-                ViewJpqlMacro viewJpqlMacro = (ViewJpqlMacro) macroAwareExpressionFactory.getDefaultMacroConfiguration().get("VIEW").getState()[0];
-                EmbeddingViewJpqlMacro embeddingViewJpqlMacro = (EmbeddingViewJpqlMacro) macroAwareExpressionFactory.getDefaultMacroConfiguration().get("EMBEDDING_VIEW").getState()[0];
-                getTemplate(macroAwareExpressionFactory, view, null, null, viewJpqlMacro, null, embeddingViewJpqlMacro);
-
-                for (MappingConstructor<?> constructor : view.getConstructors()) {
-                    getTemplate(macroAwareExpressionFactory, view, (MappingConstructorImpl) constructor, null, viewJpqlMacro, null, embeddingViewJpqlMacro);
-                }
+            for (final ViewTypeImpl<?> view : metamodel.views()) {
+                eagerLoadingTasks.add(new Runnable() {
+                    @Override
+                    public void run() {
+                        loadTemplates(context, view);
+                    }
+                });
             }
         } else if (Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.PROXY_EAGER_LOADING)))) {
             // Loading template will always involve also loading the proxies, so we use else if
-            for (ViewType<?> view : metamodel.getViews()) {
-                proxyFactory.getProxy(this, (ManagedViewTypeImplementor<Object>) view);
+            for (final ViewType<?> view : metamodel.getViews()) {
+                eagerLoadingTasks.add(new Runnable() {
+                    @Override
+                    public void run() {
+                        proxyFactory.getProxy(EntityViewManagerImpl.this, (ManagedViewTypeImplementor<Object>) view);
+                    }
+                });
             }
         }
 
         if (Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.UPDATER_EAGER_LOADING)))) {
-            for (ManagedViewType<?> view : metamodel.getViews()) {
-                getUpdater(null, (ManagedViewTypeImplementor<?>) view, null, null, null);
+            for (final ManagedViewType<?> view : metamodel.getViews()) {
+                eagerLoadingTasks.add(new Runnable() {
+                    @Override
+                    public void run() {
+                        getUpdater(null, (ManagedViewTypeImplementor<?>) view, null, null, null);
+                    }
+                });
+            }
+        }
+
+        try {
+            bootExecutor.invokeAll(eagerLoadingTasks);
+        } finally {
+            bootExecutor.shutdown();
+        }
+        // Most proxies are generated at this point, so drop the class representations that were cached for the generation
+        proxyFactory.releaseClassPool();
+
+        // With eager template loading all templates are built already
+        Object templateWarmupViews = config.getProperty(ConfigurationProperties.TEMPLATE_WARMUP_VIEWS);
+        if (templateWarmupViews != null && !templateWarmupViews.toString().trim().isEmpty() && !Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.TEMPLATE_EAGER_LOADING)))) {
+            startTemplateWarmup(context, templateWarmupViews.toString().trim(), config.getTemplateWarmupExecutor());
+        }
+    }
+
+    private void loadTemplates(MetamodelBuildingContext context, ViewTypeImpl<?> view) {
+        // TODO: Might be a good idea to let the view root be overridden or specified via the annotation
+        String probableViewRoot = StringUtils.firstToLower(view.getEntityClass().getSimpleName());
+        MacroConfigurationExpressionFactory macroAwareExpressionFactory = context.createMacroAwareExpressionFactory(probableViewRoot);
+        ViewJpqlMacro viewJpqlMacro = (ViewJpqlMacro) macroAwareExpressionFactory.getDefaultMacroConfiguration().get("VIEW").getState()[0];
+        EmbeddingViewJpqlMacro embeddingViewJpqlMacro = (EmbeddingViewJpqlMacro) macroAwareExpressionFactory.getDefaultMacroConfiguration().get("EMBEDDING_VIEW").getState()[0];
+        getTemplate(macroAwareExpressionFactory, view, null, null, viewJpqlMacro, null, embeddingViewJpqlMacro);
+
+        for (MappingConstructor<?> constructor : view.getConstructors()) {
+            getTemplate(macroAwareExpressionFactory, view, (MappingConstructorImpl) constructor, null, viewJpqlMacro, null, embeddingViewJpqlMacro);
+        }
+    }
+
+    private void startTemplateWarmup(MetamodelBuildingContext context, String templateWarmupViews, Executor executor) {
+        List<ViewTypeImpl<?>> views = new ArrayList<>();
+        if ("*".equals(templateWarmupViews)) {
+            views.addAll(metamodel.views());
+        } else {
+            Set<String> viewClassNames = new HashSet<>();
+            for (String viewClassName : templateWarmupViews.split(",")) {
+                viewClassNames.add(viewClassName.trim());
+            }
+            for (ViewTypeImpl<?> view : metamodel.views()) {
+                if (viewClassNames.remove(view.getJavaType().getName())) {
+                    views.add(view);
+                }
             }
+            if (!viewClassNames.isEmpty()) {
+                LOG.warning("The following entity views configured for the template warmup are unknown: " + viewClassNames);
+            }
+        }
+
+        // The warmup must not delay the boot, so it runs in the background and relies on getTemplate to not build a template twice
+        ExecutorService ownedExecutor = null;
+        if (executor == null) {
+            ownedExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "entity-view-template-warmup");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            executor = ownedExecutor;
         }
+        TemplateWarmup templateWarmup = new TemplateWarmup(context, views, ownedExecutor);
+        this.templateWarmup = templateWarmup;
+        executor.execute(templateWarmup);
     }
 
     private static String getMetamodelClassName(Class<?> javaType) {
@@ -1044,6 +1144,17 @@ public class EntityViewManagerImpl implements EntityViewManager {
         return (SingularChangeModel<T>) new ViewChangeModel<>(viewType, updatableProxy, updater.getDirtyChecker());
     }
 
+    @Override
+    public void writeChangePatch(Object entityView, ChangePatchWriter writer) {
+        if (!(entityView instanceof DirtyStateTrackable)) {
+            throw new IllegalArgumentException("Change patch can only be written for updatable entity views that use dirty tracking! Switch to the LAZY or PARTIAL FlushMode instead!");
+        }
+        DirtyStateTrackable updatableProxy = (DirtyStateTrackable) entityView;
+        ManagedViewTypeImplementor<?> viewType = metamodel.managedViewOrError(updatableProxy.$$_getEntityViewClass());
+        EntityViewUpdater updater = getUpdater(null, viewType, null, null, null);
+        new ChangePatchExporter(metamodel, writer).write(updatableProxy, updater.getDirtyChecker());
+    }
+
     @Override
     public void update(EntityManager entityManager, Object view) {
         save(entityManager, view);
@@ -1074,6 +1185,16 @@ public class EntityViewManagerImpl implements EntityViewManager {
         updateTo(em, view, entity, true);
     }
 
+    @Override
+    public void saveAll(EntityManager em, Collection<?> views) {
+        updateAll(new DefaultUpdateContext(this, em, false, views), views);
+    }
+
+    @Override
+    public FlushOperationBuilder saveAllWith(EntityManager em, Collection<?> views) {
+        return new DefaultUpdateContext(this, em, false, views);
+    }
+
     @Override
     public void remove(EntityManager entityManager, Object view) {
         remove(new DefaultUpdateContext(this, entityManager, false, false, true, null, view, null), view);
@@ -1187,6 +1308,45 @@ public class EntityViewManagerImpl implements EntityViewManager {
         }
     }
 
+    public void updateAll(UpdateContext context, Collection<?> views) {
+        // Group adjacent views of the same type and dirty state, so that the entities required by the flush of a group can be loaded with a single query.
+        // Every view is still flushed on its own and views are never reordered, since a view might depend on a view that comes before it e.g. through a foreign key
+        List<List<Object>> groups = new ArrayList<>();
+        SaveGroupKey lastKey = null;
+        List<Object> currentGroup = null;
+        for (Object view : views) {
+            if (!(view instanceof MutableStateTrackable)) {
+                throw new IllegalArgumentException("Can't update non-updatable entity views: " + view);
+            }
+            MutableStateTrackable updatableProxy = (MutableStateTrackable) view;
+            SaveGroupKey key = new SaveGroupKey(updatableProxy.$$_getEntityViewClass(), updatableProxy.$$_isNew(), updatableProxy.$$_getDirty());
+            if (!key.equals(lastKey)) {
+                currentGroup = new ArrayList<>();
+                groups.add(currentGroup);
+                lastKey = key;
+            }
+            currentGroup.add(view);
+        }
+
+        for (int j = 0; j < groups.size(); j++) {
+            List<Object> group = groups.get(j);
+            if (group.size() > 1) {
+                // Load the entities required for an entity flush of the group with a single query, instead of one query per view
+                MutableStateTrackable updatableProxy = (MutableStateTrackable) group.get(0);
+                EntityViewUpdater updater = getUpdater(null, metamodel.managedViewOrError(updatableProxy.$$_getEntityViewClass()), null, null, null);
+                try {
+                    updater.loadEntities(context, group);
+                } catch (Throwable t) {
+                    context.getTransactionAccess().markRollbackOnly();
+                    ExceptionUtils.doThrow(t);
+                }
+            }
+            for (int i = 0; i < group.size(); i++) {
+                update(context, group.get(i));
+            }
+        }
+    }
+
     public void updateTo(UpdateContext context, Object view, Object entity) {
         if (!(view instanceof MutableStateTrackable)) {
             throw new IllegalArgumentException("Can't update non-updatable entity views: " + view);
@@ -1233,6 +1393,14 @@ public class EntityViewManagerImpl implements EntityViewManager {
         return unsafeDisabled;
     }
 
+    public boolean isLazyLoading() {
+        return lazyLoading;
+    }
+
+    public PostCommitListenerDispatcher getPostCommitListenerDispatcher() {
+        return postCommitListenerDispatcher;
+    }
+
     public boolean supportsTransientReference() {
         return supportsTransientReference;
     }
@@ -1370,15 +1538,41 @@ public class EntityViewManagerImpl implements EntityViewManager {
         ViewTypeObjectBuilderTemplate<?> value = objectBuilderCache.get(key);
 
         if (value == null) {
-            value = key.createValue(this, proxyFactory, viewJpqlMacro, embeddingViewJpqlMacro, ef);
-            ViewTypeObjectBuilderTemplate<?> oldValue = objectBuilderCache.putIfAbsent(key, value);
+            value = createTemplate(key, ef, viewJpqlMacro, embeddingViewJpqlMacro);
+        }
+
+        return value;
+    }
 
-            if (oldValue != null) {
-                value = oldValue;
+    private ViewTypeObjectBuilderTemplate<?> createTemplate(final ViewTypeObjectBuilderTemplate.Key key, final MacroConfigurationExpressionFactory ef, final ViewJpqlMacro viewJpqlMacro, final EmbeddingViewJpqlMacro embeddingViewJpqlMacro) {
+        TemplateCreation creation = new TemplateCreation(new Callable<ViewTypeObjectBuilderTemplate<?>>() {
+            @Override
+            public ViewTypeObjectBuilderTemplate<?> call() {
+                // The template might have been created between the cache lookup and the registration of this creation
+                ViewTypeObjectBuilderTemplate<?> value = objectBuilderCache.get(key);
+                if (value == null) {
+                    value = key.createValue(EntityViewManagerImpl.this, proxyFactory, viewJpqlMacro, embeddingViewJpqlMacro, ef);
+                    objectBuilderCache.put(key, value);
+                }
+                return value;
+            }
+        });
+        TemplateCreation existingCreation = pendingTemplateCreations.putIfAbsent(key, creation);
+        if (existingCreation != null) {
+            if (existingCreation.thread == Thread.currentThread()) {
+                // A thread can't wait for a creation it is running itself, so create a separate template
+                return key.createValue(this, proxyFactory, viewJpqlMacro, embeddingViewJpqlMacro, ef);
             }
+            // Only one thread builds a template, the others wait for the result
+            return existingCreation.await();
         }
 
-        return value;
+        try {
+            creation.run();
+            return creation.await();
+        } finally {
+            pendingTemplateCreations.remove(key, creation);
+        }
     }
 
     public void addUpdater(Map<Object, EntityViewUpdaterImpl> localCache, ManagedViewTypeImplementor<?> viewType, ManagedViewTypeImplementor<?> declaredViewType, EntityViewUpdaterImpl owner, String ownerMapping, EntityViewUpdaterImpl updater) {
@@ -1453,6 +1647,11 @@ public class EntityViewManagerImpl implements EntityViewManager {
 
     @Override
     public void close() {
+        TemplateWarmup templateWarmup = this.templateWarmup;
+        if (templateWarmup != null) {
+            templateWarmup.cancel();
+            this.templateWarmup = null;
+        }
         proxyFactory.clear();
     }
 
@@ -1506,6 +1705,50 @@ public class EntityViewManagerImpl implements EntityViewManager {
         }
     }
 
+    /**
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static class SaveGroupKey {
+        private final Class<?> entityViewClass;
+        private final boolean isNew;
+        private final long[] dirty;
+
+        public SaveGroupKey(Class<?> entityViewClass, boolean isNew, long[] dirty) {
+            this.entityViewClass = entityViewClass;
+            this.isNew = isNew;
+            this.dirty = dirty;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SaveGroupKey)) {
+                return false;
+            }
+
+            SaveGroupKey that = (SaveGroupKey) o;
+
+            if (isNew != that.isNew) {
+                return false;
+            }
+            if (!entityViewClass.equals(that.entityViewClass)) {
+                return false;
+            }
+            return Arrays.equals(dirty, that.dirty);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = entityViewClass.hashCode();
+            result = 31 * result + (isNew ? 1 : 0);
+            result = 31 * result + Arrays.hashCode(dirty);
+            return result;
+        }
+    }
+
     /**
      * @author Christian Beikov
      * @since 1.4.0
@@ -1558,6 +1801,87 @@ public class EntityViewManagerImpl implements EntityViewManager {
         }
     }
 
+    /**
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private final class TemplateWarmup implements Runnable {
+
+        private final List<ViewTypeImpl<?>> views;
+        private final ExecutorService ownedExecutor;
+        // The boot context is released when the warmup is done or cancelled
+        private volatile MetamodelBuildingContext context;
+
+        public TemplateWarmup(MetamodelBuildingContext context, List<ViewTypeImpl<?>> views, ExecutorService ownedExecutor) {
+            this.context = context;
+            this.views = views;
+            this.ownedExecutor = ownedExecutor;
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (ViewTypeImpl<?> view : views) {
+                    MetamodelBuildingContext context = this.context;
+                    if (context == null) {
+                        break;
+                    }
+                    try {
+                        loadTemplates(context, view);
+                    } catch (RuntimeException ex) {
+                        LOG.log(Level.WARNING, "Error during the template warmup for the entity view " + view.getJavaType().getName(), ex);
+                    }
+                }
+            } finally {
+                context = null;
+                if (ownedExecutor != null) {
+                    ownedExecutor.shutdown();
+                }
+            }
+        }
+
+        public void cancel() {
+            context = null;
+            if (ownedExecutor != null) {
+                ownedExecutor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static final class TemplateCreation extends FutureTask<ViewTypeObjectBuilderTemplate<?>> {
+
+        private final Thread thread = Thread.currentThread();
+
+        public TemplateCreation(Callable<ViewTypeObjectBuilderTemplate<?>> callable) {
+            super(callable);
+        }
+
+        public ViewTypeObjectBuilderTemplate<?> await() {
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    try {
+                        return get();
+                    } catch (InterruptedException ex) {
+                        // The template is needed to continue, so we wait uninterruptibly and restore the interrupt status afterwards
+                        interrupted = true;
+                    }
+                }
+            } catch (ExecutionException ex) {
+                ExceptionUtils.doThrow(ex.getCause());
+                return null;
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
     /**
      * @author Christian Beikov
      * @since 1.5.0
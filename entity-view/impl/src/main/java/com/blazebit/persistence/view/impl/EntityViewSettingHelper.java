@@ -9,6 +9,7 @@ import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.FullQueryBuilder;
 import com.blazebit.persistence.HavingBuilder;
 import com.blazebit.persistence.KeysetPage;
+import com.blazebit.persistence.ObjectBuilder;
 import com.blazebit.persistence.PaginatedCriteriaBuilder;
 import com.blazebit.persistence.Path;
 import com.blazebit.persistence.PredicateBuilder;
@@ -26,6 +27,7 @@ import com.blazebit.persistence.view.impl.metamodel.AbstractMethodAttribute;
 import com.blazebit.persistence.view.impl.metamodel.ManagedViewTypeImplementor;
 import com.blazebit.persistence.view.impl.metamodel.MappingConstructorImpl;
 import com.blazebit.persistence.view.impl.metamodel.ViewTypeImplementor;
+import com.blazebit.persistence.view.impl.objectbuilder.LazyAttributeLoadingObjectBuilder;
 import com.blazebit.persistence.view.metamodel.AttributeFilterMapping;
 import com.blazebit.persistence.view.metamodel.FlatViewType;
 import com.blazebit.persistence.view.metamodel.MappingAttribute;
@@ -105,7 +107,15 @@ public final class EntityViewSettingHelper {
         entityViewRoot = root.getPath();
         Q queryBuilder = getQueryBuilder(setting, criteriaBuilder, entityViewRoot, managedView, setting.getProperties());
         EntityViewConfiguration configuration = new EntityViewConfiguration(queryBuilder, ef, new MutableViewJpqlMacro(), new MutableEmbeddingViewJpqlMacro(), optionalParameters, setting.getProperties(), requestedFetches, managedView);
-        queryBuilder.selectNew(evm.createObjectBuilder(managedView, mappingConstructor, root.getJavaType(), entityViewRoot, null, criteriaBuilder, configuration, 0, 0, false));
+        ObjectBuilder<Object> objectBuilder = (ObjectBuilder<Object>) evm.createObjectBuilder(managedView, mappingConstructor, root.getJavaType(), entityViewRoot, null, criteriaBuilder, configuration, 0, 0, false);
+        if (evm.isLazyLoading() && !requestedFetches.isEmpty() && getBooleanProperty(setting.getProperties(), ConfigurationProperties.LAZY_LOADING, true)) {
+            Set<String> lazyAttributes = getLazyAttributes(managedView, configuration);
+            if (!lazyAttributes.isEmpty()) {
+                int batchSize = configuration.getBatchSize("", managedView.getDefaultBatchSize());
+                objectBuilder = new LazyAttributeLoadingObjectBuilder<>(objectBuilder, evm, criteriaBuilder.getEntityManager(), (ViewTypeImplementor<?>) managedView, optionalParameters, lazyAttributes, batchSize);
+            }
+        }
+        queryBuilder.selectNew(objectBuilder);
         Set<String> fetches = configuration.getFetches();
         applyAttributeFilters(setting, evm, queryBuilder, entityViewRoot, fetches, managedView);
         applyViewFilters(setting, evm, queryBuilder, managedView);
@@ -114,6 +124,25 @@ public final class EntityViewSettingHelper {
         return queryBuilder;
     }
 
+    private static Set<String> getLazyAttributes(ManagedViewTypeImplementor<?> managedView, EntityViewConfiguration configuration) {
+        if (!(managedView instanceof ViewType<?>)) {
+            return Collections.emptySet();
+        }
+        ViewType<?> viewType = (ViewType<?>) managedView;
+        SingularAttribute<?, ?> idAttribute = (SingularAttribute<?, ?>) viewType.getIdAttribute();
+        // The lazy loader queries by the id values of the objects, which only works if these are the plain entity ids
+        if (idAttribute.isSubview() || idAttribute.getType().getConvertedType() != null) {
+            return Collections.emptySet();
+        }
+        Set<String> lazyAttributes = new HashSet<>();
+        for (MethodAttribute<?, ?> attribute : managedView.getAttributes()) {
+            if (attribute != idAttribute && attribute != viewType.getVersionAttribute() && (attribute.isCollection() || attribute.isSubview()) && !configuration.hasSubFetches(attribute.getName())) {
+                lazyAttributes.add(attribute.getName());
+            }
+        }
+        return lazyAttributes;
+    }
+
     private static <T, Q extends FullQueryBuilder<T, Q>> Q getQueryBuilder(EntityViewSetting<T, Q> setting, CriteriaBuilder<?> criteriaBuilder, String entityViewRoot, ManagedViewTypeImplementor<?> managedView, Map<String, Object> properties) {
         if (setting.isPaginated()) {
             KeysetPage keysetPage = setting.getKeysetPage();
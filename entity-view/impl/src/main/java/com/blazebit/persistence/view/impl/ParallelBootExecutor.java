@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl;
+
+import com.blazebit.exception.ExceptionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs independent tasks of the entity view boot on a thread pool of a configurable size.
+ * With a parallelism of 1, tasks run on the calling thread. Failures are rethrown in task order,
+ * so that the error reporting does not depend on the thread scheduling.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public final class ParallelBootExecutor {
+
+    private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+
+    private final ThreadPoolExecutor executor;
+
+    public ParallelBootExecutor(int parallelism) {
+        if (parallelism < 1) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+        if (parallelism == 1) {
+            this.executor = null;
+        } else {
+            this.executor = new ThreadPoolExecutor(parallelism, parallelism, 1L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new BootThreadFactory());
+            // Let the threads die even if the boot fails before the executor is shut down
+            this.executor.allowCoreThreadTimeOut(true);
+        }
+    }
+
+    public boolean isParallel() {
+        return executor != null;
+    }
+
+    /**
+     * Runs the given tasks and waits for their completion. The first failure in task order is rethrown.
+     *
+     * @param tasks The tasks to run
+     */
+    public void invokeAll(List<? extends Runnable> tasks) {
+        if (executor == null || tasks.size() < 2) {
+            for (int i = 0; i < tasks.size(); i++) {
+                tasks.get(i).run();
+            }
+            return;
+        }
+
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            futures.add(executor.submit(tasks.get(i)));
+        }
+        Throwable failure = null;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get();
+            } catch (ExecutionException ex) {
+                if (failure == null) {
+                    failure = ex.getCause();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                for (int j = i; j < futures.size(); j++) {
+                    futures.get(j).cancel(true);
+                }
+                throw new IllegalStateException("Interrupted while waiting for the entity view boot tasks", ex);
+            }
+        }
+        if (failure != null) {
+            ExceptionUtils.doThrow(failure);
+        }
+    }
+
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static final class BootThreadFactory implements ThreadFactory {
+
+        private final String namePrefix = "entity-view-boot-" + POOL_COUNTER.incrementAndGet() + "-";
+        private final AtomicInteger threadCounter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, namePrefix + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl.change;
+
+import com.blazebit.persistence.view.change.ChangePatchWriter;
+import com.blazebit.persistence.view.impl.collection.RecordingCollection;
+import com.blazebit.persistence.view.impl.collection.RecordingList;
+import com.blazebit.persistence.view.impl.collection.RecordingMap;
+import com.blazebit.persistence.view.impl.metamodel.ManagedViewTypeImplementor;
+import com.blazebit.persistence.view.impl.metamodel.ViewMetamodelImpl;
+import com.blazebit.persistence.view.spi.type.DirtyStateTrackable;
+import com.blazebit.persistence.view.spi.type.EntityViewProxy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes the changes of an entity view to a {@link ChangePatchWriter} by following the dirty state of the objects directly,
+ * without creating change model objects. Only dirty attributes and elements are visited.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public final class ChangePatchExporter {
+
+    private final ViewMetamodelImpl metamodel;
+    private final ChangePatchWriter writer;
+    private final StringBuilder path = new StringBuilder();
+
+    public ChangePatchExporter(ViewMetamodelImpl metamodel, ChangePatchWriter writer) {
+        this.metamodel = metamodel;
+        this.writer = writer;
+    }
+
+    public void write(DirtyStateTrackable object, DirtyChecker<? extends DirtyStateTrackable> dirtyChecker) {
+        path.setLength(0);
+        writeView(object, dirtyChecker);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeView(DirtyStateTrackable object, DirtyChecker<? extends DirtyStateTrackable> dirtyChecker) {
+        if (!object.$$_isDirty()) {
+            return;
+        }
+        ManagedViewTypeImplementor<?> viewType = metamodel.managedViewOrError(object.$$_getEntityViewClass());
+        Object[] initialState = object.$$_getInitialState();
+        Object[] state = object.$$_getMutableState();
+        DirtyChecker<Object>[] nestedCheckers = ((DirtyChecker<DirtyStateTrackable>) dirtyChecker).getNestedCheckers(object);
+        int pathLength = path.length();
+        for (int i = 0; i < state.length; i++) {
+            if (object.$$_isDirty(i)) {
+                DirtyChecker<Object> nestedChecker = nestedCheckers[i];
+                DirtyChecker.DirtyKind dirtyKind = nestedChecker.getDirtyKind(initialState[i], state[i]);
+                if (dirtyKind != DirtyChecker.DirtyKind.NONE) {
+                    appendSegment(viewType.getMutableAttribute(i).getName());
+                    if (dirtyKind == DirtyChecker.DirtyKind.UPDATED) {
+                        writer.replace(path.toString(), state[i]);
+                    } else {
+                        writeMutated(state[i], nestedChecker);
+                    }
+                    path.setLength(pathLength);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeMutated(Object value, DirtyChecker<Object> dirtyChecker) {
+        if (value instanceof RecordingCollection<?, ?>) {
+            writeCollection((RecordingCollection<?, Object>) value, dirtyChecker);
+        } else if (value instanceof RecordingMap<?, ?, ?>) {
+            writeMap((RecordingMap<?, Object, Object>) value, dirtyChecker);
+        } else if (value instanceof DirtyStateTrackable) {
+            writeView((DirtyStateTrackable) value, (DirtyChecker<DirtyStateTrackable>) (DirtyChecker<?>) dirtyChecker);
+        } else {
+            // A mutated value of a mutable basic type
+            writer.replace(path.toString(), value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeCollection(RecordingCollection<?, Object> collection, DirtyChecker<Object> dirtyChecker) {
+        if (collection instanceof RecordingList<?>) {
+            writeList(collection, dirtyChecker);
+            return;
+        }
+        Set<Object> addedElements = collection.getAddedElements();
+        String collectionPath = path.toString();
+        for (Object removedElement : collection.getRemovedElements()) {
+            writer.remove(collectionPath, removedElement);
+        }
+        for (Object addedElement : addedElements) {
+            writer.add(collectionPath + "/-", addedElement);
+        }
+
+        int pathLength = path.length();
+        for (Object element : collection.getDelegate()) {
+            if (!addedElements.contains(element) && element instanceof DirtyStateTrackable && ((DirtyStateTrackable) element).$$_isDirty() && dirtyChecker instanceof PluralDirtyChecker<?, ?>) {
+                appendSegment(String.valueOf(((EntityViewProxy) element).$$_getId()));
+                writeElement(element, ((PluralDirtyChecker<?, Object>) dirtyChecker).getElementDirtyChecker(element));
+                path.setLength(pathLength);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeList(RecordingCollection<?, Object> collection, DirtyChecker<Object> dirtyChecker) {
+        List<Object> list = (List<Object>) collection.getDelegate();
+        Object initialVersion = collection.getInitialVersion();
+        boolean[] added = new boolean[list.size()];
+        int pathLength = path.length();
+        // The initial version is the collection itself if there are no structural changes
+        if (initialVersion != collection) {
+            List<Object> initialList = (List<Object>) initialVersion;
+            boolean[] retained = new boolean[initialList.size()];
+            // Match the current elements in order to the initial elements by identity, so that duplicates are handled per position
+            int initialIndex = 0;
+            for (int i = 0; i < list.size(); i++) {
+                Object element = list.get(i);
+                int matchIndex = -1;
+                for (int j = initialIndex; j < initialList.size(); j++) {
+                    if (initialList.get(j) == element) {
+                        matchIndex = j;
+                        break;
+                    }
+                }
+                if (matchIndex == -1) {
+                    added[i] = true;
+                } else {
+                    retained[matchIndex] = true;
+                    initialIndex = matchIndex + 1;
+                }
+            }
+
+            // Remove from the end so that the indexes of the preceding removals stay valid
+            for (int j = retained.length - 1; j >= 0; j--) {
+                if (!retained[j]) {
+                    appendSegment(Integer.toString(j));
+                    writer.remove(path.toString(), initialList.get(j));
+                    path.setLength(pathLength);
+                }
+            }
+        }
+
+        // After the removals, adding in ascending order results in the current indexes
+        for (int i = 0; i < list.size(); i++) {
+            Object element = list.get(i);
+            if (added[i]) {
+                appendSegment(Integer.toString(i));
+                writer.add(path.toString(), element);
+                path.setLength(pathLength);
+            } else if (element instanceof DirtyStateTrackable && ((DirtyStateTrackable) element).$$_isDirty() && dirtyChecker instanceof PluralDirtyChecker<?, ?>) {
+                appendSegment(Integer.toString(i));
+                writeElement(element, ((PluralDirtyChecker<?, Object>) dirtyChecker).getElementDirtyChecker(element));
+                path.setLength(pathLength);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeMap(RecordingMap<?, Object, Object> map, DirtyChecker<Object> dirtyChecker) {
+        Map<Object, Object> delegate = (Map<Object, Object>) map.getDelegate();
+        Object initialVersion = map.getInitialVersion();
+        // The initial version is the map itself if there are no structural changes
+        Map<Object, Object> initialMap = initialVersion == map ? null : (Map<Object, Object>) initialVersion;
+        int pathLength = path.length();
+        if (initialMap != null) {
+            for (Map.Entry<Object, Object> entry : initialMap.entrySet()) {
+                if (!delegate.containsKey(entry.getKey())) {
+                    appendSegment(keySegment(entry.getKey()));
+                    writer.remove(path.toString(), entry.getValue());
+                    path.setLength(pathLength);
+                }
+            }
+        }
+
+        for (Map.Entry<Object, Object> entry : delegate.entrySet()) {
+            Object key = entry.getKey();
+            Object value = entry.getValue();
+            if (initialMap != null && !initialMap.containsKey(key)) {
+                appendSegment(keySegment(key));
+                writer.add(path.toString(), value);
+                path.setLength(pathLength);
+            } else if (initialMap != null && initialMap.get(key) != value) {
+                appendSegment(keySegment(key));
+                writer.replace(path.toString(), value);
+                path.setLength(pathLength);
+            } else if (value instanceof DirtyStateTrackable && ((DirtyStateTrackable) value).$$_isDirty() && dirtyChecker instanceof PluralDirtyChecker<?, ?>) {
+                appendSegment(keySegment(key));
+                writeElement(value, ((PluralDirtyChecker<?, Object>) dirtyChecker).getElementDirtyChecker(value));
+                path.setLength(pathLength);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeElement(Object element, DirtyChecker<Object> elementDirtyChecker) {
+        if (elementDirtyChecker != null) {
+            writeView((DirtyStateTrackable) element, (DirtyChecker<DirtyStateTrackable>) (DirtyChecker<?>) elementDirtyChecker);
+        }
+    }
+
+    private static String keySegment(Object key) {
+        if (key instanceof EntityViewProxy) {
+            return String.valueOf(((EntityViewProxy) key).$$_getId());
+        }
+        return String.valueOf(key);
+    }
+
+    private void appendSegment(String segment) {
+        path.append('/');
+        // Escape according to the JSON Pointer specification
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c == '~') {
+                path.append("~0");
+            } else if (c == '/') {
+                path.append("~1");
+            } else {
+                path.append(c);
+            }
+        }
+    }
+}
@@ -16,12 +16,17 @@ import com.blazebit.persistence.view.metamodel.MappingAttribute;
 import com.blazebit.persistence.view.metamodel.ViewType;
 
 import javax.persistence.EntityManager;
+import javax.persistence.EntityNotFoundException;
 import javax.persistence.metamodel.SingularAttribute;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  *
@@ -108,6 +113,34 @@ public abstract class AbstractEntityLoader implements EntityLoader {
         return entityIdAccessor.getValue(entity);
     }
 
+    /**
+     * Loads the entities for the given view ids with a single query into the persistence context,
+     * so that subsequent {@link #toEntity(UpdateContext, Object, Object)} calls can use references instead of querying one by one.
+     *
+     * @param context The update context
+     * @param viewIds The view ids of the entities to load
+     */
+    public void loadEntities(UpdateContext context, List<Object> viewIds) {
+        // References can only be used for primary key ids, so loading is useless otherwise
+        if (entityIdAccessor == null || !primaryKeyId) {
+            return;
+        }
+        Set<Object> idsToQuery = new LinkedHashSet<>(viewIds.size());
+        for (int i = 0; i < viewIds.size(); i++) {
+            Object viewId = viewIds.get(i);
+            if (viewId != null) {
+                Object id = getEntityId(context, null, viewId);
+                if (!context.containsEntity(entityClass, id)) {
+                    idsToQuery.add(id);
+                }
+            }
+        }
+        // A single entity is loaded just as well on demand
+        if (idsToQuery.size() > 1) {
+            queryEntities(context.getEntityManager(), new ArrayList<>(idsToQuery));
+        }
+    }
+
     protected final Object createEntity() {
         try {
             return entityConstructor.newInstance();
@@ -182,6 +215,17 @@ public abstract class AbstractEntityLoader implements EntityLoader {
         return id;
     }
 
+    protected final void assertAllFound(List<Object> entities, List<Object> ids) {
+        // Fetch joins of collections might produce duplicate entity references, which must only be counted once
+        if (entities.size() != ids.size()) {
+            Set<Object> distinctEntities = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>(entities.size()));
+            distinctEntities.addAll(entities);
+            if (distinctEntities.size() != ids.size()) {
+                throw new EntityNotFoundException("Required entities '" + entityClass.getName() + "' with ids '" + ids + "' couldn't all be found!");
+            }
+        }
+    }
+
     protected abstract Object queryEntity(EntityManager em, Object id);
 
     protected abstract List<Object> queryEntities(EntityManager em, List<Object> ids);
@@ -113,9 +113,7 @@ public class FlusherBasedEntityLoader extends AbstractEntityLoader {
         List<Object> list = em.createQuery(getQueryStringMultiple())
             .setParameter("entityIds", ids)
             .getResultList();
-        if (list.size() != ids.size()) {
-            throw new EntityNotFoundException("Required entities '" + entityClass.getName() + "' with ids '" + ids + "' couldn't all be found!");
-        }
+        assertAllFound(list, ids);
 
         return list;
     }
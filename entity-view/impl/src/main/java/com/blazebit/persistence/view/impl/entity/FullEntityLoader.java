@@ -143,9 +143,7 @@ public class FullEntityLoader extends AbstractEntityLoader {
         List<Object> list = em.createQuery(queryStringMultiple)
             .setParameter("entityIds", ids)
             .getResultList();
-        if (list.size() != ids.size()) {
-            throw new EntityNotFoundException("Required entities '" + entityClass.getName() + "' with ids '" + ids + "' couldn't all be found!");
-        }
+        assertAllFound(list, ids);
 
         return list;
     }
@@ -137,6 +137,8 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
     protected final boolean id;
     protected final boolean isAggregate;
     protected final javax.persistence.metamodel.Attribute<?, ?> updateMappableAttribute;
+    private final AttributeFetchStatistics fetchStatistics;
+    private final boolean multisetSupported;
     private final List<TargetType> possibleTargetTypes;
     private final List<TargetType> possibleIndexTargetTypes;
 
@@ -407,6 +409,8 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
         this.fetches = fetches;
         this.fetchStrategy = fetchStrategy;
         this.batchSize = batchSize;
+        this.fetchStatistics = context.createFetchStatistics();
+        this.multisetSupported = context.getJpqlFunctions().containsKey("to_multiset");
         this.orderByItems = orderByItems;
         this.limitExpression = limitExpression;
         this.offsetExpression = offsetExpression;
@@ -1496,6 +1500,32 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
         return fetchStrategy;
     }
 
+    /**
+     * Returns the statistics about the cardinalities observed while fetching this attribute or <code>null</code> if fetch statistics are disabled.
+     *
+     * @return the fetch statistics or <code>null</code>
+     * @since 1.6.15
+     */
+    public final AttributeFetchStatistics getFetchStatistics() {
+        return fetchStatistics;
+    }
+
+    /**
+     * Returns the fetch strategy that is recommended for this attribute based on the observed fetch statistics,
+     * or the configured fetch strategy if fetch statistics are disabled or the attribute is not a collection.
+     *
+     * @return the recommended fetch strategy
+     * @since 1.6.15
+     */
+    public final FetchStrategy getRecommendedFetchStrategy() {
+        if (fetchStatistics == null || !isCollection() || isQueryParameter()) {
+            return fetchStrategy;
+        }
+        boolean multiset = multisetSupported && !hasJpaManagedAttributes();
+        boolean correlation = declaringType instanceof ViewType<?>;
+        return fetchStatistics.getRecommendedFetchStrategy(fetchStrategy, multiset, correlation);
+    }
+
     public final int getBatchSize() {
         return batchSize;
     }
@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl.metamodel;
+
+import com.blazebit.persistence.view.FetchStrategy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects the cardinalities that were observed while fetching a plural attribute,
+ * which are used to derive the fetch strategy that is expected to be the cheapest.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public final class AttributeFetchStatistics {
+
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong roots = new AtomicLong();
+    private final AtomicLong elements = new AtomicLong();
+    private final AtomicLong skippedCorrelationQueries = new AtomicLong();
+    private final long minExecutions;
+    private final long multisetMaxAverageSize;
+    private final long selectMinAverageRoots;
+
+    public AttributeFetchStatistics(long minExecutions, long multisetMaxAverageSize, long selectMinAverageRoots) {
+        this.minExecutions = minExecutions;
+        this.multisetMaxAverageSize = multisetMaxAverageSize;
+        this.selectMinAverageRoots = selectMinAverageRoots;
+    }
+
+    public void recordExecution() {
+        executions.incrementAndGet();
+    }
+
+    public void recordElements(long rootCount, long elementCount) {
+        roots.addAndGet(rootCount);
+        elements.addAndGet(elementCount);
+    }
+
+    /**
+     * Creates a recorder for the roots and elements of a single query execution.
+     *
+     * @return A new recorder
+     */
+    public Recorder createRecorder() {
+        return new Recorder(this);
+    }
+
+    public void recordSkippedCorrelationQuery() {
+        skippedCorrelationQueries.incrementAndGet();
+    }
+
+    /**
+     * Withdraws a skipped correlation query that was recorded by a transformer that works tuple by tuple,
+     * because a later tuple of the same result had a correlation value and the correlation query was executed after all.
+     */
+    public void withdrawSkippedCorrelationQuery() {
+        skippedCorrelationQueries.decrementAndGet();
+    }
+
+    public long getExecutionCount() {
+        return executions.get();
+    }
+
+    public long getRootCount() {
+        return roots.get();
+    }
+
+    public long getElementCount() {
+        return elements.get();
+    }
+
+    /**
+     * Returns the number of correlation queries that were not executed because there were no correlation values to correlate.
+     *
+     * @return The number of skipped correlation queries
+     */
+    public long getSkippedCorrelationQueryCount() {
+        return skippedCorrelationQueries.get();
+    }
+
+    public double getAverageRootCount() {
+        long executionCount = executions.get();
+        return executionCount == 0 ? 0 : (double) roots.get() / executionCount;
+    }
+
+    public double getAverageElementCount() {
+        long rootCount = roots.get();
+        return rootCount == 0 ? 0 : (double) elements.get() / rootCount;
+    }
+
+    /**
+     * Returns the fetch strategy that is expected to be the cheapest based on the observed cardinalities,
+     * or the given current fetch strategy if not enough executions have been observed yet.
+     *
+     * Small collections are best fetched with MULTISET, or JOIN if that is not supported, since the row duplication is negligible.
+     * Big collections would cause a row explosion with JOIN, so SELECT with batching is preferred if there are many roots,
+     * and SUBSELECT otherwise.
+     *
+     * @param currentFetchStrategy The fetch strategy that is currently in use
+     * @param multisetSupported Whether the attribute can be fetched with MULTISET
+     * @param correlationSupported Whether the attribute can be fetched with SELECT or SUBSELECT
+     * @return The recommended fetch strategy
+     */
+    public FetchStrategy getRecommendedFetchStrategy(FetchStrategy currentFetchStrategy, boolean multisetSupported, boolean correlationSupported) {
+        if (executions.get() < minExecutions || roots.get() == 0) {
+            return currentFetchStrategy;
+        }
+        if (getAverageElementCount() <= multisetMaxAverageSize || !correlationSupported) {
+            return multisetSupported ? FetchStrategy.MULTISET : FetchStrategy.JOIN;
+        }
+        if (getAverageRootCount() >= selectMinAverageRoots) {
+            return FetchStrategy.SELECT;
+        }
+        return FetchStrategy.SUBSELECT;
+    }
+
+    @Override
+    public String toString() {
+        return "AttributeFetchStatistics{" +
+                "executions=" + executions +
+                ", roots=" + roots +
+                ", elements=" + elements +
+                ", skippedCorrelationQueries=" + skippedCorrelationQueries +
+                '}';
+    }
+
+    /**
+     * Records the roots of a single query execution and counts the elements of the containers that were built for them.
+     * Tuple rows can't be counted directly, because an empty collection still produces a row
+     * and join fetching repeats the elements in multiple rows.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    public static final class Recorder {
+
+        private final AttributeFetchStatistics statistics;
+        private final List<Object> containers = new ArrayList<>();
+
+        private Recorder(AttributeFetchStatistics statistics) {
+            this.statistics = statistics;
+        }
+
+        /**
+         * Records a root by the container that was created for it.
+         *
+         * @param container The container of the root
+         */
+        public void recordRoot(Object container) {
+            containers.add(container);
+        }
+
+        /**
+         * Adds the recorded roots and the sizes of their containers as an execution to the statistics.
+         */
+        public void finish() {
+            long elementCount = 0;
+            for (int i = 0; i < containers.size(); i++) {
+                Object container = containers.get(i);
+                if (container instanceof Collection<?>) {
+                    elementCount += ((Collection<?>) container).size();
+                } else if (container instanceof Map<?, ?>) {
+                    elementCount += ((Map<?, ?>) container).size();
+                }
+            }
+            statistics.recordExecution();
+            statistics.recordElements(containers.size(), elementCount);
+        }
+    }
+}
@@ -80,6 +80,8 @@ public interface MetamodelBuildingContext {
 
     public boolean isCreateEmptyFlatViews();
 
+    public AttributeFetchStatistics createFetchStatistics();
+
     public ProxyFactory getProxyFactory();
 
     public FlushMode getFlushMode(Class<?> clazz, FlushMode defaultValue);
@@ -90,6 +92,21 @@ public interface MetamodelBuildingContext {
 
     public boolean hasErrors();
 
+    /**
+     * Starts collecting the errors that are added on the current thread, instead of adding them to the context.
+     *
+     * @since 1.6.15
+     */
+    public void startCollectingErrors();
+
+    /**
+     * Stops collecting errors on the current thread and returns the errors that were collected since {@link #startCollectingErrors()}.
+     *
+     * @return The collected errors
+     * @since 1.6.15
+     */
+    public List<String> stopCollectingErrors();
+
     public boolean isEntityView(Class<?> clazz);
 
     public Set<Class<?>> findSubtypes(Class<?> entityViewClass);
@@ -93,11 +93,16 @@ public class MetamodelBuildingContextImpl implements MetamodelBuildingContext {
     private final Map<ViewMappingInitializationKey, ManagedViewTypeImplementor<?>> initializingManagedViews;
     private final Map<ManagedViewTypeImplementor<?>, List<Runnable>> managedViewFinishListeners;
     private final Set<String> errors;
+    private final ThreadLocal<List<String>> errorCollector = new ThreadLocal<>();
 
     private final boolean disallowOwnedUpdatableSubview;
     private final boolean strictCascadingCheck;
     private final boolean errorOnInvalidPluralSetter;
     private final boolean createEmptyFlatViews;
+    private final boolean fetchStatisticsEnabled;
+    private final long fetchStatisticsMinExecutions;
+    private final long fetchStatisticsMultisetMaxAverageSize;
+    private final long fetchStatisticsSelectMinAverageRoots;
     private final FlushMode flushModeOverride;
     private final Map<String, FlushMode> flushModeOverrides;
     private final FlushStrategy flushStrategyOverride;
@@ -123,12 +128,34 @@ public class MetamodelBuildingContextImpl implements MetamodelBuildingContext {
         this.strictCascadingCheck = Boolean.valueOf(String.valueOf(properties.getProperty(ConfigurationProperties.UPDATER_STRICT_CASCADING_CHECK)));
         this.errorOnInvalidPluralSetter = Boolean.valueOf(String.valueOf(properties.getProperty(ConfigurationProperties.UPDATER_ERROR_ON_INVALID_PLURAL_SETTER)));
         this.createEmptyFlatViews = Boolean.valueOf(String.valueOf(properties.getProperty(ConfigurationProperties.CREATE_EMPTY_FLAT_VIEWS)));
+        this.fetchStatisticsEnabled = Boolean.valueOf(String.valueOf(properties.getProperty(ConfigurationProperties.FETCH_STATISTICS_ENABLED)));
+        this.fetchStatisticsMinExecutions = getLong(properties, ConfigurationProperties.FETCH_STATISTICS_MIN_EXECUTIONS, 10L);
+        this.fetchStatisticsMultisetMaxAverageSize = getLong(properties, ConfigurationProperties.FETCH_STATISTICS_MULTISET_MAX_AVERAGE_SIZE, 10L);
+        this.fetchStatisticsSelectMinAverageRoots = getLong(properties, ConfigurationProperties.FETCH_STATISTICS_SELECT_MIN_AVERAGE_ROOTS, 100L);
         this.flushModeOverride = getFlushMode(properties.getProperty(ConfigurationProperties.UPDATER_FLUSH_MODE), "global property '" + ConfigurationProperties.UPDATER_FLUSH_MODE + "'");
         this.flushModeOverrides = getFlushModeOverrides(properties);
         this.flushStrategyOverride = getFlushStrategy(properties.getProperty(ConfigurationProperties.UPDATER_FLUSH_STRATEGY), "global property '" + ConfigurationProperties.UPDATER_FLUSH_STRATEGY + "'");
         this.flushStrategyOverrides = getFlushStrategyOverrides(properties);
     }
 
+    private static long getLong(Properties properties, String key, long defaultValue) {
+        String property = properties.getProperty(key);
+        if (property == null || property.isEmpty()) {
+            return defaultValue;
+        }
+
+        try {
+            long value = Long.parseLong(property);
+            if (value >= 0) {
+                return value;
+            }
+        } catch (NumberFormatException ex) {
+            // Fall through to the exception
+        }
+
+        throw new IllegalArgumentException("Invalid non-negative integer defined for property '" + key + "': " + property);
+    }
+
     private FlushMode getFlushMode(String property, String location) {
         if (property == null || property.isEmpty()) {
             return null;
@@ -582,6 +609,14 @@ public class MetamodelBuildingContextImpl implements MetamodelBuildingContext {
         return createEmptyFlatViews;
     }
 
+    @Override
+    public AttributeFetchStatistics createFetchStatistics() {
+        if (fetchStatisticsEnabled) {
+            return new AttributeFetchStatistics(fetchStatisticsMinExecutions, fetchStatisticsMultisetMaxAverageSize, fetchStatisticsSelectMinAverageRoots);
+        }
+        return null;
+    }
+
     @Override
     public ProxyFactory getProxyFactory() {
         return proxyFactory;
@@ -615,12 +650,30 @@ public class MetamodelBuildingContextImpl implements MetamodelBuildingContext {
 
     @Override
     public void addError(String error) {
-        errors.add(error);
+        List<String> collectedErrors = errorCollector.get();
+        if (collectedErrors == null) {
+            errors.add(error);
+        } else {
+            collectedErrors.add(error);
+        }
     }
 
     @Override
     public boolean hasErrors() {
-        return !errors.isEmpty();
+        List<String> collectedErrors = errorCollector.get();
+        return !errors.isEmpty() || collectedErrors != null && !collectedErrors.isEmpty();
+    }
+
+    @Override
+    public void startCollectingErrors() {
+        errorCollector.set(new ArrayList<String>());
+    }
+
+    @Override
+    public List<String> stopCollectingErrors() {
+        List<String> collectedErrors = errorCollector.get();
+        errorCollector.remove();
+        return collectedErrors;
     }
 
     @Override
@@ -8,6 +8,7 @@ package com.blazebit.persistence.view.impl.metamodel;
 import com.blazebit.persistence.parser.EntityMetamodel;
 import com.blazebit.persistence.parser.util.JpaMetamodelUtils;
 import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.impl.ParallelBootExecutor;
 import com.blazebit.persistence.view.impl.type.BasicUserTypeRegistry;
 import com.blazebit.persistence.view.metamodel.FlatViewType;
 import com.blazebit.persistence.view.metamodel.ManagedViewType;
@@ -32,6 +33,7 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
@@ -52,7 +54,7 @@ public class ViewMetamodelImpl implements ViewMetamodel {
     private final Map<Class<?>, FlatViewTypeImpl<?>> flatViews;
     private final Map<Class<?>, ManagedViewTypeImplementor<?>> managedViews;
 
-    public ViewMetamodelImpl(EntityMetamodel entityMetamodel, MetamodelBuildingContext context, Map<Class<?>, Object> typeTestValues, boolean validateManagedTypes, boolean validateExpressions) {
+    public ViewMetamodelImpl(EntityMetamodel entityMetamodel, MetamodelBuildingContext context, Map<Class<?>, Object> typeTestValues, boolean validateManagedTypes, boolean validateExpressions, ParallelBootExecutor bootExecutor) {
         this.metamodel = entityMetamodel;
         this.basicUserTypeRegistry = context.getBasicUserTypeRegistry();
 
@@ -91,10 +93,26 @@ public class ViewMetamodelImpl implements ViewMetamodel {
         // Phase 4: Validate expressions against the entity model
         if (!context.hasErrors()) {
             if (validateExpressions) {
-                List<AbstractAttribute<?, ?>> parents = new ArrayList<>();
-                for (ManagedViewTypeImplementor<?> t : managedViews.values()) {
-                    t.checkAttributes(context);
-                    t.checkNestedAttributes(parents, context, false);
+                if (bootExecutor.isParallel()) {
+                    // The types are validated independently, but the errors are reported in a stable order
+                    List<ManagedViewTypeImplementor<?>> types = new ArrayList<>(managedViews.values());
+                    Collections.sort(types, ManagedViewTypeNameComparator.INSTANCE);
+                    List<ExpressionValidationTask> tasks = new ArrayList<>(types.size());
+                    for (ManagedViewTypeImplementor<?> t : types) {
+                        tasks.add(new ExpressionValidationTask(context, t));
+                    }
+                    bootExecutor.invokeAll(tasks);
+                    for (ExpressionValidationTask task : tasks) {
+                        for (String error : task.errors) {
+                            context.addError(error);
+                        }
+                    }
+                } else {
+                    List<AbstractAttribute<?, ?>> parents = new ArrayList<>();
+                    for (ManagedViewTypeImplementor<?> t : managedViews.values()) {
+                        t.checkAttributes(context);
+                        t.checkNestedAttributes(parents, context, false);
+                    }
                 }
             }
         }
@@ -315,4 +333,46 @@ public class ViewMetamodelImpl implements ViewMetamodel {
         return new SetView<FlatViewType<?>>(flatViews.values());
     }
 
+    /**
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static final class ExpressionValidationTask implements Runnable {
+
+        private final MetamodelBuildingContext context;
+        private final ManagedViewTypeImplementor<?> managedViewType;
+        private List<String> errors;
+
+        public ExpressionValidationTask(MetamodelBuildingContext context, ManagedViewTypeImplementor<?> managedViewType) {
+            this.context = context;
+            this.managedViewType = managedViewType;
+        }
+
+        @Override
+        public void run() {
+            context.startCollectingErrors();
+            try {
+                managedViewType.checkAttributes(context);
+                managedViewType.checkNestedAttributes(new ArrayList<AbstractAttribute<?, ?>>(), context, false);
+            } finally {
+                errors = context.stopCollectingErrors();
+            }
+        }
+    }
+
+    /**
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static final class ManagedViewTypeNameComparator implements Comparator<ManagedViewTypeImplementor<?>> {
+
+        static final ManagedViewTypeNameComparator INSTANCE = new ManagedViewTypeNameComparator();
+
+        @Override
+        public int compare(ManagedViewTypeImplementor<?> o1, ManagedViewTypeImplementor<?> o2) {
+            return o1.getJavaType().getName().compareTo(o2.getJavaType().getName());
+        }
+    }
 }
@@ -27,7 +27,7 @@ public class ChainingCollectionObjectBuilder<T> implements ObjectBuilder<T> {
     private final ObjectBuilder<T> objectBuilder;
 
     public ChainingCollectionObjectBuilder(TupleTransformatorFactory transformatorFactory, ObjectBuilder<T> objectBuilder, ParameterHolder<?> parameterHolder, Map<String, Object> optionalParameters, EntityViewConfiguration entityViewConfiguration) {
-        this.transformator = transformatorFactory.create(parameterHolder, optionalParameters, entityViewConfiguration);
+        this.transformator = transformatorFactory.create(parameterHolder, optionalParameters, entityViewConfiguration, entityViewConfiguration.isOrderedTupleReduction());
         this.objectBuilder = objectBuilder;
     }
 
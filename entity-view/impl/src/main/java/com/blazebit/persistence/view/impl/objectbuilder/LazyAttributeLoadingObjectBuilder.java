@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl.objectbuilder;
+
+import com.blazebit.persistence.ObjectBuilder;
+import com.blazebit.persistence.view.impl.EntityViewManagerImpl;
+import com.blazebit.persistence.view.impl.metamodel.ViewTypeImplementor;
+import com.blazebit.persistence.view.impl.proxy.LazyAttributeLoader;
+import com.blazebit.persistence.view.impl.proxy.LazyAttributeLoadingProxy;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registers a shared {@link LazyAttributeLoader} on all objects of the result list, so that attributes that were not fetched are loaded on first access.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class LazyAttributeLoadingObjectBuilder<T> extends DelegatingObjectBuilder<T> {
+
+    private final EntityViewManagerImpl evm;
+    private final EntityManager entityManager;
+    private final ViewTypeImplementor<?> viewType;
+    private final Map<String, Object> optionalParameters;
+    private final Set<String> lazyAttributes;
+    private final int batchSize;
+
+    public LazyAttributeLoadingObjectBuilder(ObjectBuilder<T> delegate, EntityViewManagerImpl evm, EntityManager entityManager, ViewTypeImplementor<?> viewType, Map<String, Object> optionalParameters, Set<String> lazyAttributes, int batchSize) {
+        super(delegate);
+        this.evm = evm;
+        this.entityManager = entityManager;
+        this.viewType = viewType;
+        this.optionalParameters = optionalParameters;
+        this.lazyAttributes = lazyAttributes;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public List<T> buildList(List<T> list) {
+        List<T> result = delegate.buildList(list);
+        if (!result.isEmpty()) {
+            LazyAttributeLoader loader = new LazyAttributeLoader(evm, entityManager, viewType, optionalParameters, lazyAttributes, batchSize, result);
+            for (int i = 0; i < result.size(); i++) {
+                Object object = result.get(i);
+                if (object instanceof LazyAttributeLoadingProxy) {
+                    ((LazyAttributeLoadingProxy) object).$$_setLazyAttributeLoader(loader);
+                }
+            }
+        }
+        return result;
+    }
+}
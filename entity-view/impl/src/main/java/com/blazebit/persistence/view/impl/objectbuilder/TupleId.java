@@ -103,52 +103,85 @@ public class TupleId {
             return false;
         }
 
-        // Special handling for RecordingCollection and RecordingMap to avoid full equality checks
-        // We de-duplicate these objects by owner anyway, so no need to do a deep hashCode or equals check
         for (int i = 0; i < length; i++) {
-            Object e1 = a1[i];
-            Object e2 = a2[i];
-
-            if (e1 == e2) {
-                continue;
-            }
-            if (e1 == null) {
+            if (!elementEquals(a1[i], a2[i])) {
                 return false;
             }
+        }
 
-            // Figure out whether the two elements are equal
-            boolean eq;
-            if (e1 instanceof Object[] && e2 instanceof Object[]) {
-                eq = Arrays.deepEquals((Object[]) e1, (Object[]) e2);
-            } else if (e1 instanceof byte[] && e2 instanceof byte[]) {
-                eq = Arrays.equals((byte[]) e1, (byte[]) e2);
-            } else if (e1 instanceof short[] && e2 instanceof short[]) {
-                eq = Arrays.equals((short[]) e1, (short[]) e2);
-            } else if (e1 instanceof int[] && e2 instanceof int[]) {
-                eq = Arrays.equals((int[]) e1, (int[]) e2);
-            } else if (e1 instanceof long[] && e2 instanceof long[]) {
-                eq = Arrays.equals((long[]) e1, (long[]) e2);
-            } else if (e1 instanceof char[] && e2 instanceof char[]) {
-                eq = Arrays.equals((char[]) e1, (char[]) e2);
-            } else if (e1 instanceof float[] && e2 instanceof float[]) {
-                eq = Arrays.equals((float[]) e1, (float[]) e2);
-            } else if (e1 instanceof double[] && e2 instanceof double[]) {
-                eq = Arrays.equals((double[]) e1, (double[]) e2);
-            } else if (e1 instanceof boolean[] && e2 instanceof boolean[]) {
-                eq = Arrays.equals((boolean[]) e1, (boolean[]) e2);
-            } else if (e1 instanceof RecordingCollection<?, ?> && e2 instanceof RecordingCollection<?, ?>) {
-                eq = e1 == e2;
-            } else if (e1 instanceof RecordingMap<?, ?, ?> && e2 instanceof RecordingMap<?, ?, ?>) {
-                eq = e1 == e2;
-            } else {
-                eq = e1.equals(e2);
-            }
+        return true;
+    }
 
-            if (!eq) {
+    /**
+     * Returns whether the id values at the given positions of both tuples are equal, without materializing a {@link TupleId}.
+     *
+     * @param idPositions The id positions
+     * @param tuple1 The first tuple
+     * @param tuple2 The second tuple
+     * @return whether both tuples have the same id
+     */
+    public static boolean isSameId(int[] idPositions, Object[] tuple1, Object[] tuple2) {
+        for (int i = 0; i < idPositions.length; i++) {
+            int idPosition = idPositions[i];
+            if (idPosition >= 0 && !elementEquals(tuple1[idPosition], tuple2[idPosition])) {
                 return false;
             }
         }
+        return true;
+    }
 
+    /**
+     * Returns whether all id values at the given positions of the tuple are null, without materializing a {@link TupleId}.
+     *
+     * @param idPositions The id positions
+     * @param tuple The tuple
+     * @return whether the id of the tuple is empty
+     */
+    public static boolean isEmpty(int[] idPositions, Object[] tuple) {
+        for (int i = 0; i < idPositions.length; i++) {
+            int idPosition = idPositions[i];
+            // Negative positions are constants which are never null
+            if (idPosition < 0 || tuple[idPosition] != null) {
+                return false;
+            }
+        }
         return true;
     }
+
+    private static boolean elementEquals(Object e1, Object e2) {
+        if (e1 == e2) {
+            return true;
+        }
+        if (e1 == null) {
+            return false;
+        }
+
+        // Special handling for RecordingCollection and RecordingMap to avoid full equality checks
+        // We de-duplicate these objects by owner anyway, so no need to do a deep hashCode or equals check
+        if (e1 instanceof Object[] && e2 instanceof Object[]) {
+            return Arrays.deepEquals((Object[]) e1, (Object[]) e2);
+        } else if (e1 instanceof byte[] && e2 instanceof byte[]) {
+            return Arrays.equals((byte[]) e1, (byte[]) e2);
+        } else if (e1 instanceof short[] && e2 instanceof short[]) {
+            return Arrays.equals((short[]) e1, (short[]) e2);
+        } else if (e1 instanceof int[] && e2 instanceof int[]) {
+            return Arrays.equals((int[]) e1, (int[]) e2);
+        } else if (e1 instanceof long[] && e2 instanceof long[]) {
+            return Arrays.equals((long[]) e1, (long[]) e2);
+        } else if (e1 instanceof char[] && e2 instanceof char[]) {
+            return Arrays.equals((char[]) e1, (char[]) e2);
+        } else if (e1 instanceof float[] && e2 instanceof float[]) {
+            return Arrays.equals((float[]) e1, (float[]) e2);
+        } else if (e1 instanceof double[] && e2 instanceof double[]) {
+            return Arrays.equals((double[]) e1, (double[]) e2);
+        } else if (e1 instanceof boolean[] && e2 instanceof boolean[]) {
+            return Arrays.equals((boolean[]) e1, (boolean[]) e2);
+        } else if (e1 instanceof RecordingCollection<?, ?> && e2 instanceof RecordingCollection<?, ?>) {
+            return false;
+        } else if (e1 instanceof RecordingMap<?, ?, ?> && e2 instanceof RecordingMap<?, ?, ?>) {
+            return false;
+        } else {
+            return e1.equals(e2);
+        }
+    }
 }
@@ -487,7 +487,7 @@ public class ViewTypeObjectBuilderTemplate<T> {
                                 indexBasicTypeSupport = IntegerBasicUserType.INSTANCE;
                             }
                             mapperBuilder.addTupleTransformerFactory(new CollectionMultisetTupleTransformerFactory(startIndex, null, attributePath, getMultisetResultAlias(attributePath), valueConverter, attribute.getContainerAccumulator(), dirtyTracking,
-                                    subviewTemplate, indexTemplate, managedViewType.hasSelectOrSubselectFetchedAttributes(), new SubviewTupleTransformerFactory(attributePath, subviewTemplate, updatableObjectCache, nullIfEmpty), indexTransformerFactory, null, indexBasicTypeSupport));
+                                    subviewTemplate, indexTemplate, managedViewType.hasSelectOrSubselectFetchedAttributes(), new SubviewTupleTransformerFactory(attributePath, subviewTemplate, updatableObjectCache, nullIfEmpty), indexTransformerFactory, null, indexBasicTypeSupport, attribute.getFetchStatistics()));
                         } else {
                             applyCorrelatedSubviewMapping(attribute, attributePath, newTupleIdDescriptor, (ManagedViewTypeImplementor<Object[]>) (ManagedViewTypeImplementor<?>) managedViewType, mapperBuilder, features, viewJpqlMacro, embeddingViewJpqlMacro, ef, batchSize, dirtyTracking);
                         }
@@ -512,7 +512,7 @@ public class ViewTypeObjectBuilderTemplate<T> {
                                 indexBasicTypeSupport = IntegerBasicUserType.INSTANCE;
                             }
                             mapperBuilder.addTupleTransformerFactory(new CollectionMultisetTupleTransformerFactory(startIndex, mapping, attributePath, getMultisetResultAlias(attributePath), valueConverter, attribute.getContainerAccumulator(), dirtyTracking,
-                                    subviewTemplate, indexTemplate, managedViewType.hasSelectOrSubselectFetchedAttributes(), new SubviewTupleTransformerFactory(attributePath, subviewTemplate, updatableObjectCache, nullIfEmpty), indexTransformerFactory, null, indexBasicTypeSupport));
+                                    subviewTemplate, indexTemplate, managedViewType.hasSelectOrSubselectFetchedAttributes(), new SubviewTupleTransformerFactory(attributePath, subviewTemplate, updatableObjectCache, nullIfEmpty), indexTransformerFactory, null, indexBasicTypeSupport, attribute.getFetchStatistics()));
                         } else {
                             // Obviously, we produce null if the object type is identifiable i.e. a ViewType and it is empty = null id
                             // Additionally, we also consider empty embeddables as null when we have a non-indexed collection so we can filter out these elements
@@ -537,10 +537,10 @@ public class ViewTypeObjectBuilderTemplate<T> {
                         if (pluralAttribute.isSorted()) {
                             throw new IllegalArgumentException("The list attribute '" + pluralAttribute + "' can not be sorted!");
                         } else {
-                            mapperBuilder.addTupleListTransformer(new IndexedTupleListTransformer(tupleIdDescriptor.createIdPositions(), startIndex, valueStartIndex, attribute.getContainerAccumulator(), dirtyTracking, null, valueConverter));
+                            mapperBuilder.addTupleListTransformer(new IndexedTupleListTransformer(tupleIdDescriptor.createIdPositions(), startIndex, valueStartIndex, attribute.getContainerAccumulator(), dirtyTracking, null, valueConverter, attribute.getFetchStatistics()));
                         }
                     } else if (mapKey) {
-                        mapperBuilder.addTupleListTransformer(new IndexedTupleListTransformer(tupleIdDescriptor.createIdPositions(), startIndex, valueStartIndex, attribute.getContainerAccumulator(), dirtyTracking, keyConverter, valueConverter));
+                        mapperBuilder.addTupleListTransformer(new IndexedTupleListTransformer(tupleIdDescriptor.createIdPositions(), startIndex, valueStartIndex, attribute.getContainerAccumulator(), dirtyTracking, keyConverter, valueConverter, attribute.getFetchStatistics()));
                     } else {
                         switch (pluralAttribute.getCollectionType()) {
                             case COLLECTION:
@@ -560,7 +560,7 @@ public class ViewTypeObjectBuilderTemplate<T> {
                             default:
                                 throw new IllegalArgumentException("Unknown collection type: " + pluralAttribute.getCollectionType());
                         }
-                        mapperBuilder.addTupleListTransformer(new NonIndexedTupleListTransformer(tupleIdDescriptor.createIdPositions(), startIndex, attribute.getCollectionInstantiator(), dirtyTracking, valueConverter));
+                        mapperBuilder.addTupleListTransformer(new NonIndexedTupleListTransformer(tupleIdDescriptor.createIdPositions(), startIndex, attribute.getCollectionInstantiator(), dirtyTracking, valueConverter, attribute.getFetchStatistics()));
                     }
                 }
             } else if (attribute.isQueryParameter()) {
@@ -744,7 +744,8 @@ public class ViewTypeObjectBuilderTemplate<T> {
                                 viewRoot, viewType, correlationResult, factory, attributePath, attribute.getFetches(), correlatesThis, viewRootIndex, embeddingViewIndex, startIndex, batchSize, correlationBasisType, correlationBasisEntity,
                                 createLimiter(mapperBuilder, correlationAlias, attribute),
                                 indexFetches, indexExpression, indexCorrelator, attribute.getContainerAccumulator(),
-                                dirtyTracking
+                                dirtyTracking,
+                                attribute.getFetchStatistics()
                         ));
                         return;
                     default:
@@ -755,13 +756,14 @@ public class ViewTypeObjectBuilderTemplate<T> {
                         viewRoot, viewType, correlationResult, factory, attributePath, attribute.getFetches(), correlatesThis, viewRootIndex, embeddingViewIndex, startIndex, batchSize, correlationBasisType, correlationBasisEntity,
                         createLimiter(mapperBuilder, correlationAlias, attribute),
                         indexFetches, indexExpression, indexCorrelator, attribute.getContainerAccumulator(),
-                        dirtyTracking
+                        dirtyTracking,
+                        attribute.getFetchStatistics()
                 ));
             } else {
                 mapperBuilder.addTupleListTransformerFactory(new CorrelatedSingularBatchTupleListTransformerFactory(
                         new BasicCorrelator(),
                         viewRoot, viewType, correlationResult, factory, attributePath, attribute.getFetches(), correlatesThis, viewRootIndex, embeddingViewIndex, startIndex, batchSize, correlationBasisType, correlationBasisEntity,
-                        createLimiter(mapperBuilder, correlationAlias, attribute)));
+                        createLimiter(mapperBuilder, correlationAlias, attribute), attribute.getFetchStatistics()));
             }
         } else if (attribute.getFetchStrategy() == FetchStrategy.SUBSELECT) {
             String subviewAliasPrefix = mapperBuilder.getAlias(attribute, false);
@@ -811,7 +813,7 @@ public class ViewTypeObjectBuilderTemplate<T> {
                                 evm, viewRoot, viewRootAlias, viewType, embeddingViewPath, correlationResult, correlationBasisExpression, correlationKeyExpression, factory, attributePath, attribute.getFetches(), viewRootIndex, embeddingViewIndex, startIndex, correlationBasisType, correlationBasisEntity,
                                 createLimiter(mapperBuilder, correlationAlias, attribute),
                                 indexFetches, indexExpression, indexCorrelator, attribute.getContainerAccumulator(),
-                                dirtyTracking
+                                dirtyTracking, attribute.getFetchStatistics()
                         ));
                         return;
                     default:
@@ -822,13 +824,13 @@ public class ViewTypeObjectBuilderTemplate<T> {
                         evm, viewRoot, viewRootAlias, viewType, embeddingViewPath, correlationResult, correlationBasisExpression, correlationKeyExpression, factory, attributePath, attribute.getFetches(), viewRootIndex, embeddingViewIndex, startIndex, correlationBasisType, correlationBasisEntity,
                         createLimiter(mapperBuilder, correlationAlias, attribute),
                         indexFetches, indexExpression, indexCorrelator, attribute.getContainerAccumulator(),
-                        dirtyTracking
+                        dirtyTracking, attribute.getFetchStatistics()
                 ));
             } else {
                 mapperBuilder.addTupleTransformerFactory(new CorrelatedSingularSubselectTupleTransformerFactory(
                         new BasicCorrelator(),
                         evm, viewRoot, viewRootAlias, viewType, embeddingViewPath, correlationResult, correlationBasisExpression, correlationKeyExpression, factory, attributePath, attribute.getFetches(), viewRootIndex, embeddingViewIndex, startIndex, correlationBasisType, correlationBasisEntity,
-                        createLimiter(mapperBuilder, correlationAlias, attribute)));
+                        createLimiter(mapperBuilder, correlationAlias, attribute), attribute.getFetchStatistics()));
             }
         } else {
             throw new UnsupportedOperationException("Unknown fetch strategy: " + attribute.getFetchStrategy());
@@ -1118,7 +1120,8 @@ public class ViewTypeObjectBuilderTemplate<T> {
                                 viewRoot, viewType, correlationResult, factory, attributePath, attribute.getFetches(), correlatesThis, viewRootIndex, embeddingViewIndex, startIndex, batchSize, correlationBasisType, correlationBasisEntity,
                                 createLimiter(mapperBuilder, correlationAlias, attribute),
                                 indexFetches, indexExpression, indexCorrelator, attribute.getContainerAccumulator(),
-                                dirtyTracking
+                                dirtyTracking,
+                                attribute.getFetchStatistics()
                         ));
                         return null;
                     default:
@@ -1129,13 +1132,14 @@ public class ViewTypeObjectBuilderTemplate<T> {
                         viewRoot, viewType, correlationResult, factory, attributePath, attribute.getFetches(), correlatesThis, viewRootIndex, embeddingViewIndex, startIndex, batchSize, correlationBasisType, correlationBasisEntity,
                         createLimiter(mapperBuilder, correlationAlias, attribute),
                         indexFetches, indexExpression, indexCorrelator, attribute.getContainerAccumulator(),
-                        dirtyTracking
+                        dirtyTracking,
+                        attribute.getFetchStatistics()
                 ));
             } else {
                 mapperBuilder.addTupleListTransformerFactory(new CorrelatedSingularBatchTupleListTransformerFactory(
                         new SubviewCorrelator(managedViewType, null, evm, subviewAliasPrefix, attributePath),
                         viewRoot, viewType, correlationResult, factory, attributePath, attribute.getFetches(), correlatesThis, viewRootIndex, embeddingViewIndex, startIndex, batchSize, correlationBasisType, correlationBasisEntity,
-                        createLimiter(mapperBuilder, correlationAlias, attribute)));
+                        createLimiter(mapperBuilder, correlationAlias, attribute), attribute.getFetchStatistics()));
             }
         } else if (attribute.getFetchStrategy() == FetchStrategy.SUBSELECT) {
             String subviewAliasPrefix = mapperBuilder.getAlias(attribute, false);
@@ -1185,7 +1189,7 @@ public class ViewTypeObjectBuilderTemplate<T> {
                                 evm, viewRoot, viewRootAlias, viewType, embeddingViewPath, correlationResult, correlationBasisExpression, correlationKeyExpression, factory, attributePath, attribute.getFetches(), viewRootIndex, embeddingViewIndex, startIndex, correlationBasisType, correlationBasisEntity,
                                 createLimiter(mapperBuilder, correlationAlias, attribute),
                                 indexFetches, indexExpression, indexCorrelator, attribute.getContainerAccumulator(),
-                                dirtyTracking
+                                dirtyTracking, attribute.getFetchStatistics()
                         ));
                         return null;
                     default:
@@ -1197,13 +1201,13 @@ public class ViewTypeObjectBuilderTemplate<T> {
                         evm, viewRoot, viewRootAlias, viewType, embeddingViewPath, correlationResult, correlationBasisExpression, correlationKeyExpression, factory, attributePath, attribute.getFetches(), viewRootIndex, embeddingViewIndex, startIndex, correlationBasisType, correlationBasisEntity,
                         createLimiter(mapperBuilder, correlationAlias, attribute),
                         indexFetches, indexExpression, indexCorrelator, attribute.getContainerAccumulator(),
-                        dirtyTracking
+                        dirtyTracking, attribute.getFetchStatistics()
                 ));
             } else {
                 mapperBuilder.addTupleTransformerFactory(new CorrelatedSingularSubselectTupleTransformerFactory(
                         new SubviewCorrelator(managedViewType, null, evm, subviewAliasPrefix, attributePath),
                         evm, viewRoot, viewRootAlias, viewType, embeddingViewPath, correlationResult, correlationBasisExpression, correlationKeyExpression, factory, attributePath, attribute.getFetches(), viewRootIndex, embeddingViewIndex, startIndex, correlationBasisType, correlationBasisEntity,
-                        createLimiter(mapperBuilder, correlationAlias, attribute)));
+                        createLimiter(mapperBuilder, correlationAlias, attribute), attribute.getFetchStatistics()));
             }
         } else {
             throw new UnsupportedOperationException("Unknown fetch strategy: " + attribute.getFetchStrategy());
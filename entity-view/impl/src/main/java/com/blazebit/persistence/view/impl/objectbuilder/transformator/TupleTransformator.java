@@ -22,9 +22,15 @@ import java.util.Set;
 public class TupleTransformator {
 
     private final List<TupleTransformatorLevel> transformatorLevels;
+    private final boolean orderedReduction;
 
     public TupleTransformator(List<TupleTransformatorLevel> transformatorLevels) {
+        this(transformatorLevels, false);
+    }
+
+    public TupleTransformator(List<TupleTransformatorLevel> transformatorLevels, boolean orderedReduction) {
         this.transformatorLevels = transformatorLevels;
+        this.orderedReduction = orderedReduction;
     }
 
     public List<Object[]> transformAll(List<Object[]> tupleList) {
@@ -80,6 +86,9 @@ public class TupleTransformator {
         if (tupleListTransformer == null) {
             return tupleList;
         }
+        if (orderedReduction) {
+            return tupleListTransformer.transformOrdered(tupleList);
+        }
         return tupleListTransformer.transform(tupleList);
     }
 }
\ No newline at end of file
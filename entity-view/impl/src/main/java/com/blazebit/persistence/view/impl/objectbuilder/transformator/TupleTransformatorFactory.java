@@ -193,6 +193,16 @@ public class TupleTransformatorFactory {
             }
             return tuples;
         }
+
+        @Override
+        public List<Object[]> transformOrdered(List<Object[]> tuples) {
+            // Filtering by subtype retains the order of the tuples
+            ConstrainedTupleList tupleList = new ConstrainedTupleList(classMappingIndex, subtypeIndexes, tuples);
+            if (!tupleList.isEmpty()) {
+                delegate.transformOrdered(tupleList);
+            }
+            return tuples;
+        }
     }
 
     /**
@@ -243,6 +253,10 @@ public class TupleTransformatorFactory {
     }
 
     public TupleTransformator create(ParameterHolder<?> parameterHolder, Map<String, Object> optionalParameters, EntityViewConfiguration entityViewConfiguration) {
+        return create(parameterHolder, optionalParameters, entityViewConfiguration, false);
+    }
+
+    public TupleTransformator create(ParameterHolder<?> parameterHolder, Map<String, Object> optionalParameters, EntityViewConfiguration entityViewConfiguration, boolean orderedReduction) {
         TupleTransformatorLevel[] newTransformatorLevels = new TupleTransformatorLevel[transformatorLevels.size()];
         // We create the tuple transformers and level in the inverse order as deeper nested objects come first, yet we want to initialize stuff top-down to properly support nested join correlations
         for (int i = transformatorLevels.size() - 1; i >= 0; i--) {
@@ -266,6 +280,6 @@ public class TupleTransformatorFactory {
             newTransformatorLevels[i] = new TupleTransformatorLevel(tupleTransformers, tupleListTransformer);
         }
         
-        return new TupleTransformator(Arrays.asList(newTransformatorLevels));
+        return new TupleTransformator(Arrays.asList(newTransformatorLevels), orderedReduction);
     }
 }
@@ -8,6 +8,7 @@ package com.blazebit.persistence.view.impl.objectbuilder.transformer;
 import com.blazebit.persistence.FullQueryBuilder;
 import com.blazebit.persistence.ParameterHolder;
 import com.blazebit.persistence.view.impl.EntityViewConfiguration;
+import com.blazebit.persistence.view.impl.metamodel.AttributeFetchStatistics;
 import com.blazebit.persistence.view.impl.objectbuilder.ContainerAccumulator;
 import com.blazebit.persistence.view.impl.objectbuilder.ViewTypeObjectBuilderTemplate;
 import com.blazebit.persistence.view.impl.objectbuilder.mapper.TupleElementMapper;
@@ -41,9 +42,11 @@ public class CollectionMultisetTupleTransformerFactory implements TupleTransform
     private final BasicUserTypeStringSupport<?> valueBasicTypeSupport;
     private final BasicUserTypeStringSupport<?> indexBasicTypeSupport;
     private final boolean hasSelectOrSubselectFetchedAttributes;
+    private final AttributeFetchStatistics fetchStatistics;
 
     public CollectionMultisetTupleTransformerFactory(int startIndex, String mapping, String attributePath, String multisetResultAlias, TypeConverter<Object, Object> elementConverter, ContainerAccumulator<?> containerAccumulator, boolean dirtyTracking, ViewTypeObjectBuilderTemplate<Object[]> template,
-                                                     ViewTypeObjectBuilderTemplate<Object[]> indexTemplate, boolean hasSelectOrSubselectFetchedAttributes, TupleTransformerFactory subviewTupleTransformerFactory, TupleTransformerFactory indexSubviewTupleTransformerFactory, BasicUserTypeStringSupport<?> valueBasicTypeSupport, BasicUserTypeStringSupport<?> indexBasicTypeSupport) {
+                                                     ViewTypeObjectBuilderTemplate<Object[]> indexTemplate, boolean hasSelectOrSubselectFetchedAttributes, TupleTransformerFactory subviewTupleTransformerFactory, TupleTransformerFactory indexSubviewTupleTransformerFactory, BasicUserTypeStringSupport<?> valueBasicTypeSupport, BasicUserTypeStringSupport<?> indexBasicTypeSupport,
+                                                     AttributeFetchStatistics fetchStatistics) {
         this.startIndex = startIndex;
         this.mapping = mapping;
         this.attributePath = attributePath;
@@ -57,6 +60,7 @@ public class CollectionMultisetTupleTransformerFactory implements TupleTransform
         this.indexSubviewTupleTransformerFactory = indexSubviewTupleTransformerFactory;
         this.valueBasicTypeSupport = valueBasicTypeSupport;
         this.indexBasicTypeSupport = indexBasicTypeSupport;
+        this.fetchStatistics = fetchStatistics;
         List<BasicUserTypeStringSupport<Object>> fieldConverters = new ArrayList<>();
         TupleElementMapper[] mappers;
         if (template == null) {
@@ -109,10 +113,13 @@ public class CollectionMultisetTupleTransformerFactory implements TupleTransform
                 throw new UnsupportedOperationException("Converting views with correlated attributes isn't supported!");
             }
         }
+        if (fetchStatistics != null) {
+            fetchStatistics.recordExecution();
+        }
         TupleTransformator tupleTransformator = template == null ? null : template.getTupleTransformatorFactory().create(parameterHolder, optionalParameters, entityViewConfiguration);
         TupleTransformer subviewTupleTransformer = subviewTupleTransformerFactory == null ? null : subviewTupleTransformerFactory.create(parameterHolder, optionalParameters, entityViewConfiguration);
         TupleTransformer indexSubviewTupleTransformer = indexSubviewTupleTransformerFactory == null ? null : indexSubviewTupleTransformerFactory.create(parameterHolder, optionalParameters, entityViewConfiguration);
-        return new MultisetTupleTransformer(startIndex, hasSelectOrSubselectFetchedAttributes, tupleTransformator, subviewTupleTransformer, indexSubviewTupleTransformer, indexBasicTypeSupport == null ? -1 : fieldConverters.length - 1, fieldConverters, elementConverter, containerAccumulator, dirtyTracking);
+        return new MultisetTupleTransformer(startIndex, hasSelectOrSubselectFetchedAttributes, tupleTransformator, subviewTupleTransformer, indexSubviewTupleTransformer, indexBasicTypeSupport == null ? -1 : fieldConverters.length - 1, fieldConverters, elementConverter, containerAccumulator, dirtyTracking, fetchStatistics);
     }
 
 }
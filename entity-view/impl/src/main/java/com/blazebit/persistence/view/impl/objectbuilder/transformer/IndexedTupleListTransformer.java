@@ -5,6 +5,7 @@
 
 package com.blazebit.persistence.view.impl.objectbuilder.transformer;
 
+import com.blazebit.persistence.view.impl.metamodel.AttributeFetchStatistics;
 import com.blazebit.persistence.view.impl.objectbuilder.ContainerAccumulator;
 import com.blazebit.persistence.view.impl.objectbuilder.TupleId;
 import com.blazebit.persistence.view.impl.objectbuilder.TupleIndexValue;
@@ -30,8 +31,9 @@ public class IndexedTupleListTransformer extends TupleListTransformer {
     private final boolean dirtyTracking;
     private final TypeConverter<Object, Object> keyConverter;
     private final TypeConverter<Object, Object> valueConverter;
+    private final AttributeFetchStatistics fetchStatistics;
 
-    public IndexedTupleListTransformer(int[] parentIdPositions, int startIndex, int valueStartIndex, ContainerAccumulator<?> containerAccumulator, boolean dirtyTracking, TypeConverter<Object, Object> keyConverter, TypeConverter<Object, Object> valueConverter) {
+    public IndexedTupleListTransformer(int[] parentIdPositions, int startIndex, int valueStartIndex, ContainerAccumulator<?> containerAccumulator, boolean dirtyTracking, TypeConverter<Object, Object> keyConverter, TypeConverter<Object, Object> valueConverter, AttributeFetchStatistics fetchStatistics) {
         super(startIndex);
         this.parentIdPositions = parentIdPositions;
         this.valueStartIndex = valueStartIndex;
@@ -40,6 +42,7 @@ public class IndexedTupleListTransformer extends TupleListTransformer {
         this.keyConverter = keyConverter;
         this.valueConverter = valueConverter;
         this.valueOffset = valueStartIndex - startIndex;
+        this.fetchStatistics = fetchStatistics;
     }
 
     @Override
@@ -52,6 +55,8 @@ public class IndexedTupleListTransformer extends TupleListTransformer {
         Map<TupleId, TupleIndexValue> tupleIndex = new HashMap<TupleId, TupleIndexValue>(tuples.size());
         Iterator<Object[]> tupleListIter = tuples.iterator();
 
+        AttributeFetchStatistics.Recorder recorder = fetchStatistics == null ? null : fetchStatistics.createRecorder();
+
         while (tupleListIter.hasNext()) {
             Object[] tuple = tupleListIter.next();
             TupleId id = new TupleId(parentIdPositions, tuple);
@@ -69,6 +74,61 @@ public class IndexedTupleListTransformer extends TupleListTransformer {
                     tuple[startIndex] = collection;
                     tuple[valueStartIndex] = TupleReuse.CONSUMED;
                     tupleIndex.put(id, tupleIndexValue);
+                    if (recorder != null) {
+                        recorder.recordRoot(collection);
+                    }
+                } else if (tupleIndexValue.addRestTuple(tuple, startIndex, valueOffset + 1)) {
+                    Object collection = tupleIndexValue.getTupleValue();
+                    Object key = tuple[startIndex];
+                    add(collection, key, tuple[valueStartIndex]);
+                    tuple[startIndex] = collection;
+                    tuple[valueStartIndex] = TupleReuse.CONSUMED;
+                    // Check if the tuple after the offset is contained
+                    if (tupleIndexValue.containsRestTuple(tuple, startIndex, valueOffset + 1)) {
+                        tupleListIter.remove();
+                    }
+                } else {
+                    Object key = tuple[startIndex];
+                    add(tupleIndexValue.getTupleValue(), key, tuple[valueStartIndex]);
+                    tuple[valueStartIndex] = TupleReuse.CONSUMED;
+                    tupleListIter.remove();
+                }
+            }
+        }
+
+        if (recorder != null) {
+            recorder.finish();
+        }
+
+        return tuples;
+    }
+
+    @Override
+    public List<Object[]> transformOrdered(List<Object[]> tuples) {
+        Iterator<Object[]> tupleListIter = tuples.iterator();
+        // Since tuples of the same parent are adjacent, we only have to remember the first tuple of the current parent
+        Object[] currentParentTuple = null;
+        TupleIndexValue tupleIndexValue = null;
+
+        AttributeFetchStatistics.Recorder recorder = fetchStatistics == null ? null : fetchStatistics.createRecorder();
+
+        while (tupleListIter.hasNext()) {
+            Object[] tuple = tupleListIter.next();
+            // Skip constructing the collection and removing tuples when the parent is empty i.e. null
+            if (!TupleId.isEmpty(parentIdPositions, tuple)) {
+                // At startIndex we have the index/key of the list/map
+                // At valueStartIndex is the actual element that should be put into the collection
+                if (currentParentTuple == null || !TupleId.isSameId(parentIdPositions, currentParentTuple, tuple)) {
+                    Object collection = containerAccumulator.createContainer(dirtyTracking, 0);
+                    tupleIndexValue = new TupleIndexValue(collection, tuple, startIndex, valueOffset + 1);
+                    Object key = tuple[startIndex];
+                    add(collection, key, tuple[valueStartIndex]);
+                    tuple[startIndex] = collection;
+                    tuple[valueStartIndex] = TupleReuse.CONSUMED;
+                    currentParentTuple = tuple;
+                    if (recorder != null) {
+                        recorder.recordRoot(collection);
+                    }
                 } else if (tupleIndexValue.addRestTuple(tuple, startIndex, valueOffset + 1)) {
                     Object collection = tupleIndexValue.getTupleValue();
                     Object key = tuple[startIndex];
@@ -88,6 +148,10 @@ public class IndexedTupleListTransformer extends TupleListTransformer {
             }
         }
 
+        if (recorder != null) {
+            recorder.finish();
+        }
+
         return tuples;
     }
 
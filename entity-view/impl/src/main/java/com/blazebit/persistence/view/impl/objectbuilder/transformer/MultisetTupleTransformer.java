@@ -5,6 +5,7 @@
 
 package com.blazebit.persistence.view.impl.objectbuilder.transformer;
 
+import com.blazebit.persistence.view.impl.metamodel.AttributeFetchStatistics;
 import com.blazebit.persistence.view.impl.objectbuilder.ContainerAccumulator;
 import com.blazebit.persistence.view.impl.objectbuilder.transformator.TupleTransformator;
 import com.blazebit.persistence.view.impl.objectbuilder.transformator.UpdatableViewMap;
@@ -30,9 +31,11 @@ public class MultisetTupleTransformer implements TupleTransformer {
     private final TypeConverter<Object, Object> elementConverter;
     private final ContainerAccumulator<Object> containerAccumulator;
     private final boolean dirtyTracking;
+    private final AttributeFetchStatistics fetchStatistics;
 
     public MultisetTupleTransformer(int startIndex, boolean hasSelectOrSubselectFetchedAttributes, TupleTransformator tupleTransformator, TupleTransformer subviewTupleTransformer, TupleTransformer indexSubviewTupleTransformer, int indexStartIndex,
-                                    BasicUserTypeStringSupport<Object>[] fieldConverters, TypeConverter<Object, Object> elementConverter, ContainerAccumulator<Object> containerAccumulator, boolean dirtyTracking) {
+                                    BasicUserTypeStringSupport<Object>[] fieldConverters, TypeConverter<Object, Object> elementConverter, ContainerAccumulator<Object> containerAccumulator, boolean dirtyTracking,
+                                    AttributeFetchStatistics fetchStatistics) {
         this.startIndex = startIndex;
         this.hasSelectOrSubselectFetchedAttributes = hasSelectOrSubselectFetchedAttributes;
         this.tupleTransformator = tupleTransformator;
@@ -43,6 +46,7 @@ public class MultisetTupleTransformer implements TupleTransformer {
         this.fieldConverters = fieldConverters;
         this.containerAccumulator = containerAccumulator;
         this.dirtyTracking = dirtyTracking;
+        this.fetchStatistics = fetchStatistics;
     }
 
     @Override
@@ -87,6 +91,9 @@ public class MultisetTupleTransformer implements TupleTransformer {
                 }
             }
         }
+        if (fetchStatistics != null) {
+            fetchStatistics.recordElements(1, tuple[startIndex] == null ? 0 : ((List<Object[]>) tuple[startIndex]).size());
+        }
         tuple[startIndex] = collection;
         return tuple;
     }
@@ -14,6 +14,7 @@ import java.util.Map;
 
 import com.blazebit.persistence.view.impl.collection.CollectionInstantiatorImplementor;
 import com.blazebit.persistence.view.impl.collection.RecordingCollection;
+import com.blazebit.persistence.view.impl.metamodel.AttributeFetchStatistics;
 import com.blazebit.persistence.view.impl.objectbuilder.TupleId;
 import com.blazebit.persistence.view.impl.objectbuilder.TupleIndexValue;
 import com.blazebit.persistence.view.spi.type.TypeConverter;
@@ -29,13 +30,15 @@ public class NonIndexedTupleListTransformer extends TupleListTransformer {
     private final CollectionInstantiatorImplementor<?, ?> collectionInstantiator;
     private final boolean dirtyTracking;
     private final TypeConverter<Object, Object> elementConverter;
+    private final AttributeFetchStatistics fetchStatistics;
 
-    public NonIndexedTupleListTransformer(int[] parentIdPositions, int startIndex, CollectionInstantiatorImplementor<?, ?> collectionInstantiator, boolean dirtyTracking, TypeConverter<Object, Object> elementConverter) {
+    public NonIndexedTupleListTransformer(int[] parentIdPositions, int startIndex, CollectionInstantiatorImplementor<?, ?> collectionInstantiator, boolean dirtyTracking, TypeConverter<Object, Object> elementConverter, AttributeFetchStatistics fetchStatistics) {
         super(startIndex);
         this.parentIdPositions = parentIdPositions;
         this.collectionInstantiator = collectionInstantiator;
         this.dirtyTracking = dirtyTracking;
         this.elementConverter = elementConverter;
+        this.fetchStatistics = fetchStatistics;
     }
 
     @Override
@@ -48,6 +51,8 @@ public class NonIndexedTupleListTransformer extends TupleListTransformer {
         Map<TupleId, TupleIndexValue> tupleIndex = new HashMap<>(tuples.size());
         Iterator<Object[]> tupleListIter = tuples.iterator();
 
+        AttributeFetchStatistics.Recorder recorder = fetchStatistics == null ? null : fetchStatistics.createRecorder();
+
         while (tupleListIter.hasNext()) {
             Object[] tuple = tupleListIter.next();
             TupleId id = new TupleId(parentIdPositions, tuple);
@@ -61,6 +66,54 @@ public class NonIndexedTupleListTransformer extends TupleListTransformer {
                     add(collection, tuple[startIndex]);
                     tuple[startIndex] = collection;
                     tupleIndex.put(id, tupleIndexValue);
+                    if (recorder != null) {
+                        recorder.recordRoot(collection);
+                    }
+                } else if (tupleIndexValue.addRestTuple(tuple, startIndex, 1)) {
+                    Object collection = tupleIndexValue.getTupleValue();
+                    add(collection, tuple[startIndex]);
+                    tuple[startIndex] = collection;
+                    // Check if the tuple after the offset is contained
+                    if (tupleIndexValue.containsRestTuple(tuple, startIndex, 1)) {
+                        tupleListIter.remove();
+                    }
+                } else {
+                    add(tupleIndexValue.getTupleValue(), tuple[startIndex]);
+                    tupleListIter.remove();
+                }
+            }
+        }
+        postConstruct(tuples);
+
+        if (recorder != null) {
+            recorder.finish();
+        }
+
+        return tuples;
+    }
+
+    @Override
+    public List<Object[]> transformOrdered(List<Object[]> tuples) {
+        Iterator<Object[]> tupleListIter = tuples.iterator();
+        // Since tuples of the same parent are adjacent, we only have to remember the first tuple of the current parent
+        Object[] currentParentTuple = null;
+        TupleIndexValue tupleIndexValue = null;
+
+        AttributeFetchStatistics.Recorder recorder = fetchStatistics == null ? null : fetchStatistics.createRecorder();
+
+        while (tupleListIter.hasNext()) {
+            Object[] tuple = tupleListIter.next();
+            // Skip constructing the collection and removing tuples when the parent is empty i.e. null
+            if (!TupleId.isEmpty(parentIdPositions, tuple)) {
+                if (currentParentTuple == null || !TupleId.isSameId(parentIdPositions, currentParentTuple, tuple)) {
+                    Object collection = createCollection();
+                    tupleIndexValue = new TupleIndexValue(collection, tuple, startIndex, 1);
+                    add(collection, tuple[startIndex]);
+                    tuple[startIndex] = collection;
+                    currentParentTuple = tuple;
+                    if (recorder != null) {
+                        recorder.recordRoot(collection);
+                    }
                 } else if (tupleIndexValue.addRestTuple(tuple, startIndex, 1)) {
                     Object collection = tupleIndexValue.getTupleValue();
                     add(collection, tuple[startIndex]);
@@ -75,6 +128,16 @@ public class NonIndexedTupleListTransformer extends TupleListTransformer {
                 }
             }
         }
+        postConstruct(tuples);
+
+        if (recorder != null) {
+            recorder.finish();
+        }
+
+        return tuples;
+    }
+
+    private void postConstruct(List<Object[]> tuples) {
         if (collectionInstantiator.requiresPostConstruct()) {
             IdentityHashMap<Collection<?>, Boolean> handledCollections = new IdentityHashMap<>(tuples.size());
             for (Object[] tuple : tuples) {
@@ -84,8 +147,6 @@ public class NonIndexedTupleListTransformer extends TupleListTransformer {
                 }
             }
         }
-
-        return tuples;
     }
 
     protected Object createCollection() {
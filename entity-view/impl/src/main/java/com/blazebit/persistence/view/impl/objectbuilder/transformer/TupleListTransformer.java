@@ -23,4 +23,18 @@ public abstract class TupleListTransformer {
     public abstract int getConsumableIndex();
 
     public abstract List<Object[]> transform(List<Object[]> tuples);
+
+    /**
+     * Like {@link #transform(List)}, but assumes that all tuples with the same parent id are adjacent,
+     * which is the case when the result is ordered by the ids of all parent objects.
+     * This allows to reduce the tuples in a single pass without a hash based lookup of the parent.
+     * By default, this simply delegates to {@link #transform(List)}.
+     *
+     * @param tuples The tuples to transform
+     * @return The transformed tuples
+     * @since 1.6.15
+     */
+    public List<Object[]> transformOrdered(List<Object[]> tuples) {
+        return transform(tuples);
+    }
 }
@@ -18,6 +18,7 @@ import com.blazebit.persistence.view.impl.EntityViewConfiguration;
 import com.blazebit.persistence.view.impl.macro.CorrelatedSubqueryEmbeddingViewJpqlMacro;
 import com.blazebit.persistence.view.impl.macro.CorrelatedSubqueryViewRootJpqlMacro;
 import com.blazebit.persistence.view.impl.macro.MutableViewJpqlMacro;
+import com.blazebit.persistence.view.impl.metamodel.AttributeFetchStatistics;
 import com.blazebit.persistence.view.impl.metamodel.ManagedViewTypeImplementor;
 import com.blazebit.persistence.view.impl.objectbuilder.ContainerAccumulator;
 import com.blazebit.persistence.view.impl.objectbuilder.LateAdditionalObjectBuilder;
@@ -29,11 +30,13 @@ import com.blazebit.persistence.view.metamodel.ViewType;
 import javax.persistence.EntityManager;
 import javax.persistence.Parameter;
 import javax.persistence.Query;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  *
@@ -50,20 +53,30 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
     protected final BatchCorrelationMode expectBatchCorrelationMode;
     protected final int valueIndex;
     protected final int keyIndex;
+    protected final CorrelationQueryCache correlationQueryCache;
+    protected final AttributeFetchStatistics fetchStatistics;
 
     protected String correlationParamName;
     protected String correlationSelectExpression;
     protected CriteriaBuilder<?> criteriaBuilder;
+    protected BatchCorrelationMode criteriaBuilderMode;
     protected CorrelatedSubqueryViewRootJpqlMacro viewRootJpqlMacro;
     protected CorrelatedSubqueryEmbeddingViewJpqlMacro embeddingViewJpqlMacro;
     protected Query query;
 
     public AbstractCorrelatedBatchTupleListTransformer(ExpressionFactory ef, Correlator correlator, ContainerAccumulator<?> containerAccumulator, ManagedViewTypeImplementor<?> viewRootType, ManagedViewTypeImplementor<?> embeddingViewType, Expression correlationResult, CorrelationProviderFactory correlationProviderFactory, String attributePath, String[] fetches, String[] indexFetches,
-                                                       Expression indexExpression, Correlator indexCorrelator, boolean correlatesThis, int viewRootIndex, int embeddingViewIndex, int tupleIndex, int defaultBatchSize, Class<?> correlationBasisType, Class<?> correlationBasisEntity, Limiter limiter, EntityViewConfiguration entityViewConfiguration) {
+                                                       Expression indexExpression, Correlator indexCorrelator, boolean correlatesThis, int viewRootIndex, int embeddingViewIndex, int tupleIndex, int defaultBatchSize, Class<?> correlationBasisType, Class<?> correlationBasisEntity, Limiter limiter, EntityViewConfiguration entityViewConfiguration, CorrelationQueryCache correlationQueryCache, AttributeFetchStatistics fetchStatistics) {
         super(ef, correlator, containerAccumulator, viewRootType, embeddingViewType, correlationResult, correlationProviderFactory, attributePath, fetches, indexFetches, indexExpression, indexCorrelator, viewRootIndex, embeddingViewIndex, tupleIndex, correlationBasisType, correlationBasisEntity, limiter, entityViewConfiguration);
         this.batchSize = entityViewConfiguration.getBatchSize(attributePath, defaultBatchSize);
         this.correlatesThis = correlatesThis;
-        this.expectBatchCorrelationMode = entityViewConfiguration.getExpectBatchCorrelationValues(attributePath);
+        BatchCorrelationMode expectBatchCorrelationMode = entityViewConfiguration.getExpectBatchCorrelationValues(attributePath);
+        // Unless an expectation is configured, expect the mode that was used by previous executions to avoid building the correlation query twice
+        if (batchSize > 1 && correlationQueryCache != null && !entityViewConfiguration.hasExpectBatchCorrelationValues(attributePath)) {
+            expectBatchCorrelationMode = correlationQueryCache.getBatchCorrelationMode(batchSize, expectBatchCorrelationMode);
+        }
+        this.expectBatchCorrelationMode = expectBatchCorrelationMode;
+        this.correlationQueryCache = correlationQueryCache;
+        this.fetchStatistics = fetchStatistics;
         this.valueIndex = correlator.getElementOffset();
         this.keyIndex = valueIndex + 1;
     }
@@ -114,6 +127,7 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
         }
 
         this.criteriaBuilder = queryBuilder.getCriteriaBuilderFactory().create(queryBuilder.getEntityManager(), Object[].class);
+        this.criteriaBuilderMode = batchCorrelationMode;
         if (queryBuilder instanceof CTEBuilder<?>) {
             this.criteriaBuilder.withCtesFrom((CTEBuilder<?>) queryBuilder);
         }
@@ -180,6 +194,17 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
 
     @Override
     public List<Object[]> transform(List<Object[]> tuples) {
+        if (!hasCorrelationValues(tuples)) {
+            // Null can't be correlated, so we can skip building and executing the correlation query
+            for (int i = 0; i < tuples.size(); i++) {
+                tuples.get(i)[startIndex] = createDefaultResult();
+            }
+            consumeTupleMacroViewValues(tuples);
+            if (fetchStatistics != null) {
+                fetchStatistics.recordSkippedCorrelationQuery();
+            }
+            return tuples;
+        }
         FixedArrayList correlationParams = new FixedArrayList(batchSize);
         // We have the correlation key on the first position if we do batching
         final int tupleOffset = (batchSize > 1 ? 1 : 0) + (indexCorrelator == null && indexExpression == null ? 0 : 1);
@@ -224,6 +249,7 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
                         }
                     }
                 }
+                rememberBatchCorrelationMode(BatchCorrelationMode.VALUES);
             }
             populateParameters(criteriaBuilder);
             query = criteriaBuilder.getQuery();
@@ -276,17 +302,52 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
 
     @Override
     protected void populateParameters(FullQueryBuilder<?, ?> queryBuilder) {
+        CorrelationQueryCache.CorrelationQuery correlationQuery = getCorrelationQuery(queryBuilder);
         FullQueryBuilder<?, ?> mainBuilder = entityViewConfiguration.getCriteriaBuilder();
-        for (Parameter<?> paramEntry : mainBuilder.getParameters()) {
-            if (!paramEntry.getName().equals(correlationParamName) && queryBuilder.containsParameter(paramEntry.getName()) && !queryBuilder.isParameterSet(paramEntry.getName())) {
-                queryBuilder.setParameter(paramEntry.getName(), mainBuilder.getParameterValue(paramEntry.getName()));
+        Map<String, Object> optionalParameters = entityViewConfiguration.getOptionalParameters();
+        for (String parameterName : correlationQuery.getParameterNames()) {
+            if (!queryBuilder.isParameterSet(parameterName)) {
+                // Parameters of the main query take precedence over optional parameters
+                if (mainBuilder.containsParameter(parameterName)) {
+                    queryBuilder.setParameter(parameterName, mainBuilder.getParameterValue(parameterName));
+                } else if (optionalParameters.containsKey(parameterName)) {
+                    queryBuilder.setParameter(parameterName, optionalParameters.get(parameterName));
+                }
+            }
+        }
+    }
+
+    private CorrelationQueryCache.CorrelationQuery getCorrelationQuery(FullQueryBuilder<?, ?> queryBuilder) {
+        // The query string is cached by the builder, so rendering it here doesn't render it again for getQuery()
+        String queryString = queryBuilder.getQueryString();
+        CorrelationQueryCache.CorrelationQuery correlationQuery = null;
+        if (correlationQueryCache != null) {
+            correlationQuery = correlationQueryCache.getCorrelationQuery(batchSize, criteriaBuilderMode);
+        }
+        // The correlation query might differ for executions with different main queries, so the parameter layout is only reused for the same query
+        if (correlationQuery == null || !correlationQuery.getQueryString().equals(queryString)) {
+            Set<? extends Parameter<?>> parameters = queryBuilder.getParameters();
+            List<String> parameterNames = new ArrayList<>(parameters.size());
+            for (Parameter<?> parameter : parameters) {
+                if (!parameter.getName().equals(correlationParamName)) {
+                    parameterNames.add(parameter.getName());
+                }
+            }
+            correlationQuery = new CorrelationQueryCache.CorrelationQuery(queryString, parameterNames.toArray(new String[parameterNames.size()]));
+            if (correlationQueryCache != null) {
+                correlationQueryCache.putCorrelationQuery(batchSize, criteriaBuilderMode, correlationQuery);
             }
         }
-        for (Map.Entry<String, Object> paramEntry : entityViewConfiguration.getOptionalParameters().entrySet()) {
-            if (!paramEntry.getKey().equals(correlationParamName) && queryBuilder.containsParameter(paramEntry.getKey()) && !queryBuilder.isParameterSet(paramEntry.getKey())) {
-                queryBuilder.setParameter(paramEntry.getKey(), paramEntry.getValue());
+        return correlationQuery;
+    }
+
+    private boolean hasCorrelationValues(List<Object[]> tuples) {
+        for (int i = 0; i < tuples.size(); i++) {
+            if (tuples.get(i)[startIndex] != null) {
+                return true;
             }
         }
+        return false;
     }
 
     private void consumeTupleMacroViewValues(List<Object[]> tuples) {
@@ -367,6 +428,7 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
                         }
                     }
                 }
+                rememberBatchCorrelationMode(BatchCorrelationMode.VALUES);
                 macro.addBatchPredicate(criteriaBuilder);
             } else {
                 // We have to bind the view id value, otherwise we might get wrong results
@@ -418,6 +480,7 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
                         }
                     }
                 }
+                rememberBatchCorrelationMode(correlationMode);
                 macro.addBatchPredicate(criteriaBuilder);
             } else {
                 // We have to bind the view id value, otherwise we might get wrong results
@@ -456,6 +519,12 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
         }
     }
 
+    private void rememberBatchCorrelationMode(BatchCorrelationMode batchCorrelationMode) {
+        if (correlationQueryCache != null && batchCorrelationMode != expectBatchCorrelationMode) {
+            correlationQueryCache.setBatchCorrelationMode(batchSize, batchCorrelationMode);
+        }
+    }
+
     private void batchLoad(Map<Object, TuplePromise> correlationValues, FixedArrayList batchParameters, FixedArrayList viewRootIds, Object defaultKey, CorrelatedSubqueryViewRootJpqlMacro macro, BatchCorrelationMode batchCorrelationMode) {
         batchParameters.clearRest();
         if (criteriaBuilder.containsParameter(correlationParamName)) {
@@ -23,6 +23,7 @@ import com.blazebit.persistence.view.impl.PrefixingQueryGenerator;
 import com.blazebit.persistence.view.impl.macro.CorrelatedSubqueryViewRootJpqlMacro;
 import com.blazebit.persistence.view.impl.macro.MutableEmbeddingViewJpqlMacro;
 import com.blazebit.persistence.view.impl.macro.MutableViewJpqlMacro;
+import com.blazebit.persistence.view.impl.metamodel.AttributeFetchStatistics;
 import com.blazebit.persistence.view.impl.metamodel.ManagedViewTypeImplementor;
 import com.blazebit.persistence.view.impl.objectbuilder.ContainerAccumulator;
 import com.blazebit.persistence.view.impl.objectbuilder.LateAdditionalObjectBuilder;
@@ -91,15 +92,17 @@ public class AbstractCorrelatedSubselectTupleTransformer implements TupleTransfo
     protected final String attributePath;
     protected final ContainerAccumulator<Object> containerAccumulator;
     protected final Limiter limiter;
+    protected final AttributeFetchStatistics fetchStatistics;
     protected FullQueryBuilder<?, ?> criteriaBuilder;
     protected int viewIndex;
     protected Map<Object, Map<Object, Object>> collections;
     protected CorrelatedSubqueryViewRootJpqlMacro viewRootJpqlMacro;
     protected MutableEmbeddingViewJpqlMacro embeddingViewJpqlMacro;
+    protected boolean skippedCorrelationQuery;
 
     public AbstractCorrelatedSubselectTupleTransformer(ExpressionFactory ef, Correlator correlator, ContainerAccumulator<?> containerAccumulator, EntityViewManagerImpl evm, ManagedViewTypeImplementor<?> viewRootType, String viewRootAlias, ManagedViewTypeImplementor<?> embeddingViewType, String embeddingViewPath,
                                                        Expression correlationResult, String correlationBasisExpression, String correlationKeyExpression, CorrelationProviderFactory correlationProviderFactory, String attributePath, String[] fetches,
-                                                       String[] indexFetches, Expression index, Correlator indexCorrelator, int viewRootIndex, int embeddingViewIndex, int tupleIndex, Class<?> correlationBasisType, Class<?> correlationBasisEntity, Limiter limiter, EntityViewConfiguration entityViewConfiguration) {
+                                                       String[] indexFetches, Expression index, Correlator indexCorrelator, int viewRootIndex, int embeddingViewIndex, int tupleIndex, Class<?> correlationBasisType, Class<?> correlationBasisEntity, Limiter limiter, EntityViewConfiguration entityViewConfiguration, AttributeFetchStatistics fetchStatistics) {
         this.startIndex = tupleIndex;
         this.attributePath = attributePath;
         this.containerAccumulator = (ContainerAccumulator<Object>) containerAccumulator;
@@ -127,6 +130,7 @@ public class AbstractCorrelatedSubselectTupleTransformer implements TupleTransfo
         this.correlationKeyExpression = correlationKeyExpression;
         this.valueIndex = correlator.getElementOffset();
         this.limiter = limiter;
+        this.fetchStatistics = fetchStatistics;
         this.correlationAlias = CorrelationProviderHelper.getDefaultCorrelationAlias(attributePath);
         if (limiter == null) {
             this.correlationExternalAlias = correlationAlias;
@@ -399,7 +403,22 @@ public class AbstractCorrelatedSubselectTupleTransformer implements TupleTransfo
 
     @Override
     public Object[] transform(Object[] tuple, UpdatableViewMap updatableViewMap) {
+        Object correlationValueKey = tuple[startIndex];
+        if (correlationValueKey == null) {
+            // Null can't be correlated, so defer executing the correlation query until a correlation value is encountered
+            tuple[startIndex] = createDefaultResult();
+            // There is no hook at the end of a result, so count the query as skipped until it is prepared
+            if (collections == null && !skippedCorrelationQuery && fetchStatistics != null) {
+                skippedCorrelationQuery = true;
+                fetchStatistics.recordSkippedCorrelationQuery();
+            }
+            return tuple;
+        }
         if (collections == null) {
+            if (skippedCorrelationQuery) {
+                skippedCorrelationQuery = false;
+                fetchStatistics.withdrawSkippedCorrelationQuery();
+            }
             prepare();
         }
         Object viewKey;
@@ -409,10 +428,7 @@ public class AbstractCorrelatedSubselectTupleTransformer implements TupleTransfo
             viewKey = tuple[viewIndex];
         }
         Map<Object, Object> collectionsByKey = collections.get(viewKey);
-        Object correlationValueKey = tuple[startIndex];
-        if (correlationValueKey == null) {
-            tuple[startIndex] = createDefaultResult();
-        } else if (collectionsByKey == null) {
+        if (collectionsByKey == null) {
             collections.put(viewKey, collectionsByKey = new HashMap<>());
             collectionsByKey.put(correlationValueKey, tuple[startIndex] = createDefaultResult());
         } else {
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation;
+
+import com.blazebit.persistence.view.impl.BatchCorrelationMode;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches the correlation queries of a correlated attribute per batch size and batch correlation mode.
+ * Subsequent query executions start with the batch correlation mode that was finally used, so that the correlation query is built only once
+ * instead of being rebuilt when the configured expectation turns out to be wrong. The rendered query string and the names of the parameters
+ * that have to be copied from the main query are remembered, so that binding the parameters of an execution only touches these parameters.
+ *
+ * The criteria builder itself is still created per execution, because it is bound to the entity manager, the CTEs and the macros of the main query.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public final class CorrelationQueryCache {
+
+    private static final int MODE_COUNT = BatchCorrelationMode.values().length;
+
+    private final ConcurrentMap<Integer, BatchCorrelationMode> batchCorrelationModes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, CorrelationQuery> correlationQueries = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the batch correlation mode that was last used for the given batch size or the given default mode.
+     *
+     * @param batchSize The batch size
+     * @param defaultMode The mode to use if no mode was used yet
+     * @return The batch correlation mode to expect
+     */
+    public BatchCorrelationMode getBatchCorrelationMode(int batchSize, BatchCorrelationMode defaultMode) {
+        BatchCorrelationMode mode = batchCorrelationModes.get(batchSize);
+        return mode == null ? defaultMode : mode;
+    }
+
+    /**
+     * Remembers the batch correlation mode that was used for the given batch size.
+     *
+     * @param batchSize The batch size
+     * @param mode The batch correlation mode that was used
+     */
+    public void setBatchCorrelationMode(int batchSize, BatchCorrelationMode mode) {
+        batchCorrelationModes.put(batchSize, mode);
+    }
+
+    /**
+     * Returns the correlation query that was built for the given batch size and batch correlation mode or <code>null</code>.
+     *
+     * @param batchSize The batch size
+     * @param mode The batch correlation mode
+     * @return The cached correlation query or <code>null</code>
+     */
+    public CorrelationQuery getCorrelationQuery(int batchSize, BatchCorrelationMode mode) {
+        return correlationQueries.get(key(batchSize, mode));
+    }
+
+    /**
+     * Remembers the correlation query that was built for the given batch size and batch correlation mode.
+     *
+     * @param batchSize The batch size
+     * @param mode The batch correlation mode
+     * @param correlationQuery The correlation query
+     */
+    public void putCorrelationQuery(int batchSize, BatchCorrelationMode mode, CorrelationQuery correlationQuery) {
+        correlationQueries.put(key(batchSize, mode), correlationQuery);
+    }
+
+    private static Integer key(int batchSize, BatchCorrelationMode mode) {
+        return batchSize * MODE_COUNT + mode.ordinal();
+    }
+
+    /**
+     * The rendered query string of a correlation query along with the names of the parameters that are bound from the main query.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    public static final class CorrelationQuery {
+
+        private final String queryString;
+        private final String[] parameterNames;
+
+        public CorrelationQuery(String queryString, String[] parameterNames) {
+            this.queryString = queryString;
+            this.parameterNames = parameterNames;
+        }
+
+        public String getQueryString() {
+            return queryString;
+        }
+
+        public String[] getParameterNames() {
+            return parameterNames;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl.proxy;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.impl.EntityViewManagerImpl;
+import com.blazebit.persistence.view.impl.accessor.Accessors;
+import com.blazebit.persistence.view.impl.accessor.AttributeAccessor;
+import com.blazebit.persistence.view.impl.metamodel.ViewTypeImplementor;
+import com.blazebit.persistence.view.metamodel.MappingAttribute;
+import com.blazebit.persistence.view.spi.type.EntityViewProxy;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads attributes that were not fetched for all objects of a query result on first access of such an attribute on any of the objects.
+ * All attributes are loaded at once with a query per batch of objects, similar to the batch fetching of JPA providers.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public final class LazyAttributeLoader {
+
+    // Used if no batch size is configured, which stays below the bind parameter limits of databases like Oracle or SQL Server
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
+    private final EntityViewManagerImpl evm;
+    private final ViewTypeImplementor<?> viewType;
+    private final Map<String, Object> optionalParameters;
+    private final Set<String> lazyAttributes;
+    private final int batchSize;
+    private volatile boolean loaded;
+    // The following are only held until the attributes are loaded, so that retaining a single object doesn't retain the whole query result
+    private EntityManager entityManager;
+    private List<Object> objects;
+
+    public LazyAttributeLoader(EntityViewManagerImpl evm, EntityManager entityManager, ViewTypeImplementor<?> viewType, Map<String, Object> optionalParameters, Set<String> lazyAttributes, int batchSize, List<?> objects) {
+        this.evm = evm;
+        this.entityManager = entityManager;
+        this.viewType = viewType;
+        this.optionalParameters = optionalParameters;
+        this.lazyAttributes = lazyAttributes;
+        this.batchSize = batchSize < 1 ? DEFAULT_BATCH_SIZE : batchSize;
+        this.objects = new ArrayList<Object>(objects);
+    }
+
+    /**
+     * Loads the attributes that were not fetched for all objects of the query result if the given attribute wasn't fetched
+     * and the attributes weren't loaded yet. This is invoked by the getters of entity view proxies for attributes that support lazy loading.
+     *
+     * @param object The object on which the attribute is accessed
+     * @param attributeName The attribute name
+     */
+    public void load(Object object, String attributeName) {
+        // Fetched attributes are accessed without loading anything, so this also works after the EntityManager is closed
+        if (!loaded && lazyAttributes.contains(attributeName)) {
+            synchronized (this) {
+                if (!loaded) {
+                    loadAttributes(attributeName);
+                    loaded = true;
+                    entityManager = null;
+                    objects = null;
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadAttributes(String attributeName) {
+        if (!entityManager.isOpen()) {
+            throw new IllegalStateException(createLoadErrorMessage(attributeName));
+        }
+        Set<Object> ids = new LinkedHashSet<>(objects.size());
+        for (int i = 0; i < objects.size(); i++) {
+            Object object = objects.get(i);
+            if (object instanceof EntityViewProxy) {
+                ids.add(((EntityViewProxy) object).$$_getId());
+            }
+        }
+
+        EntityViewSetting<Object, CriteriaBuilder<Object>> setting = EntityViewSetting.create((Class<Object>) viewType.getJavaType());
+        for (String lazyAttribute : lazyAttributes) {
+            setting.fetch(lazyAttribute);
+        }
+        setting.addOptionalParameters(optionalParameters);
+        // The objects of the load query are only used to extract the attribute values, so avoid lazy loading for them
+        setting.setProperty(ConfigurationProperties.LAZY_LOADING, Boolean.FALSE);
+        String idMapping = ((MappingAttribute<?, ?>) viewType.getIdAttribute()).getMapping();
+
+        List<Object> resultList = new ArrayList<>(ids.size());
+        List<Object> batchIds = new ArrayList<>(Math.min(batchSize, ids.size()));
+        for (Object id : ids) {
+            batchIds.add(id);
+            if (batchIds.size() == batchSize) {
+                resultList.addAll(loadBatch(setting, idMapping, batchIds, attributeName));
+                batchIds.clear();
+            }
+        }
+        if (!batchIds.isEmpty()) {
+            resultList.addAll(loadBatch(setting, idMapping, batchIds, attributeName));
+        }
+
+        Map<String, AttributeAccessor> accessors = new HashMap<>(lazyAttributes.size());
+        for (String lazyAttribute : lazyAttributes) {
+            accessors.put(lazyAttribute, Accessors.forViewAttribute(evm, viewType.getAttribute(lazyAttribute), true));
+        }
+        Map<Object, Object> results = new HashMap<>(resultList.size());
+        for (int i = 0; i < resultList.size(); i++) {
+            Object result = resultList.get(i);
+            results.put(((EntityViewProxy) result).$$_getId(), result);
+        }
+
+        for (int i = 0; i < objects.size(); i++) {
+            Object object = objects.get(i);
+            if (object instanceof LazyAttributeLoadingProxy) {
+                Object result = results.get(((EntityViewProxy) object).$$_getId());
+                for (Map.Entry<String, AttributeAccessor> entry : accessors.entrySet()) {
+                    ((LazyAttributeLoadingProxy) object).$$_setLazyAttribute(entry.getKey(), result == null ? null : entry.getValue().getValue(result));
+                }
+                // Everything is loaded, so the getters don't have to consult the loader anymore
+                ((LazyAttributeLoadingProxy) object).$$_setLazyAttributeLoader(null);
+            }
+        }
+    }
+
+    private List<Object> loadBatch(EntityViewSetting<Object, CriteriaBuilder<Object>> setting, String idMapping, List<Object> batchIds, String attributeName) {
+        try {
+            CriteriaBuilder<?> criteriaBuilder = evm.getCriteriaBuilderFactory().create(entityManager, viewType.getEntityClass());
+            criteriaBuilder.where(idMapping).in(new ArrayList<>(batchIds));
+            return evm.applySetting(setting, criteriaBuilder).getResultList();
+        } catch (IllegalStateException ex) {
+            // JPA providers throw this exception when the EntityManager is closed or can't be used anymore e.g. outside of a transaction scope
+            throw new IllegalStateException(createLoadErrorMessage(attributeName), ex);
+        }
+    }
+
+    private String createLoadErrorMessage(String attributeName) {
+        return "Could not lazy load the attribute '" + attributeName + "' of the entity view '" + viewType.getJavaType().getName()
+                + "' because the EntityManager that was used to query the entity view is closed or not usable anymore. "
+                + "Fetch the attribute through the EntityViewSetting or access it before the EntityManager is closed!";
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl.proxy;
+
+/**
+ * Implemented by entity view proxies that support loading attributes, which were not fetched, on first access.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public interface LazyAttributeLoadingProxy {
+
+    /**
+     * Sets the loader that is responsible for loading the attributes of this object that were not fetched.
+     *
+     * @param lazyAttributeLoader The loader
+     */
+    public void $$_setLazyAttributeLoader(LazyAttributeLoader lazyAttributeLoader);
+
+    /**
+     * Sets the lazily loaded value for the attribute with the given name.
+     *
+     * @param attributeName The attribute name
+     * @param value The loaded value
+     */
+    public void $$_setLazyAttribute(String attributeName, Object value);
+}
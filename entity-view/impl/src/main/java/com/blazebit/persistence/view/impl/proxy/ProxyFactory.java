@@ -38,9 +38,11 @@ import com.blazebit.persistence.view.metamodel.SingularAttribute;
 import com.blazebit.persistence.view.metamodel.Type;
 import com.blazebit.persistence.view.metamodel.ViewType;
 import com.blazebit.persistence.view.spi.type.BasicDirtyTracker;
+import com.blazebit.persistence.view.spi.type.BasicUserType;
 import com.blazebit.persistence.view.spi.type.DirtyStateTrackable;
 import com.blazebit.persistence.view.spi.type.DirtyTracker;
 import com.blazebit.persistence.view.spi.type.EntityViewProxy;
+import com.blazebit.persistence.view.spi.type.ImmutableBasicUserType;
 import com.blazebit.persistence.view.spi.type.MutableStateTrackable;
 import com.blazebit.reflection.ReflectionUtils;
 import javassist.CannotCompileException;
@@ -78,9 +80,11 @@ import javassist.compiler.ast.Stmnt;
 import javax.persistence.metamodel.EntityType;
 import javax.persistence.metamodel.IdentifiableType;
 import javax.persistence.metamodel.ManagedType;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectStreamClass;
 import java.io.ObjectStreamConstants;
 import java.io.ObjectStreamField;
@@ -90,6 +94,8 @@ import java.io.StringWriter;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -124,9 +130,13 @@ public class ProxyFactory {
     private final ConcurrentMap<Class<?>, Class<?>> unsafeProxyClasses = new ConcurrentHashMap<>();
     private final ConcurrentMap<Class<?>, Class<?>> proxyClassesToViewClasses = new ConcurrentHashMap<>();
     private final Object proxyLock = new Object();
-    private final ClassPool pool;
+    // Guarded by proxyLock, just like the pool, which reads the bytecode of generated classes through a GeneratedClassPath
+    // Only the bytecode of proxies and proxy base classes is retained, as these are the only generated classes that later proxies refer to by name
+    private final Map<String, byte[]> generatedClassBytecodes = new HashMap<>();
+    private ClassPool pool;
     private final boolean unsafeDisabled;
     private final boolean strictCascadingCheck;
+    private final boolean lazyLoading;
     private final PackageOpener packageOpener;
 
     static {
@@ -156,14 +166,34 @@ public class ProxyFactory {
     }
 
     public ProxyFactory(boolean unsafeDisabled, boolean strictCascadingCheck, PackageOpener packageOpener) {
-        ClassPool pool = new ClassPool((ClassPool) null);
-        pool.appendSystemPath();
-        this.pool = pool;
+        this(unsafeDisabled, strictCascadingCheck, false, packageOpener);
+    }
+
+    public ProxyFactory(boolean unsafeDisabled, boolean strictCascadingCheck, boolean lazyLoading, PackageOpener packageOpener) {
+        this.pool = createClassPool();
         this.unsafeDisabled = unsafeDisabled;
         this.strictCascadingCheck = strictCascadingCheck;
+        this.lazyLoading = lazyLoading;
         this.packageOpener = packageOpener;
     }
 
+    private ClassPool createClassPool() {
+        ClassPool pool = new ClassPool((ClassPool) null);
+        pool.appendSystemPath();
+        pool.appendClassPath(new GeneratedClassPath());
+        return pool;
+    }
+
+    /**
+     * Replaces the class pool with a new one so that the class representations cached during proxy generation can be garbage collected.
+     * Generated proxies and proxy base classes stay resolvable for proxies that are generated later, as the class pool reads them from the retained bytecode.
+     */
+    public void releaseClassPool() {
+        synchronized (proxyLock) {
+            pool = createClassPool();
+        }
+    }
+
     public <T> Class<? extends T> getProxy(EntityViewManager entityViewManager, ManagedViewTypeImplementor<T> viewType) {
         if (viewType.getConstructors().isEmpty() || unsafeDisabled) {
             return getProxy(entityViewManager, viewType, false);
@@ -333,7 +363,7 @@ public class ProxyFactory {
 
                     addReadsModule(proxyClass, classOfPackage, ProxyFactory.class);
                     addReadsModule(proxyClass, classOfPackage, baseClass);
-                    proxyClass = defineOrGetClass(proxyClass, classOfPackage, cc);
+                    proxyClass = defineOrGetClass(proxyClass, classOfPackage, cc, true);
                 }
             }
 
@@ -355,7 +385,7 @@ public class ProxyFactory {
                 readsInjectorClass = classOfPackage.getClassLoader().loadClass(addReadsInjectorClassName);
             } catch (ClassNotFoundException ex) {
                 CtClass injectorCc = pool.getAndRename(AddReadsInjector.class.getName(), addReadsInjectorClassName);
-                readsInjectorClass = defineOrGetClass(proxyClass, classOfPackage, injectorCc);
+                readsInjectorClass = defineOrGetClass(proxyClass, classOfPackage, injectorCc, false);
             }
             Method addReadsModule = readsInjectorClass.getMethod("addReadsModule", Class.class);
             addReadsModule.invoke(null, classFromTargetModule);
@@ -483,6 +513,18 @@ public class ProxyFactory {
 
             addGetter(cc, idField, "$$_getId", Object.class);
 
+            // Lazy loading is only supported for read-only views, as fetches can't be specified for updatable or creatable views
+            CtField lazyAttributeLoaderField = null;
+            List<CtField> lazyAttributeFields = null;
+            if (lazyLoading && viewType != null && mutableStateField == null && !idAttribute.isSubview()) {
+                cc.addInterface(pool.get(LazyAttributeLoadingProxy.class.getName()));
+                lazyAttributeLoaderField = new CtField(pool.get(LazyAttributeLoader.class.getName()), "$$_lazyAttributeLoader", cc);
+                lazyAttributeLoaderField.setModifiers(Modifier.PRIVATE | Modifier.TRANSIENT);
+                cc.addField(lazyAttributeLoaderField);
+                cc.addMethod(CtMethod.make("public void $$_setLazyAttributeLoader(" + LazyAttributeLoader.class.getName() + " lazyAttributeLoader) { $0.$$_lazyAttributeLoader = $1; }", cc));
+                lazyAttributeFields = new ArrayList<>();
+            }
+
             int mutableAttributeCount = 0;
             for (MethodAttribute<?, ?> attribute : attributes) {
                 AbstractMethodAttribute<?, ?> methodAttribute = (AbstractMethodAttribute<?, ?>) attribute;
@@ -501,7 +543,13 @@ public class ProxyFactory {
                     }
                 }
                 boolean forceMutable = mutableStateField != null && methodAttribute == versionAttribute;
-                CtField attributeField = addMembersForAttribute(methodAttribute, clazz, cc, mutableStateField, dirtyChecking, false, forceMutable);
+                CtField attributeField;
+                if (lazyAttributeLoaderField != null && methodAttribute != versionAttribute && (methodAttribute.isCollection() || methodAttribute.isSubview())) {
+                    attributeField = addMembersForAttribute(methodAttribute, clazz, cc, mutableStateField, dirtyChecking, false, true, lazyAttributeLoaderField);
+                    lazyAttributeFields.add(attributeField);
+                } else {
+                    attributeField = addMembersForAttribute(methodAttribute, clazz, cc, mutableStateField, dirtyChecking, false, forceMutable);
+                }
                 fieldMap.put(attribute.getName(), attributeField);
                 attributeFields[i] = attributeField;
                 attributeTypes[i] = attributeField.getType();
@@ -514,6 +562,10 @@ public class ProxyFactory {
                 i++;
             }
 
+            if (lazyAttributeLoaderField != null) {
+                addSetLazyAttribute(cc, lazyAttributeFields);
+            }
+
             if (mutableStateField != null) {
                 if (versionAttribute != null) {
                     CtField versionField = fieldMap.get(versionAttribute.getName());
@@ -546,7 +598,7 @@ public class ProxyFactory {
                                 supportsDirtyTracking[mutableAttributeIndex++] = true;
                             } else {
                                 allSupportDirtyTracking = false;
-                                alwaysDirtyMask |= 1 << mutableAttributeIndex;
+                                alwaysDirtyMask |= 1L << mutableAttributeIndex;
                                 supportsDirtyTracking[mutableAttributeIndex++] = false;
                             }
                         }
@@ -611,7 +663,7 @@ public class ProxyFactory {
                 cc.addConstructor(createTupleConstructor(managedViewType, constructor, cc, attributeFields.length, constructorAttributeTypes.length, attributeFields, constructorAttributeTypes, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, true, alwaysDirtyMask, unsafe));
             }
 
-            return defineOrGetClass(entityViewManager, unsafe, clazz, clazz, cc);
+            return defineOrGetClass(entityViewManager, unsafe, clazz, clazz, cc, true);
         } catch (Exception ex) {
             throw new RuntimeException("Probably we did something wrong, please contact us if you see this message.", ex);
         } finally {
@@ -706,7 +758,8 @@ public class ProxyFactory {
         CtField emptyBytesField = new CtField(pool.get("byte[]"), "EMPTY_INSTANCE_BYTES", serializableClass);
         emptyBytesField.setModifiers(Modifier.STATIC | Modifier.FINAL);
         serializableClass.addField(emptyBytesField, CtField.Initializer.byExpr(emptyInstanceByteBuilder.toString()));
-        defineOrGetClass(clazz, clazz, serializableClass);
+        // The serializable class is only looked up by name during deserialization, which goes through the class loader
+        defineOrGetClass(clazz, clazz, serializableClass, false);
     }
 
     private static void appendBytesAsHex(StringBuilder sb, byte[] bytes) {
@@ -995,11 +1048,11 @@ public class ProxyFactory {
         return managedViewType.getEntityClass();
     }
 
-    private <T> Class<? extends T> defineOrGetClass(Class<?> clazz, Class<?> neighbourClazz, CtClass cc) throws IOException, IllegalAccessException, NoSuchFieldException, CannotCompileException {
-        return defineOrGetClass(null, false, clazz, neighbourClazz, cc);
+    private <T> Class<? extends T> defineOrGetClass(Class<?> clazz, Class<?> neighbourClazz, CtClass cc, boolean resolvableByName) throws IOException, IllegalAccessException, NoSuchFieldException, CannotCompileException {
+        return defineOrGetClass(null, false, clazz, neighbourClazz, cc, resolvableByName);
     }
 
-    private <T> Class<? extends T> defineOrGetClass(EntityViewManager entityViewManager, boolean unsafe, Class<?> clazz, Class<?> neighbourClazz, CtClass cc) throws IOException, IllegalAccessException, NoSuchFieldException, CannotCompileException {
+    private <T> Class<? extends T> defineOrGetClass(EntityViewManager entityViewManager, boolean unsafe, Class<?> clazz, Class<?> neighbourClazz, CtClass cc, boolean resolvableByName) throws IOException, IllegalAccessException, NoSuchFieldException, CannotCompileException {
         Class<? extends T> c;
         boolean newlyDefined = false;
         try {
@@ -1012,7 +1065,11 @@ public class ProxyFactory {
                 cc.writeFile(DEBUG_DUMP_DIRECTORY.toString());
             }
 
-            c = (Class<? extends T>) UnsafeHelper.define(cc.getName(), cc.toBytecode(), neighbourClazz);
+            byte[] bytecode = cc.toBytecode();
+            if (resolvableByName) {
+                generatedClassBytecodes.put(cc.getName(), bytecode);
+            }
+            c = (Class<? extends T>) UnsafeHelper.define(cc.getName(), bytecode, neighbourClazz);
             newlyDefined = true;
         } catch (CannotCompileException | LinkageError ex) {
             // If there are multiple proxy factories for the same class loader
@@ -1235,6 +1292,10 @@ public class ProxyFactory {
     }
 
     private CtField addMembersForAttribute(AbstractMethodAttribute<?, ?> attribute, Class<?> clazz, CtClass cc, CtField mutableStateField, boolean dirtyChecking, boolean isId, boolean forceMutable) throws CannotCompileException, NotFoundException {
+        return addMembersForAttribute(attribute, clazz, cc, mutableStateField, dirtyChecking, isId, forceMutable, null);
+    }
+
+    private CtField addMembersForAttribute(AbstractMethodAttribute<?, ?> attribute, Class<?> clazz, CtClass cc, CtField mutableStateField, boolean dirtyChecking, boolean isId, boolean forceMutable, CtField lazyAttributeLoaderField) throws CannotCompileException, NotFoundException {
         Method getter = attribute.getJavaMethod();
         Method setter = ReflectionUtils.getSetter(clazz, attribute.getName());
         
@@ -1247,17 +1308,22 @@ public class ProxyFactory {
         }
         cc.addField(attributeField);
         
-        createGettersAndSetters(attribute, clazz, cc, getter, setter, mutableStateField, attributeField, dirtyChecking, isId);
+        createGettersAndSetters(attribute, clazz, cc, getter, setter, mutableStateField, attributeField, dirtyChecking, isId, lazyAttributeLoaderField);
         
         return attributeField;
     }
 
-    private void createGettersAndSetters(AbstractMethodAttribute<?, ?> attribute, Class<?> clazz, CtClass cc, Method getter, Method setter, CtField mutableStateField, CtField attributeField, boolean dirtyChecking, boolean isId) throws CannotCompileException, NotFoundException {
+    private void createGettersAndSetters(AbstractMethodAttribute<?, ?> attribute, Class<?> clazz, CtClass cc, Method getter, Method setter, CtField mutableStateField, CtField attributeField, boolean dirtyChecking, boolean isId, CtField lazyAttributeLoaderField) throws CannotCompileException, NotFoundException {
         SignatureAttribute sa = (SignatureAttribute)attributeField.getFieldInfo2().getAttribute(SignatureAttribute.tag);
         String genericSignature = sa == null ? null : sa.getSignature();
         List<Method> bridgeGetters = getBridgeGetters(clazz, attribute, getter);
         
-        CtMethod attributeGetter = addGetter(cc, attributeField, getter.getName());
+        CtMethod attributeGetter;
+        if (lazyAttributeLoaderField == null) {
+            attributeGetter = addGetter(cc, attributeField, getter.getName());
+        } else {
+            attributeGetter = addLazyGetter(cc, attributeField, getter.getName(), lazyAttributeLoaderField);
+        }
         
         if (genericSignature != null) {
             String getterGenericSignature = "()" + genericSignature;
@@ -1285,6 +1351,39 @@ public class ProxyFactory {
         }
     }
 
+    private CtMethod addLazyGetter(CtClass cc, CtField field, String methodName, CtField lazyAttributeLoaderField) throws CannotCompileException, NotFoundException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("public ").append(field.getType().getName()).append(' ').append(methodName).append("() {\n");
+        // The loader is reset after loading, so it must only be read once
+        sb.append("\t").append(lazyAttributeLoaderField.getType().getName()).append(" lazyAttributeLoader = $0.").append(lazyAttributeLoaderField.getName()).append(";\n");
+        sb.append("\tif (lazyAttributeLoader != null) {\n");
+        sb.append("\t\tlazyAttributeLoader.load($0, \"").append(field.getName()).append("\");\n");
+        sb.append("\t}\n");
+        sb.append("\treturn $0.").append(field.getName()).append(";\n");
+        sb.append('}');
+
+        CtMethod method = CtMethod.make(sb.toString(), cc);
+        cc.addMethod(method);
+        return method;
+    }
+
+    private CtMethod addSetLazyAttribute(CtClass cc, List<CtField> lazyAttributeFields) throws CannotCompileException, NotFoundException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("public void $$_setLazyAttribute(String attributeName, Object value) {\n");
+        for (CtField field : lazyAttributeFields) {
+            sb.append("\tif (\"").append(field.getName()).append("\".equals($1)) {\n");
+            sb.append("\t\t$0.").append(field.getName()).append(" = (").append(field.getType().getName()).append(") $2;\n");
+            sb.append("\t\treturn;\n");
+            sb.append("\t}\n");
+        }
+        sb.append("\tthrow new IllegalArgumentException(\"Invalid lazy attribute name: \" + $1);\n");
+        sb.append('}');
+
+        CtMethod method = CtMethod.make(sb.toString(), cc);
+        cc.addMethod(method);
+        return method;
+    }
+
     private CtMethod addEmptyIsNew(CtClass cc, CtClass returnType) throws CannotCompileException {
         String desc = "()" + Descriptor.of(returnType);
         ConstPool cp = cc.getClassFile().getConstPool();
@@ -1377,7 +1476,7 @@ public class ProxyFactory {
         StringBuilder sb = new StringBuilder();
 
         sb.append("{\n");
-        sb.append("\t$0.").append(dirtyFieldName).append(" |= (1 << $1);\n");
+        sb.append("\t$0.").append(dirtyFieldName).append(" |= (1L << $1);\n");
 
         sb.append("\tif ($0.$$_parent != null) {\n");
         sb.append("\t$0.$$_parent.$$_markDirty($0.$$_parentIndex);\n");
@@ -1525,10 +1624,10 @@ public class ProxyFactory {
         }
 
         for (int i = 0; i < supportsDirtyTracking.length; i++) {
-            long mask = 1 << i;
+            long mask = 1L << i;
 
             if (supportsDirtyTracking[i]) {
-                sb.append("\t\t$2[").append(i).append("] = (dirty & ").append(mask).append(") == 0 ? null : $1[").append(i).append("];\n");
+                sb.append("\t\t$2[").append(i).append("] = (dirty & ").append(mask).append("L) == 0 ? null : $1[").append(i).append("];\n");
             } else {
                 sb.append("\t\t$2[").append(i).append("] = $1[").append(i).append("];\n");
             }
@@ -1977,6 +2076,14 @@ public class ProxyFactory {
             }
         }
 
+        String unchangedValueCondition;
+        if (dirtyChecking && !invalidSetter && attribute != null && attribute.getDirtyStateIndex() != -1 && (unchangedValueCondition = getUnchangedValueCondition(attribute, attributeField)) != null) {
+            // Setting an equal value can't change the state, so we avoid marking the attribute as dirty
+            sb.append("\tif ($0.$$_initialized && ").append(unchangedValueCondition).append(") {\n");
+            sb.append("\t\treturn;\n");
+            sb.append("\t}\n");
+        }
+
         if (attribute != null && attribute.getDirtyStateIndex() != -1) {
             int mutableStateIndex = attribute.getDirtyStateIndex();
             // Unset previous object parent
@@ -2057,6 +2164,51 @@ public class ProxyFactory {
         return method;
     }
     
+    /**
+     * Returns the condition under which a setter invocation leaves the attribute unchanged, or <code>null</code> if that can't be decided at compile time.
+     * Primitives are compared without boxing and immutable types that don't support dirty checking and inherit {@link ImmutableBasicUserType#isEqual(Object, Object)} with equals, which is what that method does.
+     * The equality of other types is pluggable through their {@link BasicUserType} or requires deep comparison,
+     * so these attributes are still marked dirty on every setter invocation and compared to the initial state by the dirty checkers during flushing.
+     */
+    private String getUnchangedValueCondition(AbstractMethodAttribute<?, ?> attribute, CtField attributeField) throws NotFoundException {
+        if (attribute.isCollection() || attribute.isSubview()) {
+            return null;
+        }
+        String field = "$0." + attributeField.getName();
+        CtClass fieldType = attributeField.getType();
+        if (fieldType.isPrimitive()) {
+            // The == operator doesn't distinguish 0.0 and -0.0, so we can only compare non-floating point primitives
+            if (fieldType == CtClass.floatType || fieldType == CtClass.doubleType) {
+                return null;
+            }
+            return field + " == $1";
+        }
+        Type<?> type = ((SingularAttribute<?, ?>) attribute).getType();
+        if (!(type instanceof BasicType<?>)) {
+            return null;
+        }
+        BasicUserType<?> userType = ((BasicType<?>) type).getUserType();
+        if (userType.isMutable() || userType.supportsDirtyChecking()) {
+            return null;
+        }
+        if (hasEqualsBasedEquality(userType)) {
+            return "(" + field + " == $1 || " + field + " != null && " + field + ".equals($1))";
+        }
+        // The same instance of an immutable type is unchanged
+        return field + " == $1";
+    }
+
+    private static boolean hasEqualsBasedEquality(BasicUserType<?> userType) {
+        if (!(userType instanceof ImmutableBasicUserType<?>)) {
+            return false;
+        }
+        try {
+            return userType.getClass().getMethod("isEqual", Object.class, Object.class).getDeclaringClass() == ImmutableBasicUserType.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
     private List<Method> getBridgeGetters(Class<?> clazz, MethodAttribute<?, ?> attribute, Method getter) {
         List<Method> bridges = new ArrayList<Method>();
         String name = getter.getName();
@@ -3508,5 +3660,35 @@ public class ProxyFactory {
         unsafeProxyClasses.clear();
         baseClasses.clear();
         proxyClassesToViewClasses.clear();
+        synchronized (proxyLock) {
+            generatedClassBytecodes.clear();
+            pool = createClassPool();
+        }
+    }
+
+    /**
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private class GeneratedClassPath implements ClassPath {
+
+        @Override
+        public InputStream openClassfile(String classname) {
+            byte[] bytecode = generatedClassBytecodes.get(classname);
+            return bytecode == null ? null : new ByteArrayInputStream(bytecode);
+        }
+
+        @Override
+        public URL find(String classname) {
+            if (!generatedClassBytecodes.containsKey(classname)) {
+                return null;
+            }
+            try {
+                return new URL("file", null, "/" + classname.replace('.', '/') + ".class");
+            } catch (MalformedURLException e) {
+                return null;
+            }
+        }
     }
 }
@@ -6,10 +6,13 @@
 package com.blazebit.persistence.view.impl.proxy;
 
 import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.StaticImplementation;
 import com.blazebit.persistence.view.impl.metamodel.ManagedViewTypeImplementor;
 import com.blazebit.persistence.view.impl.metamodel.MappingConstructorImpl;
+import com.blazebit.persistence.view.spi.type.EntityViewTupleInstantiator;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.List;
 
@@ -22,6 +25,7 @@ public class TupleConstructorReflectionInstantiator<T> extends AbstractReflectio
 
     private final Constructor<T> constructor;
     private final Object[] defaultObject;
+    private final EntityViewTupleInstantiator<T> tupleInstantiator;
 
     public TupleConstructorReflectionInstantiator(MappingConstructorImpl<T> mappingConstructor, ProxyFactory proxyFactory, ManagedViewTypeImplementor<T> viewType, Class<?>[] parameterTypes,
                                                   EntityViewManager entityViewManager, List<MutableBasicUserTypeEntry> mutableBasicUserTypes, List<TypeConverterEntry> typeConverterEntries) {
@@ -57,15 +61,39 @@ public class TupleConstructorReflectionInstantiator<T> extends AbstractReflectio
 
         this.constructor = javaConstructor;
         this.defaultObject = defaultObject;
+        if (mappingConstructor == null || mappingConstructor.getParameterAttributes().isEmpty()) {
+            this.tupleInstantiator = getStaticTupleInstantiator(proxyClazz);
+        } else {
+            this.tupleInstantiator = null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> EntityViewTupleInstantiator<T> getStaticTupleInstantiator(Class<T> proxyClazz) {
+        if (proxyClazz.getAnnotation(StaticImplementation.class) == null) {
+            return null;
+        }
+        try {
+            Field field = proxyClazz.getField(EntityViewTupleInstantiator.FIELD_NAME);
+            return (EntityViewTupleInstantiator<T>) field.get(null);
+        } catch (NoSuchFieldException | IllegalAccessException ex) {
+            // Static implementations generated by older annotation processor versions have no tuple instantiator
+            return null;
+        }
     }
 
     @Override
     public T newInstance(Object[] tuple) {
         try {
             prepareTuple(tuple);
-            Object[] array = Arrays.copyOf(defaultObject, defaultObject.length);
-            array[2] = tuple;
-            T instance = constructor.newInstance(array);
+            T instance;
+            if (tupleInstantiator == null) {
+                Object[] array = Arrays.copyOf(defaultObject, defaultObject.length);
+                array[2] = tuple;
+                instance = constructor.newInstance(array);
+            } else {
+                instance = tupleInstantiator.newInstance(0, tuple);
+            }
             finalizeInstance(instance);
             return instance;
         } catch (Exception ex) {
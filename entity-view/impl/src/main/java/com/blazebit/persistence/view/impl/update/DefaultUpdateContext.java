@@ -45,6 +45,7 @@ import com.blazebit.persistence.view.spi.type.EntityViewProxy;
 import javax.persistence.EntityManager;
 import javax.transaction.Synchronization;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -70,6 +71,7 @@ public class DefaultUpdateContext implements UpdateContext, FlushOperationBuilde
     private final Class<?> entityViewClass;
     private final Object object;
     private final Object entity;
+    private final Collection<?> objects;
     private final TransactionAccess transactionAccess;
     private final InitialStateResetter initialStateResetter;
     private final ListenerManager listenerManager;
@@ -79,6 +81,14 @@ public class DefaultUpdateContext implements UpdateContext, FlushOperationBuilde
     private List<PostFlushDeleter> orphanRemovalDeleters = new ArrayList<>();
 
     public DefaultUpdateContext(EntityViewManagerImpl evm, EntityManager em, boolean forceFull, boolean forceEntity, boolean remove, Class<?> entityViewClass, Object object, Object entity) {
+        this(evm, em, forceFull, forceEntity, remove, entityViewClass, object, entity, null);
+    }
+
+    public DefaultUpdateContext(EntityViewManagerImpl evm, EntityManager em, boolean forceFull, Collection<?> objects) {
+        this(evm, em, forceFull, false, false, null, null, null, objects);
+    }
+
+    private DefaultUpdateContext(EntityViewManagerImpl evm, EntityManager em, boolean forceFull, boolean forceEntity, boolean remove, Class<?> entityViewClass, Object object, Object entity, Collection<?> objects) {
         this.evm = evm;
         this.em = em;
         this.forceFull = forceFull;
@@ -88,6 +98,7 @@ public class DefaultUpdateContext implements UpdateContext, FlushOperationBuilde
         this.entityViewClass = entityViewClass;
         this.object = object;
         this.entity = entity;
+        this.objects = objects;
 
         if (!transactionAccess.isActive()) {
             throw new IllegalStateException("Transaction is not active!");
@@ -675,6 +686,8 @@ public class DefaultUpdateContext implements UpdateContext, FlushOperationBuilde
             } else {
                 evm.remove(this, entityViewClass, object);
             }
+        } else if (objects != null) {
+            evm.updateAll(this, objects);
         } else {
             if (entity == null) {
                 evm.update(this, object);
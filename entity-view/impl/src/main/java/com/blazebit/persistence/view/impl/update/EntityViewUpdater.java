@@ -12,6 +12,8 @@ import com.blazebit.persistence.view.impl.update.flush.DirtyAttributeFlusher;
 import com.blazebit.persistence.view.impl.update.flush.FetchGraphNode;
 import com.blazebit.persistence.view.spi.type.EntityViewProxy;
 
+import java.util.List;
+
 /**
  *
  * @author Christian Beikov
@@ -25,6 +27,8 @@ public interface EntityViewUpdater extends UpdateQueryFactory {
 
     public <T extends DirtyAttributeFlusher<T, E, V>, E, V> DirtyAttributeFlusher<T, E, V> getNestedDirtyFlusher(UpdateContext context, MutableStateTrackable current, DirtyAttributeFlusher<T, E, V> fullFlusher);
 
+    public void loadEntities(UpdateContext context, List<Object> updatableProxies);
+
     public boolean executeUpdate(UpdateContext context, MutableStateTrackable updatableProxy);
 
     public Object executeUpdate(UpdateContext context, Object entity, MutableStateTrackable updatableProxy);
@@ -97,6 +97,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  *
@@ -106,6 +108,11 @@ import java.util.TreeMap;
 public class EntityViewUpdaterImpl implements EntityViewUpdater {
 
     public static final String WHERE_CLAUSE_PREFIX = "_";
+    /**
+     * The maximum number of cached partial update query strings per view type.
+     * Once reached, the query strings of further dirty attribute combinations are rendered on every flush.
+     */
+    private static final int MAX_CACHED_UPDATE_QUERIES = 256;
 
     private final boolean rootUpdateAllowed;
     private final ManagedViewTypeImplementor<?> managedViewType;
@@ -118,6 +125,7 @@ public class EntityViewUpdaterImpl implements EntityViewUpdater {
     private final String updatePostfixString;
     private final String versionedUpdatePostfixString;
     private final String fullUpdateQueryString;
+    private final ConcurrentMap<Object, PartialUpdateQuery> partialUpdateQueryCache = new ConcurrentHashMap<>();
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public EntityViewUpdaterImpl(EntityViewManagerImpl evm, Map<Object, EntityViewUpdaterImpl> localCache, ManagedViewTypeImplementor<?> viewType, ManagedViewTypeImplementor<?> declaredViewType, EntityViewUpdaterImpl owner, String ownerMapping) {
@@ -621,6 +629,20 @@ public class EntityViewUpdaterImpl implements EntityViewUpdater {
         return managedViewType;
     }
 
+    @Override
+    public void loadEntities(UpdateContext context, List<Object> updatableProxies) {
+        // The views are expected to share the same dirty state, so the dirty flusher of one view is representative for all
+        MutableStateTrackable updatableProxy = (MutableStateTrackable) updatableProxies.get(0);
+        if (updatableProxy.$$_isNew()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        DirtyAttributeFlusher<?, Object, Object> flusher = getNestedDirtyFlusher(context, updatableProxy, (DirtyAttributeFlusher) null);
+        if (flusher instanceof CompositeAttributeFlusher && (flushStrategy == FlushStrategy.ENTITY || context.isForceEntity() || !flusher.supportsQueryFlush())) {
+            ((CompositeAttributeFlusher) flusher).loadEntities(context, updatableProxies);
+        }
+    }
+
     @Override
     public boolean executeUpdate(UpdateContext context, MutableStateTrackable updatableProxy) {
         return update(context, null, updatableProxy);
@@ -643,27 +665,17 @@ public class EntityViewUpdaterImpl implements EntityViewUpdater {
             queryString = fullUpdateQueryString;
             needsOptimisticLocking = fullFlusher.hasVersionFlusher();
         } else {
-            StringBuilder sb = new StringBuilder(updatePrefixString.length() + updatePostfixString.length() + 250);
-            sb.append(updatePrefixString);
-            int initialLength = sb.length();
-            flusher.appendUpdateQueryFragment(context, sb, "e.", "", ", ");
-            if (sb.length() == initialLength) {
-                // If we still need optimistic locking, we just append a flush for the version increment
-                if (needsOptimisticLocking = fullFlusher.hasVersionFlusher() && flusher.isOptimisticLockProtected()) {
-                    versionFlusher.appendUpdateQueryFragment(context, sb, "e.", "", ", ");
-                    sb.append(versionedUpdatePostfixString);
-                    queryString = sb.toString();
-                } else {
-                    queryString = null;
+            // Dirty attribute combinations repeat, so we cache the rendered query string by the dirty attributes
+            Object key = flusher instanceof CompositeAttributeFlusher ? ((CompositeAttributeFlusher) flusher).getUpdateQueryFragmentKey() : null;
+            PartialUpdateQuery partialUpdateQuery = key == null ? null : partialUpdateQueryCache.get(key);
+            if (partialUpdateQuery == null) {
+                partialUpdateQuery = createPartialUpdateQuery(context, flusher);
+                if (key != null && partialUpdateQueryCache.size() < MAX_CACHED_UPDATE_QUERIES) {
+                    partialUpdateQueryCache.putIfAbsent(key, partialUpdateQuery);
                 }
-            } else {
-                if (needsOptimisticLocking = fullFlusher.hasVersionFlusher() && flusher.isOptimisticLockProtected()) {
-                    sb.append(versionedUpdatePostfixString);
-                } else {
-                    sb.append(updatePostfixString);
-                }
-                queryString = sb.toString();
             }
+            queryString = partialUpdateQuery.queryString;
+            needsOptimisticLocking = partialUpdateQuery.needsOptimisticLocking;
         }
 
         Query query = null;
@@ -680,6 +692,31 @@ public class EntityViewUpdaterImpl implements EntityViewUpdater {
         return query;
     }
 
+    private PartialUpdateQuery createPartialUpdateQuery(UpdateContext context, DirtyAttributeFlusher<?, ?, ?> flusher) {
+        StringBuilder sb = new StringBuilder(updatePrefixString.length() + updatePostfixString.length() + 250);
+        sb.append(updatePrefixString);
+        int initialLength = sb.length();
+        flusher.appendUpdateQueryFragment(context, sb, "e.", "", ", ");
+        boolean needsOptimisticLocking = fullFlusher.hasVersionFlusher() && flusher.isOptimisticLockProtected();
+        if (sb.length() == initialLength) {
+            // If we still need optimistic locking, we just append a flush for the version increment
+            if (needsOptimisticLocking) {
+                versionFlusher.appendUpdateQueryFragment(context, sb, "e.", "", ", ");
+                sb.append(versionedUpdatePostfixString);
+                return new PartialUpdateQuery(sb.toString(), true);
+            } else {
+                return new PartialUpdateQuery(null, false);
+            }
+        } else {
+            if (needsOptimisticLocking) {
+                sb.append(versionedUpdatePostfixString);
+            } else {
+                sb.append(updatePostfixString);
+            }
+            return new PartialUpdateQuery(sb.toString(), needsOptimisticLocking);
+        }
+    }
+
     private boolean update(UpdateContext context, Object entity, MutableStateTrackable updatableProxy) {
         if (!rootUpdateAllowed && entity == null) {
             throw new IllegalArgumentException("Updating instances of the view type [" + updatableProxy.getClass().getName() + "] is not allowed because no entity id is known!");
@@ -1423,4 +1460,19 @@ public class EntityViewUpdaterImpl implements EntityViewUpdater {
         );
     }
 
+    /**
+     * The rendered update query for a combination of dirty attributes.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static final class PartialUpdateQuery {
+        private final String queryString;
+        private final boolean needsOptimisticLocking;
+
+        public PartialUpdateQuery(String queryString, boolean needsOptimisticLocking) {
+            this.queryString = queryString;
+            this.needsOptimisticLocking = needsOptimisticLocking;
+        }
+    }
 }
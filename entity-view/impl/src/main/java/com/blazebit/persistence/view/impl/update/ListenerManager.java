@@ -23,7 +23,9 @@ import com.blazebit.persistence.view.spi.type.MutableStateTrackable;
 import com.blazebit.persistence.view.spi.type.EntityViewProxy;
 
 import javax.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -361,6 +363,24 @@ public class ListenerManager {
         }
     }
 
+    public List<Object> collectPostCommit(UpdateContext context, EntityViewProxy entityView, ViewTransition viewTransition) {
+        ManagedViewTypeImplementor<?> managedView = evm.getMetamodel().managedView(entityView.$$_getEntityViewClass());
+        List<Object> listenerInvocations = new ArrayList<>();
+        Listeners listeners = this.listeners.get(managedView.getJavaType());
+        if (listeners != null) {
+            listeners.collectPostCommit(context, entityView, viewTransition, listenerInvocations);
+        }
+        listeners = this.listeners.get(managedView.getEntityClass());
+        if (listeners != null) {
+            listeners.collectPostCommit(context, entityView, viewTransition, listenerInvocations);
+        }
+        listeners = this.customListeners.get(managedView.getEntityClass());
+        if (listeners != null) {
+            listeners.collectPostCommit(context, entityView, viewTransition, listenerInvocations);
+        }
+        return listenerInvocations;
+    }
+
     public void invokePostRollback(UpdateContext context, EntityViewProxy entityView, ViewTransition viewTransition, EntityManager em) {
         ManagedViewTypeImplementor<?> managedView = evm.getMetamodel().managedView(entityView.$$_getEntityViewClass());
         Listeners listeners = this.listeners.get(managedView.getJavaType());
@@ -186,6 +186,20 @@ public class Listeners {
         }
     }
 
+    public void collectPostCommit(UpdateContext context, EntityViewProxy entityView, ViewTransition viewTransition, List<Object> listenerInvocations) {
+        for (int i = 0; i < postCommitListeners.size(); i++) {
+            ListenerTransitionEntry<PostCommitListener<Object>> entry = postCommitListeners.get(i);
+            if (entry.viewTransitions.contains(viewTransition)) {
+                listenerInvocations.add(entry.listener);
+                if (entry.entityViewClass.isInstance(entityView)) {
+                    listenerInvocations.add(entityView);
+                } else {
+                    listenerInvocations.add(context.getEntityView(entry.entityViewClass, entityClass, entityView, false, false));
+                }
+            }
+        }
+    }
+
     public void invokePostRollback(UpdateContext context, EntityViewProxy entityView, ViewTransition viewTransition, EntityManager em) {
         for (int i = 0; i < postRollbackListeners.size(); i++) {
             ListenerTransitionEntry<PostRollbackListener<Object>> entry = postRollbackListeners.get(i);
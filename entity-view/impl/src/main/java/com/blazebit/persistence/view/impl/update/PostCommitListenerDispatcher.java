@@ -0,0 +1,252 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl.update;
+
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.PostCommitListener;
+import com.blazebit.persistence.view.ViewTransition;
+import com.blazebit.persistence.view.impl.EntityViewManagerImpl;
+import com.blazebit.persistence.view.spi.PostCommitListenerErrorHandler;
+import com.blazebit.persistence.view.spi.type.EntityViewProxy;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Invokes post commit listeners asynchronously through an {@link Executor}.
+ * The invocations for the same entity are queued and run one after another in dispatch order,
+ * whereas invocations for different entities may run concurrently.
+ * Listeners receive a copy of the view as of the commit, so that the caller can continue to use its views.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class PostCommitListenerDispatcher {
+
+    private static final Logger LOG = Logger.getLogger(PostCommitListenerDispatcher.class.getName());
+
+    private final EntityViewManagerImpl evm;
+    private final Executor executor;
+    private final PostCommitListenerErrorHandler errorHandler;
+    private final ConcurrentMap<Object, SerialQueue> queues = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, Boolean> inconvertibleViewClasses = new ConcurrentHashMap<>();
+
+    public PostCommitListenerDispatcher(EntityViewManagerImpl evm, Executor executor, PostCommitListenerErrorHandler errorHandler) {
+        this.evm = evm;
+        this.executor = executor;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Dispatches the invocation of the given post commit listeners. The list contains pairs of listener and the view to pass.
+     *
+     * @param entityView The view that was flushed
+     * @param transition The view transition
+     * @param entityManager The entity manager to pass to the listeners
+     * @param listenerInvocations The pairs of listener and view
+     */
+    public void dispatch(EntityViewProxy entityView, ViewTransition transition, EntityManager entityManager, List<Object> listenerInvocations) {
+        // The views are still owned by the caller, so we must not pass them to another thread
+        copyViews(listenerInvocations);
+        Runnable task = new PostCommitInvocation(entityManager, transition, listenerInvocations);
+        Object id = entityView.$$_getId();
+        if (id == null) {
+            // Without an id, there is nothing we can order by
+            submit(task);
+            return;
+        }
+
+        EntityKey key = new EntityKey(entityView.$$_getJpaManagedClass(), id);
+        while (true) {
+            SerialQueue queue = queues.get(key);
+            if (queue == null) {
+                queue = new SerialQueue(key);
+                SerialQueue existingQueue = queues.putIfAbsent(key, queue);
+                if (existingQueue != null) {
+                    queue = existingQueue;
+                }
+            }
+            // If the queue was just drained and retired, we retry with a new queue
+            if (queue.offer(task)) {
+                return;
+            }
+        }
+    }
+
+    private void copyViews(List<Object> listenerInvocations) {
+        Map<Object, Object> copies = new IdentityHashMap<>(listenerInvocations.size() / 2);
+        for (int i = 1; i < listenerInvocations.size(); i += 2) {
+            Object view = listenerInvocations.get(i);
+            Object copy = copies.get(view);
+            if (copy == null) {
+                copy = copyView((EntityViewProxy) view);
+                copies.put(view, copy);
+            }
+            listenerInvocations.set(i, copy);
+        }
+    }
+
+    private Object copyView(EntityViewProxy view) {
+        Class<?> viewClass = view.$$_getEntityViewClass();
+        if (!inconvertibleViewClasses.containsKey(viewClass)) {
+            try {
+                return evm.convert(view, viewClass);
+            } catch (IllegalArgumentException ex) {
+                if (inconvertibleViewClasses.putIfAbsent(viewClass, Boolean.TRUE) == null) {
+                    LOG.log(Level.WARNING, "Can't copy views of type " + viewClass.getName() + " for asynchronous post commit listeners. The views are passed as is and must not be modified until the listeners ran", ex);
+                }
+            }
+        }
+        return view;
+    }
+
+    private void submit(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException ex) {
+            // Run on the calling thread if the executor is unable to accept the task e.g. because it is shut down
+            task.run();
+        }
+    }
+
+    private void handleError(Object view, ViewTransition transition, RuntimeException exception) {
+        EntityViewManager entityViewManager = evm.getSerializableDelegate(((EntityViewProxy) view).$$_getEntityViewClass());
+        if (errorHandler == null) {
+            LOG.log(Level.SEVERE, "Error during invocation of post commit listener for view " + view + " with transition " + transition, exception);
+        } else {
+            try {
+                errorHandler.handleError(entityViewManager, view, transition, exception);
+            } catch (RuntimeException handlerException) {
+                LOG.log(Level.SEVERE, "Error during handling of post commit listener error", handlerException);
+            }
+        }
+    }
+
+    /**
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private class PostCommitInvocation implements Runnable {
+
+        private final EntityManager entityManager;
+        private final ViewTransition transition;
+        private final List<Object> listenerInvocations;
+
+        public PostCommitInvocation(EntityManager entityManager, ViewTransition transition, List<Object> listenerInvocations) {
+            this.entityManager = entityManager;
+            this.transition = transition;
+            this.listenerInvocations = listenerInvocations;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run() {
+            for (int i = 0; i < listenerInvocations.size(); i += 2) {
+                PostCommitListener<Object> listener = (PostCommitListener<Object>) listenerInvocations.get(i);
+                EntityViewProxy view = (EntityViewProxy) listenerInvocations.get(i + 1);
+                try {
+                    listener.postCommit(evm.getSerializableDelegate(view.$$_getEntityViewClass()), entityManager, view, transition);
+                } catch (RuntimeException ex) {
+                    handleError(view, transition, ex);
+                }
+            }
+        }
+    }
+
+    /**
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private class SerialQueue implements Runnable {
+
+        private final Object key;
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+        private boolean scheduled;
+        private boolean retired;
+
+        public SerialQueue(Object key) {
+            this.key = key;
+        }
+
+        public boolean offer(Runnable task) {
+            synchronized (this) {
+                if (retired) {
+                    return false;
+                }
+                tasks.add(task);
+                if (scheduled) {
+                    return true;
+                }
+                scheduled = true;
+            }
+            submit(this);
+            return true;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Runnable task;
+                synchronized (this) {
+                    task = tasks.poll();
+                    if (task == null) {
+                        retired = true;
+                        queues.remove(key, this);
+                        return;
+                    }
+                }
+                task.run();
+            }
+        }
+    }
+
+    /**
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static final class EntityKey {
+
+        private final Class<?> entityClass;
+        private final Object id;
+
+        public EntityKey(Class<?> entityClass, Object id) {
+            this.entityClass = entityClass;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EntityKey)) {
+                return false;
+            }
+
+            EntityKey entityKey = (EntityKey) o;
+            return entityClass.equals(entityKey.entityClass) && id.equals(entityKey.id);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = entityClass.hashCode();
+            result = 31 * result + id.hashCode();
+            return result;
+        }
+    }
+}
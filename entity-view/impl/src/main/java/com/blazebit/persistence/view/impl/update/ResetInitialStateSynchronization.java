@@ -287,6 +287,11 @@ public class ResetInitialStateSynchronization implements Synchronization, Initia
             }
         } else {
             if (listenerManager.hasPostCommitListeners()) {
+                PostCommitListenerDispatcher dispatcher = updateContext.getEntityViewManager().getPostCommitListenerDispatcher();
+                if (dispatcher != null) {
+                    dispatchPostCommit(dispatcher);
+                    return;
+                }
                 if (persistedViews != null) {
                     for (int i = 0; i < persistedViews.size(); i += 7) {
                         listenerManager.invokePostCommit(updateContext, (MutableStateTrackable) persistedViews.get(i), ViewTransition.PERSIST);
@@ -306,6 +311,32 @@ public class ResetInitialStateSynchronization implements Synchronization, Initia
         }
     }
 
+    private void dispatchPostCommit(PostCommitListenerDispatcher dispatcher) {
+        // The listeners and views are determined synchronously, as that might require the entity manager
+        if (persistedViews != null) {
+            for (int i = 0; i < persistedViews.size(); i += 7) {
+                dispatchPostCommit(dispatcher, (MutableStateTrackable) persistedViews.get(i), ViewTransition.PERSIST);
+            }
+        }
+        if (updatedViews != null) {
+            for (int i = 0; i < updatedViews.size(); i += 2) {
+                dispatchPostCommit(dispatcher, (MutableStateTrackable) updatedViews.get(i), ViewTransition.UPDATE);
+            }
+        }
+        if (removedViews != null) {
+            for (int i = 0; i < removedViews.size(); i += 4) {
+                dispatchPostCommit(dispatcher, (EntityViewProxy) removedViews.get(i), ViewTransition.REMOVE);
+            }
+        }
+    }
+
+    private void dispatchPostCommit(PostCommitListenerDispatcher dispatcher, EntityViewProxy view, ViewTransition transition) {
+        List<Object> listenerInvocations = listenerManager.collectPostCommit(updateContext, view, transition);
+        if (!listenerInvocations.isEmpty()) {
+            dispatcher.dispatch(view, transition, updateContext.getEntityManager(), listenerInvocations);
+        }
+    }
+
     /**
      *
      * @author Christian Beikov
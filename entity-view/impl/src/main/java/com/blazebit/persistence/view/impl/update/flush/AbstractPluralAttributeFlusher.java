@@ -21,7 +21,9 @@ import javax.persistence.Query;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  *
@@ -374,6 +376,66 @@ public abstract class AbstractPluralAttributeFlusher<X extends AbstractPluralAtt
         return jpaCollectionObject;
     }
 
+    protected boolean canPairElements() {
+        // Pairing compares the VALUES alias with the element, which doesn't work for embeddables
+        return !elementDescriptor.isJpaEmbeddable() && elementDescriptor.getBasicUserType() != null && elementDescriptor.supportsEqualityCheck();
+    }
+
+    protected List<Object> distinctElements(List<Object> elements) {
+        // An element must occur only once in a VALUES clause, otherwise a pair would match multiple rows
+        BasicUserType<Object> basicUserType = (BasicUserType<Object>) elementDescriptor.getBasicUserType();
+        Map<Integer, List<Object>> elementsByHash = new HashMap<>(elements.size());
+        List<Object> distinctElements = new ArrayList<>(elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            Object element = elements.get(i);
+            int hash = basicUserType.hashCode(element);
+            List<Object> hashElements = elementsByHash.get(hash);
+            if (hashElements == null) {
+                hashElements = new ArrayList<>(1);
+                elementsByHash.put(hash, hashElements);
+            }
+            boolean contained = false;
+            for (int j = 0; j < hashElements.size(); j++) {
+                if (basicUserType.isEqual(hashElements.get(j), element)) {
+                    contained = true;
+                    break;
+                }
+            }
+            if (!contained) {
+                hashElements.add(element);
+                distinctElements.add(element);
+            }
+        }
+        return distinctElements;
+    }
+
+    /**
+     * Renders a predicate that restricts the cross join of two VALUES clauses to the given number of pairs.
+     * The pairs are bound via {@link #bindPairs(Query, List, List)}.
+     *
+     * @param keyAlias The alias of the VALUES clause for the first pair component
+     * @param valueAlias The alias of the VALUES clause for the second pair component
+     * @param pairCount The number of pairs
+     * @return The predicate
+     */
+    protected static String pairPredicate(String keyAlias, String valueAlias, int pairCount) {
+        StringBuilder sb = new StringBuilder(pairCount * 48);
+        for (int i = 0; i < pairCount; i++) {
+            if (i != 0) {
+                sb.append(" OR ");
+            }
+            sb.append('(').append(keyAlias).append(" = :pairKey_").append(i).append(" AND ").append(valueAlias).append(" = :pairValue_").append(i).append(')');
+        }
+        return sb.toString();
+    }
+
+    protected static void bindPairs(Query query, List<?> keys, List<?> values) {
+        for (int i = 0; i < keys.size(); i++) {
+            query.setParameter("pairKey_" + i, keys.get(i));
+            query.setParameter("pairValue_" + i, values.get(i));
+        }
+    }
+
     protected static boolean identityContains(Collection<Object> addedElements, MutableStateTrackable element) {
         for (Object addedElement : addedElements) {
             if (addedElement == element) {
@@ -9,6 +9,9 @@ import com.blazebit.persistence.parser.EntityMetamodel;
 import com.blazebit.persistence.spi.ExtendedAttribute;
 import com.blazebit.persistence.spi.ExtendedManagedType;
 import com.blazebit.persistence.view.impl.EntityViewManagerImpl;
+import com.blazebit.persistence.view.impl.update.UpdateContext;
+
+import java.util.List;
 
 
 /**
@@ -19,6 +22,8 @@ import com.blazebit.persistence.view.impl.EntityViewManagerImpl;
 public abstract class AbstractUnmappedAttributeCascadeDeleter implements UnmappedAttributeCascadeDeleter {
 
     protected static final UnmappedAttributeCascadeDeleter[] EMPTY = new UnmappedAttributeCascadeDeleter[0];
+    // Stay well below the IN list limit of e.g. Oracle and the bind parameter limit of e.g. SQL Server
+    protected static final int MAX_IN_LIST_SIZE = 500;
     protected final Class<?> elementEntityClass;
     protected final String elementIdAttributeName;
     protected final String attributeName;
@@ -54,4 +59,11 @@ public abstract class AbstractUnmappedAttributeCascadeDeleter implements Unmappe
         return attributeValuePath;
 
     }
+
+    @Override
+    public void removeByOwnerIds(UpdateContext context, List<Object> ownerIds) {
+        for (int i = 0; i < ownerIds.size(); i++) {
+            removeByOwnerId(context, ownerIds.get(i));
+        }
+    }
 }
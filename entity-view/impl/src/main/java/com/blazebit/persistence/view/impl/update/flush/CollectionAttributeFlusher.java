@@ -521,7 +521,7 @@ public class CollectionAttributeFlusher<E, V extends Collection<?>> extends Abst
                 }
                 insertQuery.executeUpdate();
             } else {
-                // TODO: Use batching when we implement #657
+                // Not used by the callers which always flush at once. Batching needs JDBC batch support, see #657
                 Object[] singletonArray = new Object[1];
                 List<Object> singletonList = Arrays.asList(singletonArray);
                 for (Object o : elementsToAdd) {
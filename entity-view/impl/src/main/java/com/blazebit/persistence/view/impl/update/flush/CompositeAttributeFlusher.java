@@ -39,6 +39,7 @@ import javax.persistence.metamodel.EntityType;
 import javax.persistence.metamodel.ManagedType;
 import javax.persistence.metamodel.SingularAttribute;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -82,12 +83,14 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
     private final UnmappedOwnerAwareDeleter[] unmappedOwnerAwareCascadeDeleters;
     private final FlushMode flushMode;
     private final FlushStrategy flushStrategy;
-    private final EntityLoader entityLoader;
+    private final FlusherBasedEntityLoader entityLoader;
     private final EntityLoader referenceEntityLoader;
     private final String deleteQuery;
     private final String versionedDeleteQuery;
     private final String lockOwner;
     private final int features;
+    // The indexes of the non-null flushers, so that only these are visited when binding parameters
+    private final int[] flusherIndexes;
 
     private final Object element;
 
@@ -120,6 +123,7 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
         this.deleteQuery = createDeleteQuery(managedType, jpaIdAttribute);
         this.versionedDeleteQuery = createVersionedDeleteQuery(deleteQuery, versionFlusher);
         this.features = determineFeatures(flushStrategy, flushers);
+        this.flusherIndexes = getFlusherIndexes(flushers);
         this.element = null;
     }
 
@@ -147,6 +151,7 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
         this.referenceEntityLoader = original.referenceEntityLoader;
         this.deleteQuery = original.deleteQuery;
         int features = determineFeatures(flushStrategy, flushers);
+        this.flusherIndexes = getFlusherIndexes(flushers);
         this.element = element;
         // When flushing references that have no version set, we do a normal flush, not a versioned one
         if (original.versionFlusher == null || original.versionFlusher.getViewAttributeAccessor().getValue(element) == null) {
@@ -159,6 +164,23 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
         this.versionFlusher = original.versionFlusher;
     }
 
+    private static int[] getFlusherIndexes(DirtyAttributeFlusher[] flushers) {
+        int count = 0;
+        for (int i = 0; i < flushers.length; i++) {
+            if (flushers[i] != null) {
+                count++;
+            }
+        }
+        int[] flusherIndexes = new int[count];
+        count = 0;
+        for (int i = 0; i < flushers.length; i++) {
+            if (flushers[i] != null) {
+                flusherIndexes[count++] = i;
+            }
+        }
+        return flusherIndexes;
+    }
+
     private UnmappedOwnerAwareDeleter[] getOwnerAwareDeleters(UnmappedAttributeCascadeDeleter[][] flusherWiseCascadeDeleteUnmappedFlushers) {
         if (flusherWiseCascadeDeleteUnmappedFlushers == null) {
             return null;
@@ -273,6 +295,49 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
         return versionFlusher != null;
     }
 
+    /**
+     * Returns a key that determines the update query fragment rendered by this flusher,
+     * or <code>null</code> if the fragment depends on more than the set of dirty attributes.
+     * For every attribute, the bit <code>2 * index</code> is set if the attribute is dirty
+     * and the bit <code>2 * index + 1</code> is set if the attribute contributes to the update query fragment.
+     * The keys of dirty embeddable attributes are appended in attribute order, in which case a list is returned.
+     *
+     * @return The update query fragment key or <code>null</code>
+     * @since 1.6.15
+     */
+    public Object getUpdateQueryFragmentKey() {
+        BitSet key = new BitSet(flushers.length * 2);
+        List<Object> nestedKeys = null;
+        for (int j = 0; j < flusherIndexes.length; j++) {
+            int i = flusherIndexes[j];
+            DirtyAttributeFlusher<?, Object, Object> flusher = flushers[i];
+            key.set(i * 2);
+            // Subclasses of these flushers and other flushers render fragments that depend on their state
+            if (flusher.getClass() == BasicAttributeFlusher.class) {
+                if (((BasicAttributeFlusher<?, ?>) flusher).hasUpdateQueryFragment()) {
+                    key.set(i * 2 + 1);
+                }
+            } else if (flusher.getClass() == SubviewAttributeFlusher.class) {
+                if (((SubviewAttributeFlusher<?, ?>) flusher).hasUpdateQueryFragment()) {
+                    key.set(i * 2 + 1);
+                }
+            } else if (flusher.getClass() == EmbeddableAttributeFlusher.class) {
+                Object nestedKey = ((EmbeddableAttributeFlusher<?, ?>) flusher).getUpdateQueryFragmentKey();
+                if (nestedKey == null) {
+                    return null;
+                }
+                if (nestedKeys == null) {
+                    nestedKeys = new ArrayList<>();
+                    nestedKeys.add(key);
+                }
+                nestedKeys.add(nestedKey);
+            } else if (!(flusher instanceof AbstractPluralAttributeFlusher<?, ?, ?, ?, ?>)) {
+                return null;
+            }
+        }
+        return nestedKeys == null ? key : nestedKeys;
+    }
+
     @Override
     public Object cloneDeep(Object view, Object oldValue, Object newValue) {
         return newValue;
@@ -331,6 +396,63 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
         return (features & FEATURE_LOAD_FOR_ENTITY_FLUSH) != 0;
     }
 
+    /**
+     * Loads the entities for the given views, which must share the dirty state this flusher was created for, with a single query.
+     * A subsequent entity flush of the views will then find the entities in the persistence context.
+     *
+     * @param context The update context
+     * @param views The views for which to load the entities
+     */
+    public void loadEntities(UpdateContext context, List<Object> views) {
+        // The entities are also required for the optimistic version check
+        boolean verifyVersions = versionFlusher != null && isOptimisticLockProtected();
+        if (loadForEntityFlush() || viewIdAccessor == null || verifyVersions) {
+            List<Object> ids = new ArrayList<>(views.size());
+            for (int i = 0; i < views.size(); i++) {
+                MutableStateTrackable updatableProxy = (MutableStateTrackable) views.get(i);
+                if (!updatableProxy.$$_isNew()) {
+                    ids.add(updatableProxy.$$_getId());
+                }
+            }
+            entityLoader.loadEntities(context, ids);
+        }
+        // The entities of dirty subviews are flushed one by one as well, so load the ones that weren't fetched along with the owners per subview type
+        for (int j = 0; j < flusherIndexes.length; j++) {
+            DirtyAttributeFlusher<?, Object, Object> flusher = flushers[flusherIndexes[j]];
+            if (flusher instanceof SubviewAttributeFlusher<?, ?>) {
+                ((SubviewAttributeFlusher<?, ?>) flusher).loadEntities(context, views);
+            }
+        }
+        if (verifyVersions) {
+            verifyVersions(context, views);
+        }
+    }
+
+    private void verifyVersions(UpdateContext context, List<Object> views) {
+        // Check the versions of all views before flushing, so that all conflicts can be reported together
+        List<Object> conflictingIds = null;
+        Object conflictingEntity = null;
+        Object conflictingView = null;
+        for (int i = 0; i < views.size(); i++) {
+            MutableStateTrackable updatableProxy = (MutableStateTrackable) views.get(i);
+            if (!updatableProxy.$$_isNew()) {
+                Object id = updatableProxy.$$_getId();
+                Object entity = entityLoader.toEntity(context, updatableProxy, id);
+                if (!versionFlusher.isVersionMatching(entity, updatableProxy.$$_getVersion())) {
+                    if (conflictingIds == null) {
+                        conflictingIds = new ArrayList<>();
+                        conflictingEntity = entity;
+                        conflictingView = updatableProxy;
+                    }
+                    conflictingIds.add(id);
+                }
+            }
+        }
+        if (conflictingIds != null) {
+            throw new OptimisticLockException("The version values of the loaded entities and the views of type [" + viewType.getName() + "] with the ids " + conflictingIds + " do not match!", conflictingEntity, conflictingView);
+        }
+    }
+
     @Override
     public Query flushQuery(UpdateContext context, String parameterPrefix, UpdateQueryFactory queryFactory, Query query, Object ownerView, Object view, Object value, UnmappedOwnerAwareDeleter ownerAwareDeleter, DirtyAttributeFlusher<?, ?, ?> ownerFlusher) {
         if (element != null) {
@@ -375,11 +497,9 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
             if (query == null) {
                 query = queryFactory.createUpdateQuery(context, (MutableStateTrackable) ownerView, ownerFlusher);
             }
-            for (int i = 0; i < flushers.length; i++) {
-                DirtyAttributeFlusher<?, Object, Object> flusher = flushers[i];
-                if (flusher != null) {
-                    query = flusher.flushQuery(context, parameterPrefix, queryFactory, query, ownerView, view, flusher.getViewAttributeAccessor().getValue(value), ownerAwareDeleter, ownerFlusher);
-                }
+            for (int j = 0; j < flusherIndexes.length; j++) {
+                DirtyAttributeFlusher<?, Object, Object> flusher = flushers[flusherIndexes[j]];
+                query = flusher.flushQuery(context, parameterPrefix, queryFactory, query, ownerView, view, flusher.getViewAttributeAccessor().getValue(value), ownerAwareDeleter, ownerFlusher);
             }
             return query;
         }
@@ -401,6 +521,8 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
         Object[] state = element.$$_getMutableState();
         boolean optimisticLock = false;
         List<Integer> deferredFlushers = null;
+        // Dirty flushers come first, followed by the pass through flushers
+        int j = 0;
 
         if (value instanceof DirtyStateTrackable) {
             // After Pre-Update the dirtyness could change
@@ -422,21 +544,20 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
             if (query == null && queryFactory != null) {
                 query = queryFactory.createUpdateQuery(context, (MutableStateTrackable) ownerView, ownerFlusher);
             }
-            for (int i = 0; i < state.length; i++) {
+            for (; j < flusherIndexes.length && flusherIndexes[j] < state.length; j++) {
+                int i = flusherIndexes[j];
                 DirtyAttributeFlusher<?, Object, Object> flusher = flushers[i];
-                if (flusher != null) {
-                    if (flusher.requiresDeferredFlush(state[i])) {
-                        if (deferredFlushers == null) {
-                            deferredFlushers = new ArrayList<>();
-                        }
-                        deferredFlushers.add(i);
-                        optimisticLock |= flusher.isOptimisticLockProtected();
-                    } else {
-                        optimisticLock |= flusher.isOptimisticLockProtected();
-                        Object newInitialValue = flusher.cloneDeep(value, initialState[i], state[i]);
-                        query = flusher.flushQuery(context, parameterPrefix, queryFactory, query, ownerView, value, state[i], unmappedOwnerAwareCascadeDeleters == null ? null : unmappedOwnerAwareCascadeDeleters[i], ownerFlusher);
-                        initialState[i] = flusher.getNewInitialValue(context, newInitialValue, state[i]);
+                if (flusher.requiresDeferredFlush(state[i])) {
+                    if (deferredFlushers == null) {
+                        deferredFlushers = new ArrayList<>();
                     }
+                    deferredFlushers.add(i);
+                    optimisticLock |= flusher.isOptimisticLockProtected();
+                } else {
+                    optimisticLock |= flusher.isOptimisticLockProtected();
+                    Object newInitialValue = flusher.cloneDeep(value, initialState[i], state[i]);
+                    query = flusher.flushQuery(context, parameterPrefix, queryFactory, query, ownerView, value, state[i], unmappedOwnerAwareCascadeDeleters == null ? null : unmappedOwnerAwareCascadeDeleters[i], ownerFlusher);
+                    initialState[i] = flusher.getNewInitialValue(context, newInitialValue, state[i]);
                 }
             }
         } else {
@@ -455,30 +576,28 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
             if (query == null) {
                 query = queryFactory.createUpdateQuery(context, (MutableStateTrackable) ownerView, ownerFlusher);
             }
-            for (int i = 0; i < state.length; i++) {
+            for (; j < flusherIndexes.length && flusherIndexes[j] < state.length; j++) {
+                int i = flusherIndexes[j];
                 DirtyAttributeFlusher<?, Object, Object> flusher = flushers[i];
-                if (flusher != null) {
-                    if (flusher.requiresDeferredFlush(state[i])) {
-                        if (deferredFlushers == null) {
-                            deferredFlushers = new ArrayList<>();
-                        }
-                        deferredFlushers.add(i);
-                        optimisticLock |= flusher.isOptimisticLockProtected();
-                    } else {
-                        optimisticLock |= flusher.isOptimisticLockProtected();
-                        query = flusher.flushQuery(context, parameterPrefix, queryFactory, query, ownerView, value, state[i], unmappedOwnerAwareCascadeDeleters == null ? null : unmappedOwnerAwareCascadeDeleters[i], ownerFlusher);
+                if (flusher.requiresDeferredFlush(state[i])) {
+                    if (deferredFlushers == null) {
+                        deferredFlushers = new ArrayList<>();
                     }
+                    deferredFlushers.add(i);
+                    optimisticLock |= flusher.isOptimisticLockProtected();
+                } else {
+                    optimisticLock |= flusher.isOptimisticLockProtected();
+                    query = flusher.flushQuery(context, parameterPrefix, queryFactory, query, ownerView, value, state[i], unmappedOwnerAwareCascadeDeleters == null ? null : unmappedOwnerAwareCascadeDeleters[i], ownerFlusher);
                 }
             }
         }
 
         // Pass through flushers
-        for (int i = state.length; i < flushers.length; i++) {
+        for (; j < flusherIndexes.length; j++) {
+            int i = flusherIndexes[j];
             DirtyAttributeFlusher<?, Object, Object> flusher = flushers[i];
-            if (flusher != null) {
-                optimisticLock |= flusher.isOptimisticLockProtected();
-                query = flusher.flushQuery(context, parameterPrefix, queryFactory, query, ownerView, value, flusher.getViewAttributeAccessor().getValue(value), unmappedOwnerAwareCascadeDeleters == null ? null : unmappedOwnerAwareCascadeDeleters[i], ownerFlusher);
-            }
+            optimisticLock |= flusher.isOptimisticLockProtected();
+            query = flusher.flushQuery(context, parameterPrefix, queryFactory, query, ownerView, value, flusher.getViewAttributeAccessor().getValue(value), unmappedOwnerAwareCascadeDeleters == null ? null : unmappedOwnerAwareCascadeDeleters[i], ownerFlusher);
         }
 
         if (optimisticLock && isOptimisticLockProtected() && versionFlusher != null) {
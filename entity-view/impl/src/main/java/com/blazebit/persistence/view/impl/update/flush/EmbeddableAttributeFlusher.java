@@ -87,6 +87,22 @@ public class EmbeddableAttributeFlusher<E, V> extends EmbeddableAttributeFetchGr
         return true;
     }
 
+    /**
+     * Returns a key that determines the update query fragment rendered by this flusher,
+     * or <code>null</code> if the fragment depends on more than the set of dirty attributes.
+     *
+     * @return The update query fragment key or <code>null</code>
+     * @since 1.6.15
+     */
+    public Object getUpdateQueryFragmentKey() {
+        if (supportsQueryFlush) {
+            return Boolean.TRUE;
+        } else if (nestedGraphNode instanceof CompositeAttributeFlusher) {
+            return ((CompositeAttributeFlusher) nestedGraphNode).getUpdateQueryFragmentKey();
+        }
+        return null;
+    }
+
     @Override
     public boolean appendUpdateQueryFragment(UpdateContext context, StringBuilder sb, String mappingPrefix, String parameterPrefix, String separator) {
         String mapping;
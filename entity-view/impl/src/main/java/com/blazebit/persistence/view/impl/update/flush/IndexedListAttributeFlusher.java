@@ -248,18 +248,46 @@ public class IndexedListAttributeFlusher<E, V extends List<?>> extends Collectio
         }
 
         if (appends.size() > 1 || appends.size() == 1 && appends.iterator().next() != null) {
-            InsertCriteriaBuilder<?> insertCb = context.getEntityViewManager().getCriteriaBuilderFactory().insertCollection(context.getEntityManager(), ownerEntityClass, mapping);
+            List<Object> elements = new ArrayList<>(appends.size());
+            if (elementDescriptor.getViewToEntityMapper() == null) {
+                boolean checkTransient = elementDescriptor.isJpaEntity() && !elementDescriptor.shouldJpaPersist();
+                for (Object object : appends) {
+                    if (object != null) {
+                        if (checkTransient && elementDescriptor.getBasicUserType().shouldPersist(object)) {
+                            throw new IllegalStateException("Collection " + attributeName + " references an unsaved transient instance - save the transient instance before flushing: " + object);
+                        }
+                        elements.add(object);
+                    }
+                }
+            } else {
+                ViewToEntityMapper loadOnlyViewToEntityMapper = elementDescriptor.getLoadOnlyViewToEntityMapper();
+                for (Object object : appends) {
+                    if (object != null) {
+                        elements.add(loadOnlyViewToEntityMapper.applyToEntity(context, null, object));
+                    }
+                }
+            }
 
+            InsertCriteriaBuilder<?> insertCb = context.getEntityViewManager().getCriteriaBuilderFactory().insertCollection(context.getEntityManager(), ownerEntityClass, mapping);
+            // With known indexes, the cross join of an index and an element VALUES clause is restricted to the appended elements,
+            // so that all elements are inserted with a single statement. Otherwise, every element needs its own index subquery
+            boolean insertAtOnce = initialKnown && elements.size() > 1 && canPairElements();
+            List<Object> distinctElements = insertAtOnce ? distinctElements(elements) : null;
+            int elementCount = insertAtOnce ? distinctElements.size() : 1;
             String entityIdAttributeName = elementDescriptor.getEntityIdAttributeName();
             String attributeIdAttributeName = elementDescriptor.getAttributeIdAttributeName();
             if (entityIdAttributeName == null) {
-                insertCb.fromValues(ownerEntityClass, mapping, "val", 1);
+                insertCb.fromValues(ownerEntityClass, mapping, "val", elementCount);
             } else if (entityIdAttributeName.equals(attributeIdAttributeName)) {
-                insertCb.fromIdentifiableValues((Class<Object>) elementDescriptor.getJpaType(), "val", 1);
+                insertCb.fromIdentifiableValues((Class<Object>) elementDescriptor.getJpaType(), "val", elementCount);
             } else {
-                insertCb.fromIdentifiableValues((Class<Object>) elementDescriptor.getJpaType(), attributeIdAttributeName, "val", 1);
+                insertCb.fromIdentifiableValues((Class<Object>) elementDescriptor.getJpaType(), attributeIdAttributeName, "val", elementCount);
             }
-            if (initialKnown) {
+            if (insertAtOnce) {
+                insertCb.fromValues(Integer.class, "idx", elements.size());
+                insertCb.bind("INDEX(" + mapping + ")").select("idx");
+                insertCb.whereExpression(pairPredicate("idx", "val", elements.size()));
+            } else if (initialKnown) {
                 insertCb.bind("INDEX(" + mapping + ")").select("FUNCTION('TREAT_INTEGER', :idx)");
             } else {
                 SubqueryBuilder<? extends InsertCriteriaBuilder<?>> subquery = insertCb.bind("INDEX(" + mapping + ")")
@@ -278,35 +306,25 @@ public class IndexedListAttributeFlusher<E, V extends List<?>> extends Collectio
             Query query = insertCb.getQuery();
             ownerIdFlusher.flushQuery(context, null, null, query, ownerView, view, ownerIdFlusher.getViewAttributeAccessor().getValue(ownerView), null, null);
 
-            // TODO: Use batching when we implement #657
-            Object[] singletonArray = new Object[1];
-            List<Object> singletonList = Arrays.asList(singletonArray);
-            if (elementDescriptor.getViewToEntityMapper() == null) {
-                boolean checkTransient = elementDescriptor.isJpaEntity() && !elementDescriptor.shouldJpaPersist();
-                for (Object object : appends) {
-                    if (object != null) {
-                        if (checkTransient && elementDescriptor.getBasicUserType().shouldPersist(object)) {
-                            throw new IllegalStateException("Collection " + attributeName + " references an unsaved transient instance - save the transient instance before flushing: " + object);
-                        }
-                        singletonArray[0] = object;
-                        if (initialKnown) {
-                            query.setParameter("idx", appendIndex++);
-                        }
-                        query.setParameter("val", singletonList);
-                        query.executeUpdate();
-                    }
+            if (insertAtOnce) {
+                List<Integer> indexes = new ArrayList<>(elements.size());
+                for (int i = 0; i < elements.size(); i++) {
+                    indexes.add(appendIndex++);
                 }
+                query.setParameter("idx", indexes);
+                query.setParameter("val", distinctElements);
+                bindPairs(query, indexes, elements);
+                query.executeUpdate();
             } else {
-                ViewToEntityMapper loadOnlyViewToEntityMapper = elementDescriptor.getLoadOnlyViewToEntityMapper();
-                for (Object object : appends) {
-                    if (object != null) {
-                        singletonArray[0] = loadOnlyViewToEntityMapper.applyToEntity(context, null, object);
-                        if (initialKnown) {
-                            query.setParameter("idx", appendIndex++);
-                        }
-                        query.setParameter("val", singletonList);
-                        query.executeUpdate();
+                Object[] singletonArray = new Object[1];
+                List<Object> singletonList = Arrays.asList(singletonArray);
+                for (int i = 0; i < elements.size(); i++) {
+                    singletonArray[0] = elements.get(i);
+                    if (initialKnown) {
+                        query.setParameter("idx", appendIndex++);
                     }
+                    query.setParameter("val", singletonList);
+                    query.executeUpdate();
                 }
             }
         }
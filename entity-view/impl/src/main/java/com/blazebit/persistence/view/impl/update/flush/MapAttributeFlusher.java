@@ -6,6 +6,7 @@
 package com.blazebit.persistence.view.impl.update.flush;
 
 import com.blazebit.persistence.DeleteCriteriaBuilder;
+import com.blazebit.persistence.FromBaseBuilder;
 import com.blazebit.persistence.InsertCriteriaBuilder;
 import com.blazebit.persistence.SubqueryBuilder;
 import com.blazebit.persistence.UpdateCriteriaBuilder;
@@ -483,102 +484,97 @@ public class MapAttributeFlusher<E, V extends Map<?, ?>> extends AbstractPluralA
             }
         } else {
             Map<Object, Object> replaces = fusedCollectionActions.getReplaces();
-            if (replaces.size() != 0 || embeddablesToUpdate != null && !embeddablesToUpdate.isEmpty()) {
-                UpdateCriteriaBuilder<?> updateCb = context.getEntityViewManager().getCriteriaBuilderFactory().updateCollection(context.getEntityManager(), ownerEntityClass, "e", mapping);
-                updateCb.setExpression(mapping, ":element");
-                updateCb.setWhereExpression(ownerIdWhereFragment);
-                updateCb.where("KEY(" + mapping + ")").eqExpression(":key");
-                Query query = updateCb.getQuery();
-
-                if (replaces.size() != 0) {
-                    ownerIdFlusher.flushQuery(context, null, null, query, ownerView, view, ownerIdFlusher.getViewAttributeAccessor().getValue(ownerView), null, null);
-                    boolean checkTransient = elementDescriptor.isJpaEntity() && !elementDescriptor.shouldJpaPersist();
-                    ViewToEntityMapper keyViewToEntityMapper = keyDescriptor.getLoadOnlyViewToEntityMapper();
-                    ViewToEntityMapper valueViewToEntityMapper = elementDescriptor.getLoadOnlyViewToEntityMapper();
-                    for (Map.Entry<Object, Object> replace : replaces.entrySet()) {
-                        Object k = replace.getKey();
-                        Object v = replace.getValue();
-                        if (keyViewToEntityMapper == null) {
-                            if (checkTransient && keyDescriptor.getBasicUserType().shouldPersist(k)) {
-                                throw new IllegalStateException("Collection " + attributeName + " references an unsaved transient instance - save the transient instance before flushing: " + k);
-                            }
-                        } else {
-                            k = keyViewToEntityMapper.applyToEntity(context, null, k);
+            if (replaces.size() != 0) {
+                boolean checkTransient = elementDescriptor.isJpaEntity() && !elementDescriptor.shouldJpaPersist();
+                ViewToEntityMapper keyViewToEntityMapper = keyDescriptor.getLoadOnlyViewToEntityMapper();
+                ViewToEntityMapper valueViewToEntityMapper = elementDescriptor.getLoadOnlyViewToEntityMapper();
+                List<Object> replaceKeys = new ArrayList<>(replaces.size());
+                List<Object> replaceValues = new ArrayList<>(replaces.size());
+                Map<Object, List<Object>> keysByValue = new LinkedHashMap<>();
+                for (Map.Entry<Object, Object> replace : replaces.entrySet()) {
+                    Object k = replace.getKey();
+                    Object v = replace.getValue();
+                    if (keyViewToEntityMapper == null) {
+                        if (checkTransient && keyDescriptor.getBasicUserType().shouldPersist(k)) {
+                            throw new IllegalStateException("Collection " + attributeName + " references an unsaved transient instance - save the transient instance before flushing: " + k);
                         }
-                        if (valueViewToEntityMapper == null) {
-                            if (checkTransient && elementDescriptor.getBasicUserType().shouldPersist(v)) {
-                                throw new IllegalStateException("Collection " + attributeName + " references an unsaved transient instance - save the transient instance before flushing: " + v);
-                            }
-                        } else {
-                            v = valueViewToEntityMapper.applyToEntity(context, null, v);
+                    } else {
+                        k = keyViewToEntityMapper.applyToEntity(context, null, k);
+                    }
+                    if (valueViewToEntityMapper == null) {
+                        if (checkTransient && elementDescriptor.getBasicUserType().shouldPersist(v)) {
+                            throw new IllegalStateException("Collection " + attributeName + " references an unsaved transient instance - save the transient instance before flushing: " + v);
                         }
+                    } else {
+                        v = valueViewToEntityMapper.applyToEntity(context, null, v);
+                    }
 
-                        query.setParameter("key", k);
-                        query.setParameter("element", v);
-                        query.executeUpdate();
+                    replaceKeys.add(k);
+                    replaceValues.add(v);
+                    List<Object> valueKeys = keysByValue.get(v);
+                    if (valueKeys == null) {
+                        valueKeys = new ArrayList<>();
+                        keysByValue.put(v, valueKeys);
                     }
-                }
-                if (embeddablesToUpdate != null && !embeddablesToUpdate.isEmpty()) {
-                    for (Map.Entry<Object, Object> entry : embeddablesToUpdate.entrySet()) {
-                        query.setParameter("key", entry.getKey());
-                        query.setParameter("element", entry.getValue());
+                    valueKeys.add(k);
+                }
+
+                if (keysByValue.size() > 1 && canPairEntries()) {
+                    // Entries with distinct values are updated with a single statement that pairs the key and value VALUES clauses
+                    List<Object> distinctValues = distinctElements(replaceValues);
+                    UpdateCriteriaBuilder<?> updateCb = context.getEntityViewManager().getCriteriaBuilderFactory().updateCollection(context.getEntityManager(), ownerEntityClass, "sub", mapping);
+                    fromKeyValues(updateCb, replaceKeys.size());
+                    fromElementValues(updateCb, distinctValues.size());
+                    updateCb.where("KEY(sub." + mapping + ")").eqExpression("key");
+                    for (int j = 0; j < ownerIdBindFragments.length; j += 2) {
+                        updateCb.where("sub." + ownerIdBindFragments[j]).eqExpression(ownerIdBindFragments[j + 1]);
+                    }
+                    updateCb.whereExpression(pairPredicate("key", "val", replaceKeys.size()));
+                    updateCb.setExpression(mapping, "val");
+                    Query query = updateCb.getQuery();
+                    ownerIdFlusher.flushQuery(context, null, null, query, ownerView, view, ownerIdFlusher.getViewAttributeAccessor().getValue(ownerView), null, null);
+                    query.setParameter("key", replaceKeys);
+                    query.setParameter("val", distinctValues);
+                    bindPairs(query, replaceKeys, replaceValues);
+                    query.executeUpdate();
+                } else {
+                    // Entries that are replaced with the same value are updated with a single statement
+                    UpdateCriteriaBuilder<?> updateCb = context.getEntityViewManager().getCriteriaBuilderFactory().updateCollection(context.getEntityManager(), ownerEntityClass, "e", mapping);
+                    updateCb.setExpression(mapping, ":element");
+                    updateCb.setWhereExpression(ownerIdWhereFragment);
+                    updateCb.where("KEY(" + mapping + ")").inExpressions(":keys");
+                    Query query = updateCb.getQuery();
+                    ownerIdFlusher.flushQuery(context, null, null, query, ownerView, view, ownerIdFlusher.getViewAttributeAccessor().getValue(ownerView), null, null);
+                    for (Map.Entry<Object, List<Object>> entry : keysByValue.entrySet()) {
+                        query.setParameter("keys", entry.getValue());
+                        query.setParameter("element", entry.getKey());
                         query.executeUpdate();
                     }
                 }
             }
+            if (embeddablesToUpdate != null && !embeddablesToUpdate.isEmpty()) {
+                UpdateCriteriaBuilder<?> updateCb = context.getEntityViewManager().getCriteriaBuilderFactory().updateCollection(context.getEntityManager(), ownerEntityClass, "e", mapping);
+                updateCb.setExpression(mapping, ":element");
+                updateCb.setWhereExpression(ownerIdWhereFragment);
+                updateCb.where("KEY(" + mapping + ")").eqExpression(":key");
+                Query query = updateCb.getQuery();
+                ownerIdFlusher.flushQuery(context, null, null, query, ownerView, view, ownerIdFlusher.getViewAttributeAccessor().getValue(ownerView), null, null);
+                for (Map.Entry<Object, Object> entry : embeddablesToUpdate.entrySet()) {
+                    query.setParameter("key", entry.getKey());
+                    query.setParameter("element", entry.getValue());
+                    query.executeUpdate();
+                }
+            }
 
             appends = fusedCollectionActions.getAdded();
         }
 
         if (appends.size() > 0) {
-            InsertCriteriaBuilder<?> insertCb = context.getEntityViewManager().getCriteriaBuilderFactory().insertCollection(context.getEntityManager(), ownerEntityClass, mapping);
-
-            String keyEntityIdAttributeName = keyDescriptor.getEntityIdAttributeName();
-            String keyAttributeIdAttributeName = keyDescriptor.getAttributeIdAttributeName();
-            if (keyEntityIdAttributeName == null) {
-                insertCb.fromValues(ownerEntityClass, "KEY(" + mapping + ")", "key", 1);
-            } else if (keyEntityIdAttributeName.equals(keyAttributeIdAttributeName)) {
-                insertCb.fromIdentifiableValues((Class<Object>) keyDescriptor.getJpaType(), "key", 1);
-            } else {
-                insertCb.fromIdentifiableValues((Class<Object>) keyDescriptor.getJpaType(), keyAttributeIdAttributeName, "key", 1);
-            }
-
-            String entityIdAttributeName = elementDescriptor.getEntityIdAttributeName();
-            String attributeIdAttributeName = elementDescriptor.getAttributeIdAttributeName();
-            if (entityIdAttributeName == null) {
-                insertCb.fromValues(ownerEntityClass, mapping, "val", 1);
-            } else if (entityIdAttributeName.equals(attributeIdAttributeName)) {
-                insertCb.fromIdentifiableValues((Class<Object>) elementDescriptor.getJpaType(), "val", 1);
-            } else {
-                insertCb.fromIdentifiableValues((Class<Object>) elementDescriptor.getJpaType(), attributeIdAttributeName, "val", 1);
-            }
-            insertCb.bind("KEY(" + mapping + ")").select("key");
-            for (int i = 0; i < ownerIdBindFragments.length; i += 2) {
-                insertCb.bind(ownerIdBindFragments[i]).select(ownerIdBindFragments[i + 1]);
-            }
-            insertCb.bind(mapping).select("val");
-            if (upsert) {
-                SubqueryBuilder<? extends InsertCriteriaBuilder<?>> subqueryBuilder = insertCb.whereNotExists()
-                    .from(ownerEntityClass, "subOwner")
-                    .innerJoin("subOwner." + mapping, "sub");
-                subqueryBuilder.where("KEY(sub)").eqExpression("key");
-                for (int i = 0; i < ownerIdBindFragments.length; i += 2) {
-                    subqueryBuilder.where("subOwner." + ownerIdBindFragments[i]).eqExpression(ownerIdBindFragments[i + 1]);
-                }
-                subqueryBuilder.end();
-            }
-            Query query = insertCb.getQuery();
-            ownerIdFlusher.flushQuery(context, null, null, query, ownerView, view, ownerIdFlusher.getViewAttributeAccessor().getValue(ownerView), null, null);
-
-            // TODO: Use batching when we implement #657
-            Object[] singletonKeyArray = new Object[1];
-            Object[] singletonValueArray = new Object[1];
-            List<Object> singletonKeyList = Arrays.asList(singletonKeyArray);
-            List<Object> singletonValueList = Arrays.asList(singletonValueArray);
             ViewToEntityMapper keyViewToEntityMapper = keyDescriptor.getLoadOnlyViewToEntityMapper();
             ViewToEntityMapper valueViewToEntityMapper = elementDescriptor.getLoadOnlyViewToEntityMapper();
             boolean checkTransient = elementDescriptor.isJpaEntity() && !elementDescriptor.shouldJpaPersist();
-            Query updateQuery = null;
+            List<Object> keys = new ArrayList<>(appends.size());
+            List<Object> values = new ArrayList<>(appends.size());
             for (Map.Entry<Object, Object> entry : appends.entrySet()) {
                 Object k = entry.getKey();
                 Object v = entry.getValue();
@@ -587,54 +583,164 @@ public class MapAttributeFlusher<E, V extends Map<?, ?>> extends AbstractPluralA
                         if (checkTransient && keyDescriptor.getBasicUserType().shouldPersist(k)) {
                             throw new IllegalStateException("Collection " + attributeName + " references an unsaved transient instance - save the transient instance before flushing: " + k);
                         }
-                        singletonKeyArray[0] = k;
+                        keys.add(k);
                     } else {
-                        singletonKeyArray[0] = keyViewToEntityMapper.applyToEntity(context, null, k);
+                        keys.add(keyViewToEntityMapper.applyToEntity(context, null, k));
                     }
                     if (valueViewToEntityMapper == null) {
                         if (checkTransient && elementDescriptor.getBasicUserType().shouldPersist(v)) {
                             throw new IllegalStateException("Collection " + attributeName + " references an unsaved transient instance - save the transient instance before flushing: " + v);
                         }
-                        singletonValueArray[0] = v;
+                        values.add(v);
                     } else {
-                        singletonValueArray[0] = valueViewToEntityMapper.applyToEntity(context, null, v);
+                        values.add(valueViewToEntityMapper.applyToEntity(context, null, v));
                     }
-                    query.setParameter("key", singletonKeyList);
-                    query.setParameter("val", singletonValueList);
-                    if (query.executeUpdate() == 0 && upsert) {
-                        if (updateQuery == null) {
-                            UpdateCriteriaBuilder<?> updateCb = context.getEntityViewManager().getCriteriaBuilderFactory().updateCollection(context.getEntityManager(), ownerEntityClass, "sub", mapping);
-
-                            if (keyEntityIdAttributeName == null) {
-                                updateCb.fromValues(ownerEntityClass, "KEY(" + mapping + ")", "key", 1);
-                            } else if (keyEntityIdAttributeName.equals(keyAttributeIdAttributeName)) {
-                                updateCb.fromIdentifiableValues((Class<Object>) keyDescriptor.getJpaType(), "key", 1);
-                            } else {
-                                updateCb.fromIdentifiableValues((Class<Object>) keyDescriptor.getJpaType(), keyAttributeIdAttributeName, "key", 1);
-                            }
+                }
+            }
 
-                            if (entityIdAttributeName == null) {
-                                updateCb.fromValues(ownerEntityClass, mapping, "val", 1);
-                            } else if (entityIdAttributeName.equals(attributeIdAttributeName)) {
-                                updateCb.fromIdentifiableValues((Class<Object>) elementDescriptor.getJpaType(), "val", 1);
-                            } else {
-                                updateCb.fromIdentifiableValues((Class<Object>) elementDescriptor.getJpaType(), attributeIdAttributeName, "val", 1);
-                            }
-                            updateCb.where("KEY(sub." + mapping + ")").eqExpression("key");
-                            for (int i = 0; i < ownerIdBindFragments.length; i += 2) {
-                                updateCb.where("sub." + ownerIdBindFragments[i]).eqExpression(ownerIdBindFragments[i + 1]);
-                            }
-                            updateCb.setExpression(mapping, "val");
-                            updateQuery = updateCb.getQuery();
-                            ownerIdFlusher.flushQuery(context, null, null, updateQuery, ownerView, view, ownerIdFlusher.getViewAttributeAccessor().getValue(ownerView), null, null);
-                        }
-                        updateQuery.setParameter("key", singletonKeyList);
-                        updateQuery.setParameter("val", singletonValueList);
-                        updateQuery.executeUpdate();
+            if (upsert && !context.getEntityViewManager().getDbmsDialect().supportsUpsert()) {
+                upsertElements(context, ownerView, view, keys, values);
+            } else {
+                insertElements(context, ownerView, view, keys, values);
+            }
+        }
+    }
+
+    private void insertElements(UpdateContext context, Object ownerView, Object view, List<Object> keys, List<Object> values) {
+        if (keys.size() > 1 && canPairEntries()) {
+            // The cross join of the key and value VALUES clauses is restricted to the entries, so that all entries are inserted with a single statement
+            List<Object> distinctValues = distinctElements(values);
+            Query query = createInsertQuery(context, ownerView, view, keys.size(), distinctValues.size(), distinctValues.size() == 1 ? 0 : keys.size());
+            query.setParameter("key", keys);
+            query.setParameter("val", distinctValues);
+            if (distinctValues.size() != 1) {
+                bindPairs(query, keys, values);
+            }
+            query.executeUpdate();
+            return;
+        }
+        // Embeddables can't be compared, so we group the keys by value and insert all keys of a value with a single statement
+        Map<Object, List<Object>> keysByValue = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            List<Object> valueKeys = keysByValue.get(values.get(i));
+            if (valueKeys == null) {
+                valueKeys = new ArrayList<>();
+                keysByValue.put(values.get(i), valueKeys);
+            }
+            valueKeys.add(keys.get(i));
+        }
+
+        Map<Integer, Query> queries = new HashMap<>();
+        for (Map.Entry<Object, List<Object>> entry : keysByValue.entrySet()) {
+            List<Object> valueKeys = entry.getValue();
+            Query query = queries.get(valueKeys.size());
+            if (query == null) {
+                query = createInsertQuery(context, ownerView, view, valueKeys.size(), 1, 0);
+                queries.put(valueKeys.size(), query);
+            }
+            query.setParameter("key", valueKeys);
+            query.setParameter("val", Collections.singletonList(entry.getKey()));
+            query.executeUpdate();
+        }
+    }
+
+    private void upsertElements(UpdateContext context, Object ownerView, Object view, List<Object> keys, List<Object> values) {
+        // An upsert needs the update count of every entry to decide if it has to update the entry instead
+        Query query = createInsertQuery(context, ownerView, view, 1, 1, 0);
+        Object[] singletonKeyArray = new Object[1];
+        Object[] singletonValueArray = new Object[1];
+        List<Object> singletonKeyList = Arrays.asList(singletonKeyArray);
+        List<Object> singletonValueList = Arrays.asList(singletonValueArray);
+        Query updateQuery = null;
+        for (int i = 0; i < keys.size(); i++) {
+            singletonKeyArray[0] = keys.get(i);
+            singletonValueArray[0] = values.get(i);
+            query.setParameter("key", singletonKeyList);
+            query.setParameter("val", singletonValueList);
+            if (query.executeUpdate() == 0) {
+                if (updateQuery == null) {
+                    String mapping = getMapping();
+                    UpdateCriteriaBuilder<?> updateCb = context.getEntityViewManager().getCriteriaBuilderFactory().updateCollection(context.getEntityManager(), ownerEntityClass, "sub", mapping);
+                    fromKeyValues(updateCb, 1);
+                    fromElementValues(updateCb, 1);
+                    updateCb.where("KEY(sub." + mapping + ")").eqExpression("key");
+                    for (int j = 0; j < ownerIdBindFragments.length; j += 2) {
+                        updateCb.where("sub." + ownerIdBindFragments[j]).eqExpression(ownerIdBindFragments[j + 1]);
                     }
+                    updateCb.setExpression(mapping, "val");
+                    updateQuery = updateCb.getQuery();
+                    ownerIdFlusher.flushQuery(context, null, null, updateQuery, ownerView, view, ownerIdFlusher.getViewAttributeAccessor().getValue(ownerView), null, null);
                 }
+                updateQuery.setParameter("key", singletonKeyList);
+                updateQuery.setParameter("val", singletonValueList);
+                updateQuery.executeUpdate();
+            }
+        }
+    }
+
+    private Query createInsertQuery(UpdateContext context, Object ownerView, Object view, int keyCount, int valueCount, int entryPairCount) {
+        String mapping = getMapping();
+        InsertCriteriaBuilder<?> insertCb = context.getEntityViewManager().getCriteriaBuilderFactory().insertCollection(context.getEntityManager(), ownerEntityClass, mapping);
+        fromKeyValues(insertCb, keyCount);
+        fromElementValues(insertCb, valueCount);
+        if (entryPairCount != 0) {
+            insertCb.whereExpression(pairPredicate("key", "val", entryPairCount));
+        }
+        insertCb.bind("KEY(" + mapping + ")").select("key");
+        for (int i = 0; i < ownerIdBindFragments.length; i += 2) {
+            insertCb.bind(ownerIdBindFragments[i]).select(ownerIdBindFragments[i + 1]);
+        }
+        insertCb.bind(mapping).select("val");
+        if (upsert) {
+            // With native upsert support, an existing entry is updated by the insert statement itself
+            if (context.getEntityViewManager().getDbmsDialect().supportsUpsert()) {
+                insertCb.upsert();
+            } else {
+                appendNotExistsPredicate(insertCb, mapping);
             }
         }
+        Query query = insertCb.getQuery();
+        ownerIdFlusher.flushQuery(context, null, null, query, ownerView, view, ownerIdFlusher.getViewAttributeAccessor().getValue(ownerView), null, null);
+        return query;
+    }
+
+    private boolean canPairEntries() {
+        return !keyDescriptor.isJpaEmbeddable() && canPairElements();
+    }
+
+    private void appendNotExistsPredicate(InsertCriteriaBuilder<?> insertCb, String mapping) {
+        SubqueryBuilder<? extends InsertCriteriaBuilder<?>> subqueryBuilder = insertCb.whereNotExists()
+                .from(ownerEntityClass, "subOwner")
+                .innerJoin("subOwner." + mapping, "sub");
+        subqueryBuilder.where("KEY(sub)").eqExpression("key");
+        for (int i = 0; i < ownerIdBindFragments.length; i += 2) {
+            subqueryBuilder.where("subOwner." + ownerIdBindFragments[i]).eqExpression(ownerIdBindFragments[i + 1]);
+        }
+        subqueryBuilder.end();
+    }
+
+    private void fromKeyValues(FromBaseBuilder<?> cb, int valueCount) {
+        String keyEntityIdAttributeName = keyDescriptor.getEntityIdAttributeName();
+        String keyAttributeIdAttributeName = keyDescriptor.getAttributeIdAttributeName();
+        if (keyEntityIdAttributeName == null) {
+            cb.fromValues(ownerEntityClass, "KEY(" + getMapping() + ")", "key", valueCount);
+        } else if (keyEntityIdAttributeName.equals(keyAttributeIdAttributeName)) {
+            cb.fromIdentifiableValues((Class<Object>) keyDescriptor.getJpaType(), "key", valueCount);
+        } else {
+            cb.fromIdentifiableValues((Class<Object>) keyDescriptor.getJpaType(), keyAttributeIdAttributeName, "key", valueCount);
+        }
+    }
+
+    private void fromElementValues(FromBaseBuilder<?> cb, int valueCount) {
+        String entityIdAttributeName = elementDescriptor.getEntityIdAttributeName();
+        String attributeIdAttributeName = elementDescriptor.getAttributeIdAttributeName();
+        if (entityIdAttributeName == null) {
+            cb.fromValues(ownerEntityClass, getMapping(), "val", valueCount);
+        } else if (entityIdAttributeName.equals(attributeIdAttributeName)) {
+            cb.fromIdentifiableValues((Class<Object>) elementDescriptor.getJpaType(), "val", valueCount);
+        } else {
+            cb.fromIdentifiableValues((Class<Object>) elementDescriptor.getJpaType(), attributeIdAttributeName, "val", valueCount);
+        }
     }
 
     protected void flushCollectionOperations(UpdateContext context, Object ownerView, Object view, V initial, V value, Map<Object, Object> embeddablesToUpdate, FusedMapActions fusedCollectionActions, boolean initialKnown) {
@@ -20,6 +20,7 @@ import com.blazebit.persistence.view.spi.type.EntityViewProxy;
 import com.blazebit.persistence.view.spi.type.TypeConverter;
 
 import javax.persistence.Query;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -137,9 +138,46 @@ public class SubviewAttributeFlusher<E, V> extends AttributeFetchGraphNode<Subvi
         return currentValue;
     }
 
+    /**
+     * Loads the entities of the dirty subviews of the given owner views, that have the same type as the subview of this dirty flusher, with a single query.
+     *
+     * @param context The update context
+     * @param ownerViews The owner views
+     * @since 1.6.15
+     */
+    public void loadEntities(UpdateContext context, List<Object> ownerViews) {
+        if (!(nestedFlusher instanceof CompositeAttributeFlusher) || !(value instanceof MutableStateTrackable)) {
+            return;
+        }
+        Class<?> subviewClass = ((MutableStateTrackable) value).$$_getEntityViewClass();
+        List<Object> subviews = new ArrayList<>(ownerViews.size());
+        for (int i = 0; i < ownerViews.size(); i++) {
+            Object subview = viewAttributeAccessor.getValue(ownerViews.get(i));
+            if (subview instanceof MutableStateTrackable) {
+                MutableStateTrackable updatableProxy = (MutableStateTrackable) subview;
+                if (updatableProxy.$$_isDirty() && updatableProxy.$$_getEntityViewClass() == subviewClass) {
+                    subviews.add(subview);
+                }
+            }
+        }
+        if (subviews.size() > 1) {
+            ((CompositeAttributeFlusher) nestedFlusher).loadEntities(context, subviews);
+        }
+    }
+
+    /**
+     * Returns whether this flusher appends an update query fragment, which only depends on whether the value changed.
+     *
+     * @return whether an update query fragment is appended
+     * @since 1.6.15
+     */
+    public boolean hasUpdateQueryFragment() {
+        return update && (updatable || isPassThrough()) && inverseFlusher == null;
+    }
+
     @Override
     public boolean appendUpdateQueryFragment(UpdateContext context, StringBuilder sb, String mappingPrefix, String parameterPrefix, String separator) {
-        if (update && (updatable || isPassThrough()) && inverseFlusher == null) {
+        if (hasUpdateQueryFragment()) {
             if (supportElementIdQueryFlush) {
                 if (mappingPrefix == null) {
                     return getElementIdFlusher().appendUpdateQueryFragment(context, sb, mapping + ".", parameterName + "_", separator);
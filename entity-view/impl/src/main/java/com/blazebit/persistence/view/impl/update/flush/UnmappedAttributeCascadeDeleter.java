@@ -7,6 +7,8 @@ package com.blazebit.persistence.view.impl.update.flush;
 
 import com.blazebit.persistence.view.impl.update.UpdateContext;
 
+import java.util.List;
+
 /**
  *
  * @author Christian Beikov
@@ -18,6 +20,16 @@ public interface UnmappedAttributeCascadeDeleter {
 
     public void removeByOwnerId(UpdateContext context, Object ownerId);
 
+    /**
+     * Like {@link #removeByOwnerId(UpdateContext, Object)}, but for multiple owners at once.
+     * Implementations may remove the elements of all owners with a bounded number of statements.
+     *
+     * @param context The update context
+     * @param ownerIds The ids of the owners for which to remove the elements
+     * @since 1.6.15
+     */
+    public void removeByOwnerIds(UpdateContext context, List<Object> ownerIds);
+
     public String getAttributeValuePath();
 
     public boolean requiresDeleteCascadeAfterRemove();
@@ -162,14 +162,16 @@ public class UnmappedBasicAttributeCascadeDeleter extends AbstractUnmappedAttrib
                             }
                         }
                     } else {
+                        List<Object> ids = new ArrayList<>(resultList.size());
                         for (Object[] returnedValues : resultList) {
-                            Object id = returnedValues[returnedValues.length - 1];
-
-                            for (int i = 0; i < unmappedPreRemoveCascadeDeleters.length; i++) {
-                                unmappedPreRemoveCascadeDeleters[i].removeByOwnerId(context, id);
-                            }
-                            removeWithoutPreCascadeDelete(context, ownerId, returnedValues, id);
+                            ids.add(returnedValues[returnedValues.length - 1]);
                         }
+                        // Without listeners, we can delete all elements of a cascade level with a single statement
+                        for (int i = 0; i < unmappedPreRemoveCascadeDeleters.length; i++) {
+                            unmappedPreRemoveCascadeDeleters[i].removeByOwnerIds(context, ids);
+                        }
+                        deleteElement(context, ownerId, null);
+                        removePostRemoveCascades(context, resultList);
                     }
                 } else {
                     // Hibernate returns the scalar value directly when using only a single select item
@@ -183,11 +185,13 @@ public class UnmappedBasicAttributeCascadeDeleter extends AbstractUnmappedAttrib
                             }
                         }
                     } else {
-                        for (Object id : resultList) {
-                            for (int i = 0; i < unmappedPreRemoveCascadeDeleters.length; i++) {
-                                unmappedPreRemoveCascadeDeleters[i].removeByOwnerId(context, id);
-                            }
-                            removeWithoutPreCascadeDelete(context, ownerId, null, id);
+                        List<Object> ids = (List<Object>) (List<?>) resultList;
+                        // Without listeners, we can delete all elements of a cascade level with a single statement
+                        for (int i = 0; i < unmappedPreRemoveCascadeDeleters.length; i++) {
+                            unmappedPreRemoveCascadeDeleters[i].removeByOwnerIds(context, ids);
+                        }
+                        if (!ids.isEmpty()) {
+                            deleteElement(context, ownerId, null);
                         }
                     }
                 }
@@ -266,6 +270,98 @@ public class UnmappedBasicAttributeCascadeDeleter extends AbstractUnmappedAttrib
             returnedValuesList = returnedValues == null ? Collections.<Object[]>emptyList() : Collections.singletonList(returnedValues);
         }
 
+        removePostRemoveCascades(context, returnedValuesList);
+    }
+
+    /**
+     * Removes the elements with the given ids. Unless the elements must be removed one by one,
+     * e.g. because remove listeners are registered, every cascade level is removed with a single statement
+     * per chunk of at most {@link #MAX_IN_LIST_SIZE} ids.
+     *
+     * @param context The update context
+     * @param ids The ids of the elements to remove
+     * @since 1.6.15
+     */
+    public void removeByIds(UpdateContext context, List<Object> ids) {
+        if (ids.size() == 1 || requiresDeleteAsEntity || context.hasRemoveListeners(elementEntityClass)) {
+            for (int i = 0; i < ids.size(); i++) {
+                removeById(context, ids.get(i));
+            }
+        } else {
+            for (int start = 0; start < ids.size(); start += MAX_IN_LIST_SIZE) {
+                List<Object> chunk = ids.subList(start, Math.min(ids.size(), start + MAX_IN_LIST_SIZE));
+                for (int i = 0; i < unmappedPreRemoveCascadeDeleters.length; i++) {
+                    unmappedPreRemoveCascadeDeleters[i].removeByOwnerIds(context, chunk);
+                }
+                removePostRemoveCascades(context, deleteElements(context, elementIdAttributeName, chunk));
+            }
+        }
+    }
+
+    @Override
+    public void removeByOwnerIds(UpdateContext context, List<Object> ownerIds) {
+        if (ownerIds.size() == 1 || requiresDeleteAsEntity || context.hasRemoveListeners(elementEntityClass)) {
+            for (int i = 0; i < ownerIds.size(); i++) {
+                removeByOwnerId(context, ownerIds.get(i));
+            }
+        } else {
+            for (int start = 0; start < ownerIds.size(); start += MAX_IN_LIST_SIZE) {
+                List<Object> chunk = ownerIds.subList(start, Math.min(ownerIds.size(), start + MAX_IN_LIST_SIZE));
+                if (unmappedPreRemoveCascadeDeleters.length == 0) {
+                    removePostRemoveCascades(context, deleteElements(context, ownerIdAttributeName, chunk));
+                } else {
+                    // If we have pre remove cascade deleters, we need to query the ids first so we can remove these elements
+                    CriteriaBuilder<Object> cb = context.getEntityViewManager().getCriteriaBuilderFactory().create(context.getEntityManager(), Object.class);
+                    cb.from(elementEntityClass);
+                    cb.where(ownerIdAttributeName).in(chunk);
+                    cb.select(elementIdAttributeName);
+                    removeByIds(context, cb.getResultList());
+                }
+            }
+        }
+    }
+
+    private List<Object[]> deleteElements(UpdateContext context, String path, List<Object> values) {
+        EntityViewManagerImpl evm = context.getEntityViewManager();
+        if (unmappedPostRemoveCascadeDeleters.length == 0) {
+            DeleteCriteriaBuilder<?> cb = evm.getCriteriaBuilderFactory().delete(context.getEntityManager(), elementEntityClass);
+            cb.where(path).in(values);
+            cb.executeUpdate();
+            return Collections.emptyList();
+        }
+
+        String[] returningAttributes = new String[unmappedPostRemoveCascadeDeleters.length];
+        for (int i = 0; i < unmappedPostRemoveCascadeDeleters.length; i++) {
+            returningAttributes[i] = unmappedPostRemoveCascadeDeleters[i].getAttributeValuePath();
+        }
+        // need to "return" the values from the delete query for the post deleters since the values aren't available after executing the delete query
+        if (evm.getDbmsDialect().supportsReturningColumns()) {
+            DeleteCriteriaBuilder<?> cb = evm.getCriteriaBuilderFactory().delete(context.getEntityManager(), elementEntityClass);
+            cb.where(path).in(values);
+            ReturningResult<Tuple> result = cb.executeWithReturning(returningAttributes);
+            List<Object[]> returnedValuesList = new ArrayList<>();
+            for (Tuple tuple : result.getResultList()) {
+                returnedValuesList.add(tuple.toArray());
+            }
+            return returnedValuesList;
+        } else {
+            CriteriaBuilder<Object[]> cb = evm.getCriteriaBuilderFactory().create(context.getEntityManager(), Object[].class);
+            cb.from(elementEntityClass);
+            cb.where(path).in(values);
+            for (String attribute : returningAttributes) {
+                cb.select(attribute);
+            }
+            // Always select the id as well, so that we get an Object[] even for a single returning attribute
+            cb.select(elementIdAttributeName);
+            List<Object[]> returnedValuesList = cb.getResultList();
+            DeleteCriteriaBuilder<?> deleteCb = evm.getCriteriaBuilderFactory().delete(context.getEntityManager(), elementEntityClass);
+            deleteCb.where(path).in(values);
+            deleteCb.executeUpdate();
+            return returnedValuesList;
+        }
+    }
+
+    private void removePostRemoveCascades(UpdateContext context, List<Object[]> returnedValuesList) {
         for (int i = 0; i < returnedValuesList.size(); i++) {
             Object[] objects = returnedValuesList.get(i);
             for (int j = 0; j < unmappedPostRemoveCascadeDeleters.length; j++) {
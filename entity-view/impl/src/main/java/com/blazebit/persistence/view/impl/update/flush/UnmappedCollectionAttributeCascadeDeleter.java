@@ -101,9 +101,7 @@ public class UnmappedCollectionAttributeCascadeDeleter extends AbstractUnmappedA
                         cb.executeUpdate();
                     }
                 }
-                for (Object elementId : elementIds) {
-                    elementDeleter.removeById(context, elementId);
-                }
+                elementDeleter.removeByIds(context, elementIds);
             } else {
                 // Since there is a mapped by attribute, there is no join table to clear. Just delete the element by the owner id
                 elementDeleter.removeByOwnerId(context, ownerId);
@@ -115,6 +113,53 @@ public class UnmappedCollectionAttributeCascadeDeleter extends AbstractUnmappedA
         }
     }
 
+    @Override
+    public void removeByOwnerIds(UpdateContext context, List<Object> ownerIds) {
+        if (ownerIds.size() == 1) {
+            removeByOwnerId(context, ownerIds.get(0));
+            return;
+        }
+        EntityViewManagerImpl evm = context.getEntityViewManager();
+        if (cascadeDeleteElement && mappedByAttributeName != null) {
+            // Since there is a mapped by attribute, there is no join table to clear. Just delete the elements by the owner ids
+            elementDeleter.removeByOwnerIds(context, ownerIds);
+        } else if (cascadeDeleteElement || !jpaProviderDeletesCollection) {
+            for (int start = 0; start < ownerIds.size(); start += MAX_IN_LIST_SIZE) {
+                List<Object> chunk = ownerIds.subList(start, Math.min(ownerIds.size(), start + MAX_IN_LIST_SIZE));
+                if (!cascadeDeleteElement) {
+                    DeleteCriteriaBuilder<?> cb = evm.getCriteriaBuilderFactory().deleteCollection(context.getEntityManager(), ownerEntityClass, "e", attributeName);
+                    cb.where(ownerIdAttributeName).in(chunk);
+                    cb.executeUpdate();
+                    continue;
+                }
+                List<Object> elementIds;
+                if (evm.getDbmsDialect().supportsReturningColumns()) {
+                    List<Tuple> tuples = evm.getCriteriaBuilderFactory().deleteCollection(context.getEntityManager(), ownerEntityClass, "e", attributeName)
+                            .where(ownerIdAttributeName).in(chunk)
+                            .executeWithReturning(attributeName + "." + elementIdAttributeName)
+                            .getResultList();
+
+                    elementIds = new ArrayList<>(tuples.size());
+                    for (Tuple tuple : tuples) {
+                        elementIds.add(tuple.get(0));
+                    }
+                } else {
+                    elementIds = (List<Object>) evm.getCriteriaBuilderFactory().create(context.getEntityManager(), ownerEntityClass, "e")
+                            .where(ownerIdAttributeName).in(chunk)
+                            .select("e." + attributeName + "." + elementIdAttributeName)
+                            .getResultList();
+                    if (!elementIds.isEmpty()) {
+                        // We must always delete this, otherwise we might get a constraint violation because of the cascading delete
+                        DeleteCriteriaBuilder<?> cb = evm.getCriteriaBuilderFactory().deleteCollection(context.getEntityManager(), ownerEntityClass, "e", attributeName);
+                        cb.where(ownerIdAttributeName).in(chunk);
+                        cb.executeUpdate();
+                    }
+                }
+                elementDeleter.removeByIds(context, elementIds);
+            }
+        }
+    }
+
     @Override
     public UnmappedAttributeCascadeDeleter createFlusherWiseDeleter() {
         return jpaProviderDeletesCollection ? new UnmappedCollectionAttributeCascadeDeleter(this, false) : this;
@@ -19,6 +19,7 @@ import javax.persistence.metamodel.ManagedType;
 import javax.persistence.metamodel.SingularAttribute;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 
@@ -107,6 +108,13 @@ public class UnmappedWritableBasicAttributeSetNullCascadeDeleter implements Unma
         updateCb.executeUpdate();
     }
 
+    @Override
+    public void removeByOwnerIds(UpdateContext context, List<Object> ownerIds) {
+        for (int i = 0; i < ownerIds.size(); i++) {
+            removeByOwnerId(context, ownerIds.get(i));
+        }
+    }
+
     @Override
     public UnmappedAttributeCascadeDeleter createFlusherWiseDeleter() {
         return this;
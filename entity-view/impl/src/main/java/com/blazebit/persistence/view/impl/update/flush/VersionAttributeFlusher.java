@@ -80,13 +80,26 @@ public class VersionAttributeFlusher<E, V> extends BasicAttributeFlusher<E, V> {
         }
     }
 
+    /**
+     * Returns whether the given version value of a view matches the version value of the given loaded entity.
+     *
+     * @param entity The loaded entity
+     * @param value The version value of the view
+     * @return Whether the version values match
+     * @since 1.6.15
+     */
+    public boolean isVersionMatching(E entity, V value) {
+        Object entityValue = entityAttributeAccessor.getValue(entity);
+        return value != null && (value == entityValue || elementDescriptor.getBasicUserType().isDeepEqual(value, entityValue));
+    }
+
     @Override
     public boolean flushEntity(UpdateContext context, E entity, Object ownerView, Object view, V value, Runnable postReplaceListener) {
         Object entityValue = entityAttributeAccessor.getValue(entity);
         MutableStateTrackable mutableStateTrackable = (MutableStateTrackable) view;
         // The optimistic version check only makes sense if the view is not new
         if (!mutableStateTrackable.$$_isNew()) {
-            if (value == null || value != entityValue && !elementDescriptor.getBasicUserType().isDeepEqual(value, entityValue)) {
+            if (!isVersionMatching(entity, value)) {
                 throw new OptimisticLockException("The version value of the loaded entity [" + entityValue + "] and the view [" + value + "] do not match!", entity, view);
             }
         }
@@ -8,6 +8,7 @@ package com.blazebit.persistence.view.impl.update.flush;
 import com.blazebit.persistence.view.impl.entity.ViewToEntityMapper;
 import com.blazebit.persistence.view.impl.update.UpdateContext;
 
+import java.util.List;
 
 /**
  *
@@ -32,6 +33,13 @@ public class ViewTypeCascadeDeleter implements UnmappedAttributeCascadeDeleter {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public void removeByOwnerIds(UpdateContext context, List<Object> ownerIds) {
+        for (int i = 0; i < ownerIds.size(); i++) {
+            removeByOwnerId(context, ownerIds.get(i));
+        }
+    }
+
     @Override
     public String getAttributeValuePath() {
         throw new UnsupportedOperationException();
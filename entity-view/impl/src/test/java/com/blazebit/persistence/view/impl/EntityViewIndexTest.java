@@ -0,0 +1,48 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+package com.blazebit.persistence.view.impl;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class EntityViewIndexTest {
+
+    @Test
+    public void readClassNames() throws Exception {
+        String index = "# Comment\nversion=1\ncom.example.AView\n\ncom.example.Outer$BView\n";
+        assertEquals(Arrays.asList("com.example.AView", "com.example.Outer$BView"), EntityViewIndex.readClassNames(new BufferedReader(new StringReader(index)), "test"));
+    }
+
+    @Test
+    public void rejectUnsupportedVersion() {
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Exception {
+                EntityViewIndex.readClassNames(new BufferedReader(new StringReader("version=2\ncom.example.AView\n")), "test");
+            }
+        }).hasMessageContaining("unsupported version 2");
+    }
+
+    @Test
+    public void rejectMissingVersion() {
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Exception {
+                EntityViewIndex.readClassNames(new BufferedReader(new StringReader("com.example.AView\n")), "test");
+            }
+        }).hasMessageContaining("does not start with a version");
+    }
+}
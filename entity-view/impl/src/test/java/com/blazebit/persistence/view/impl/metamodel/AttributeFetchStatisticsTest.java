@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl.metamodel;
+
+import com.blazebit.persistence.view.FetchStrategy;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class AttributeFetchStatisticsTest {
+
+    @Test
+    public void keepCurrentStrategyUntilMinExecutions() {
+        AttributeFetchStatistics statistics = new AttributeFetchStatistics(2, 10, 100);
+        record(statistics, 1, 1000);
+        assertEquals(FetchStrategy.JOIN, statistics.getRecommendedFetchStrategy(FetchStrategy.JOIN, true, true));
+    }
+
+    @Test
+    public void recommendMultisetOrJoinForSmallCollections() {
+        AttributeFetchStatistics statistics = new AttributeFetchStatistics(2, 10, 100);
+        record(statistics, 10, 50);
+        record(statistics, 10, 50);
+        assertEquals(5.0, statistics.getAverageElementCount(), 0.0);
+        assertEquals(FetchStrategy.MULTISET, statistics.getRecommendedFetchStrategy(FetchStrategy.SELECT, true, true));
+        assertEquals(FetchStrategy.JOIN, statistics.getRecommendedFetchStrategy(FetchStrategy.SELECT, false, true));
+    }
+
+    @Test
+    public void recommendSelectOrSubselectForBigCollections() {
+        AttributeFetchStatistics statistics = new AttributeFetchStatistics(1, 10, 100);
+        record(statistics, 10, 500);
+        assertEquals(FetchStrategy.SUBSELECT, statistics.getRecommendedFetchStrategy(FetchStrategy.JOIN, true, true));
+        record(statistics, 390, 19500);
+        assertEquals(FetchStrategy.SELECT, statistics.getRecommendedFetchStrategy(FetchStrategy.JOIN, true, true));
+        assertEquals(FetchStrategy.MULTISET, statistics.getRecommendedFetchStrategy(FetchStrategy.JOIN, true, false));
+    }
+
+    @Test
+    public void countSkippedCorrelationQueries() {
+        AttributeFetchStatistics statistics = new AttributeFetchStatistics(1, 10, 100);
+        statistics.recordSkippedCorrelationQuery();
+        statistics.recordSkippedCorrelationQuery();
+        assertEquals(2L, statistics.getSkippedCorrelationQueryCount());
+        assertEquals(0L, statistics.getExecutionCount());
+        statistics.withdrawSkippedCorrelationQuery();
+        assertEquals(1L, statistics.getSkippedCorrelationQueryCount());
+    }
+
+    private static void record(AttributeFetchStatistics statistics, long roots, long elements) {
+        statistics.recordExecution();
+        statistics.recordElements(roots, elements);
+    }
+}
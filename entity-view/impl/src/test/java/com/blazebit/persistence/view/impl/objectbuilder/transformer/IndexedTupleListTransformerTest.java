@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl.objectbuilder.transformer;
+
+import com.blazebit.persistence.view.impl.collection.PluralObjectFactory;
+import com.blazebit.persistence.view.impl.collection.UnorderedMapInstantiator;
+import com.blazebit.persistence.view.impl.metamodel.AttributeFetchStatistics;
+import com.blazebit.persistence.view.impl.objectbuilder.MapInstantiatorAccumulator;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class IndexedTupleListTransformerTest {
+
+    private static final PluralObjectFactory<Map<?, ?>> MAP_FACTORY = new PluralObjectFactory<Map<?, ?>>() {
+        @Override
+        public Map<?, ?> createCollection(int size) {
+            return new HashMap<>(size);
+        }
+    };
+
+    @Test
+    public void testStatisticsCountMapSizesPerRoot() {
+        AttributeFetchStatistics statistics = new AttributeFetchStatistics(1, 10, 100);
+        IndexedTupleListTransformer transformer = createTransformer(statistics);
+        List<Object[]> tuples = transformer.transform(createTuplesWithSiblingCollection());
+        transformer.transformOrdered(createTuplesWithSiblingCollection());
+
+        Assert.assertEquals(2L, statistics.getExecutionCount());
+        // The root with the empty map counts as root, but its null key doesn't count as element
+        Assert.assertEquals(4L, statistics.getRootCount());
+        // The entries are repeated in the rows of the sibling collection, but only the built maps are counted
+        Assert.assertEquals(4L, statistics.getElementCount());
+        Assert.assertEquals(2, ((Map<?, ?>) tuples.get(0)[1]).size());
+        Assert.assertEquals(0, ((Map<?, ?>) tuples.get(tuples.size() - 1)[1]).size());
+    }
+
+    private static IndexedTupleListTransformer createTransformer(AttributeFetchStatistics statistics) {
+        UnorderedMapInstantiator instantiator = new UnorderedMapInstantiator(MAP_FACTORY, Collections.<Class<?>>emptySet(), Collections.<Class<?>>emptySet(), Collections.<Class<?>>emptySet(), false, false, false);
+        return new IndexedTupleListTransformer(new int[]{ 0 }, 1, 2, new MapInstantiatorAccumulator(instantiator, null, false), false, null, null, statistics);
+    }
+
+    private static List<Object[]> createTuplesWithSiblingCollection() {
+        // The last element is the already built join fetched sibling collection
+        List<String> siblings = Arrays.asList("x", "y");
+        return new ArrayList<>(Arrays.asList(
+                new Object[]{ 1L, "k1", "a", siblings },
+                new Object[]{ 1L, "k2", "b", siblings },
+                new Object[]{ 2L, null, null, Collections.emptyList() }
+        ));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl.objectbuilder.transformer;
+
+import com.blazebit.persistence.view.impl.collection.OrderedCollectionInstantiator;
+import com.blazebit.persistence.view.impl.collection.PluralObjectFactory;
+import com.blazebit.persistence.view.impl.metamodel.AttributeFetchStatistics;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class NonIndexedTupleListTransformerTest {
+
+    private static final PluralObjectFactory<Collection<?>> LIST_FACTORY = new PluralObjectFactory<Collection<?>>() {
+        @Override
+        public Collection<?> createCollection(int size) {
+            return new ArrayList<>(size);
+        }
+    };
+
+    @Test
+    public void testOrderedReductionMatchesHashedReduction() {
+        NonIndexedTupleListTransformer transformer = createTransformer();
+        List<Object[]> hashed = transformer.transform(createTuples());
+        List<Object[]> ordered = transformer.transformOrdered(createTuples());
+
+        Assert.assertEquals(3, hashed.size());
+        Assert.assertEquals(hashed.size(), ordered.size());
+        for (int i = 0; i < hashed.size(); i++) {
+            Assert.assertArrayEquals(hashed.get(i), ordered.get(i));
+        }
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), ordered.get(0)[1]);
+        Assert.assertEquals(Collections.singletonList("d"), ordered.get(1)[1]);
+        Assert.assertNull(ordered.get(2)[0]);
+    }
+
+    @Test
+    public void testOrderedReductionStartsNewCollectionForEachParent() {
+        NonIndexedTupleListTransformer transformer = createTransformer();
+        List<Object[]> ordered = transformer.transformOrdered(new ArrayList<>(Arrays.asList(
+                new Object[]{ 1L, "a" },
+                new Object[]{ 2L, null },
+                new Object[]{ 3L, "b" },
+                new Object[]{ 3L, "c" }
+        )));
+
+        Assert.assertEquals(3, ordered.size());
+        Assert.assertEquals(Collections.singletonList("a"), ordered.get(0)[1]);
+        Assert.assertEquals(Collections.emptyList(), ordered.get(1)[1]);
+        Assert.assertEquals(Arrays.asList("b", "c"), ordered.get(2)[1]);
+    }
+
+    @Test
+    public void testStatisticsCountCollectionSizesPerRoot() {
+        AttributeFetchStatistics statistics = new AttributeFetchStatistics(1, 10, 100);
+        NonIndexedTupleListTransformer transformer = createTransformer(statistics);
+        transformer.transform(createTuplesWithSiblingCollection());
+        transformer.transformOrdered(createTuplesWithSiblingCollection());
+
+        Assert.assertEquals(2L, statistics.getExecutionCount());
+        // The root with the empty collection counts as root, but its null element doesn't count as element
+        Assert.assertEquals(4L, statistics.getRootCount());
+        // The elements are repeated in the rows of the sibling collection, but only the built collections are counted
+        Assert.assertEquals(4L, statistics.getElementCount());
+        Assert.assertEquals(1.0, statistics.getAverageElementCount(), 0.0);
+    }
+
+    private static NonIndexedTupleListTransformer createTransformer() {
+        return createTransformer(null);
+    }
+
+    private static NonIndexedTupleListTransformer createTransformer(AttributeFetchStatistics statistics) {
+        OrderedCollectionInstantiator instantiator = new OrderedCollectionInstantiator(LIST_FACTORY, Collections.<Class<?>>emptySet(), Collections.<Class<?>>emptySet(), Collections.<Class<?>>emptySet(), false, false, false, false, null);
+        return new NonIndexedTupleListTransformer(new int[]{ 0 }, 1, instantiator, false, null, statistics);
+    }
+
+    private static List<Object[]> createTuplesWithSiblingCollection() {
+        // The last element is the already built join fetched sibling collection
+        List<String> siblings = Arrays.asList("x", "y");
+        return new ArrayList<>(Arrays.asList(
+                new Object[]{ 1L, "a", siblings },
+                new Object[]{ 1L, "b", siblings },
+                new Object[]{ 2L, null, Collections.emptyList() }
+        ));
+    }
+
+    private static List<Object[]> createTuples() {
+        return new ArrayList<>(Arrays.asList(
+                new Object[]{ 1L, "a" },
+                new Object[]{ 1L, "b" },
+                new Object[]{ 1L, "c" },
+                new Object[]{ 2L, "d" },
+                new Object[]{ null, null }
+        ));
+    }
+}
@@ -15,9 +15,11 @@ import java.util.Set;
  * @since 1.5.0
  */
 public final class Constants {
+    public static final String ENTITY_VIEW_INDEX = "META-INF/blaze-persistence/entity-views.idx";
     public static final String ENTITY_VIEW_MANAGER = "com.blazebit.persistence.view.EntityViewManager";
     public static final String SERIALIZABLE_ENTITY_VIEW_MANAGER = "com.blazebit.persistence.view.SerializableEntityViewManager";
     public static final String ENTITY_VIEW_PROXY = "com.blazebit.persistence.view.spi.type.EntityViewProxy";
+    public static final String ENTITY_VIEW_TUPLE_INSTANTIATOR = "com.blazebit.persistence.view.spi.type.EntityViewTupleInstantiator";
     public static final String BASIC_DIRTY_TRACKER = "com.blazebit.persistence.view.spi.type.BasicDirtyTracker";
     public static final String MUTABLE_STATE_TRACKABLE = "com.blazebit.persistence.view.spi.type.MutableStateTrackable";
     public static final String DIRTY_TRACKER = "com.blazebit.persistence.view.spi.type.DirtyTracker";
@@ -63,6 +63,7 @@ public class Context {
     private final boolean generateBuilders;
     private final boolean createEmptyFlatViews;
     private final boolean generateDeepConstants;
+    private final boolean generateIndex;
     private final String defaultVersionAttributeName;
     private final String defaultVersionAttributeType;
     private final int threads;
@@ -93,6 +94,7 @@ public class Context {
         this.generateBuilders = getOption(pe, EntityViewAnnotationProcessor.GENERATE_BUILDERS, true);
         this.createEmptyFlatViews = getOption(pe, EntityViewAnnotationProcessor.CREATE_EMPTY_FLAT_VIEWS, true);
         this.generateDeepConstants = getOption(pe, EntityViewAnnotationProcessor.GENERATE_DEEP_CONSTANTS, true);
+        this.generateIndex = getOption(pe, EntityViewAnnotationProcessor.GENERATE_INDEX, false);
 
         this.defaultVersionAttributeName = pe.getOptions().get(EntityViewAnnotationProcessor.DEFAULT_VERSION_ATTRIBUTE_NAME);
         this.defaultVersionAttributeType = pe.getOptions().get(EntityViewAnnotationProcessor.DEFAULT_VERSION_ATTRIBUTE_TYPE);
@@ -245,6 +247,10 @@ public class Context {
         return generateDeepConstants;
     }
 
+    public boolean isGenerateIndex() {
+        return generateIndex;
+    }
+
     public Map<String, TypeMirror> getOptionalParameters() {
         return optionalParameters;
     }
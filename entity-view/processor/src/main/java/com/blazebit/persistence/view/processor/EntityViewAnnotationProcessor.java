@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -49,6 +50,7 @@ import java.util.concurrent.atomic.LongAdder;
     EntityViewAnnotationProcessor.GENERATE_BUILDERS,
     EntityViewAnnotationProcessor.CREATE_EMPTY_FLAT_VIEWS,
     EntityViewAnnotationProcessor.GENERATE_DEEP_CONSTANTS,
+    EntityViewAnnotationProcessor.GENERATE_INDEX,
     EntityViewAnnotationProcessor.OPTIONAL_PARAMETERS,
     EntityViewAnnotationProcessor.THREADS,
 })
@@ -65,10 +67,12 @@ public class EntityViewAnnotationProcessor extends AbstractProcessor {
     public static final String GENERATE_BUILDERS = "generateBuilders";
     public static final String CREATE_EMPTY_FLAT_VIEWS = "createEmptyFlatViews";
     public static final String GENERATE_DEEP_CONSTANTS = "generateDeepConstants";
+    public static final String GENERATE_INDEX = "generateIndex";
     public static final String OPTIONAL_PARAMETERS = "optionalParameters";
     public static final String THREADS = "threads";
 
     private Context context;
+    private final Set<String> indexedEntityViews = new TreeSet<>();
 
     @Override
     public SourceVersion getSupportedSourceVersion() {
@@ -92,6 +96,10 @@ public class EntityViewAnnotationProcessor extends AbstractProcessor {
             execute(annotations, roundEnv);
             return false;
         } else {
+            if (roundEnv.processingOver() && !roundEnv.errorRaised() && context.isGenerateIndex() && !indexedEntityViews.isEmpty()) {
+                // The index is written once at the end as it covers the entity views of all rounds
+                EntityViewIndexWriter.writeFile(indexedEntityViews, context);
+            }
             return false;
         }
     }
@@ -107,6 +115,9 @@ public class EntityViewAnnotationProcessor extends AbstractProcessor {
         start = System.nanoTime();
         for (TypeElement typeElement : entityViews) {
             new AnnotationMetaEntityView(typeElement, context);
+            if (context.isGenerateIndex()) {
+                indexedEntityViews.add(context.getElementUtils().getBinaryName(typeElement).toString());
+            }
         }
         context.logMessage(Diagnostic.Kind.NOTE, "Annotation processor analysis took " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
         start = System.nanoTime();
@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.processor;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.FilerException;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+
+/**
+ * Writes the entity view index, a resource listing the binary names of all entity views of a compilation unit,
+ * which allows to register the entity views at runtime without scanning the class path.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public final class EntityViewIndexWriter {
+
+    public static final int VERSION = 1;
+
+    private EntityViewIndexWriter() {
+    }
+
+    public static void writeFile(Collection<String> entityViewClassNames, Context context) {
+        Filer filer = context.getProcessingEnvironment().getFiler();
+        try {
+            FileObject fileObject = filer.createResource(StandardLocation.CLASS_OUTPUT, "", Constants.ENTITY_VIEW_INDEX);
+            try (Writer writer = fileObject.openWriter()) {
+                writer.write("# Generated by the Blaze-Persistence entity view annotation processor\n");
+                writer.write("version=" + VERSION + "\n");
+                for (String entityViewClassName : entityViewClassNames) {
+                    writer.write(entityViewClassName);
+                    writer.write('\n');
+                }
+            }
+        } catch (FilerException filerEx) {
+            context.logMessage(Diagnostic.Kind.ERROR, "Problem with Filer: " + filerEx.getMessage());
+        } catch (IOException ioEx) {
+            context.logMessage(Diagnostic.Kind.ERROR, "Problem opening file to write " + Constants.ENTITY_VIEW_INDEX + ioEx.getMessage());
+        }
+    }
+}
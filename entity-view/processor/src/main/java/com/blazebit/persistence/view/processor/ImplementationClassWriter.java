@@ -45,6 +45,8 @@ public final class ImplementationClassWriter extends ClassWriter {
     // The following two must be aligned with com.blazebit.persistence.view.SerializableEntityViewManager
     public static final String EVM_FIELD_NAME = "ENTITY_VIEW_MANAGER";
     public static final String SERIALIZABLE_EVM_FIELD_NAME = "SERIALIZABLE_ENTITY_VIEW_MANAGER";
+    // Must be aligned with com.blazebit.persistence.view.spi.type.EntityViewTupleInstantiator
+    public static final String TUPLE_INSTANTIATOR_FIELD_NAME = "TUPLE_INSTANTIATOR";
     private static final String SERIALIZATION_CLASS_NAME_SUFFIX = "Ser";
     private static final char[] HEX_ARRAY = "0123456789ABCDEF".toCharArray();
     private static final String NEW_LINE = System.lineSeparator();
@@ -83,6 +85,7 @@ public final class ImplementationClassWriter extends ClassWriter {
         sb.append("    public static final ").append(entity.implementationImportType(Constants.SERIALIZABLE_ENTITY_VIEW_MANAGER)).append(" ").append(SERIALIZABLE_EVM_FIELD_NAME);
         sb.append(" = new ").append(entity.implementationImportType(Constants.SERIALIZABLE_ENTITY_VIEW_MANAGER)).append("(").append(entity.getSimpleName()).append(IMPL_CLASS_NAME_SUFFIX).append(".class, ").append(EVM_FIELD_NAME).append(");");
         sb.append(NEW_LINE);
+        printTupleInstantiator(sb, entity);
         sb.append(NEW_LINE);
 
         Collection<MetaAttribute> members = entity.getMembers();
@@ -197,7 +200,7 @@ public final class ImplementationClassWriter extends ClassWriter {
             sb.append("    }").append(NEW_LINE);
             sb.append("    @Override").append(NEW_LINE);
             sb.append("    public void $$_markDirty(int attributeIndex) {").append(NEW_LINE);
-            sb.append("        this.$$_dirty |= (1 << attributeIndex);").append(NEW_LINE);
+            sb.append("        this.$$_dirty |= (1L << attributeIndex);").append(NEW_LINE);
             sb.append("        if (this.$$_parent != null) {").append(NEW_LINE);
             sb.append("            this.$$_parent.$$_markDirty(this.$$_parentIndex);").append(NEW_LINE);
             sb.append("        }").append(NEW_LINE);
@@ -250,8 +253,8 @@ public final class ImplementationClassWriter extends ClassWriter {
             for (MetaAttribute member : members) {
                 if ((member.getDirtyStateIndex() != -1)) {
                     if (member.supportsDirtyTracking()) {
-                        long mask = 1 << member.getDirtyStateIndex();
-                        sb.append("            target[").append(member.getDirtyStateIndex()).append("] = (this.$$_dirty & ").append(mask).append(") == 0 ? null : source[").append(member.getDirtyStateIndex()).append("];").append(NEW_LINE);
+                        long mask = 1L << member.getDirtyStateIndex();
+                        sb.append("            target[").append(member.getDirtyStateIndex()).append("] = (this.$$_dirty & ").append(mask).append("L) == 0 ? null : source[").append(member.getDirtyStateIndex()).append("];").append(NEW_LINE);
                     } else {
                         sb.append("            target[").append(member.getDirtyStateIndex()).append("] = source[").append(member.getDirtyStateIndex()).append("];").append(NEW_LINE);
                     }
@@ -923,6 +926,23 @@ public final class ImplementationClassWriter extends ClassWriter {
         sb.append(NEW_LINE);
     }
 
+    private static void printTupleInstantiator(StringBuilder sb, MetaEntityView entity) {
+        // The tuple instantiator is only used for the tuple constructor without additional parameters
+        for (MetaConstructor constructor : entity.getConstructors()) {
+            if (constructor.getParameters().isEmpty()) {
+                String implementationName = entity.getSimpleName() + IMPL_CLASS_NAME_SUFFIX;
+                String instantiatorType = entity.implementationImportType(Constants.ENTITY_VIEW_TUPLE_INSTANTIATOR) + "<" + implementationName + ">";
+                sb.append("    public static final ").append(instantiatorType).append(" ").append(TUPLE_INSTANTIATOR_FIELD_NAME).append(" = new ").append(instantiatorType).append("() {").append(NEW_LINE);
+                sb.append("        @Override").append(NEW_LINE);
+                sb.append("        public ").append(implementationName).append(" newInstance(int offset, Object[] tuple) {").append(NEW_LINE);
+                sb.append("            return new ").append(implementationName).append("((").append(implementationName).append(") null, offset, tuple);").append(NEW_LINE);
+                sb.append("        }").append(NEW_LINE);
+                sb.append("    };").append(NEW_LINE);
+                return;
+            }
+        }
+    }
+
     private static void printConstructors(StringBuilder sb, MetaEntityView entity, Context context) {
         boolean postLoadReflection = preparePostLoad(sb, entity, context);
         if (entity.hasEmptyConstructor()) {
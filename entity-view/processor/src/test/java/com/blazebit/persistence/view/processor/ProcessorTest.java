@@ -17,6 +17,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
 
 /**
  * @author Christian Beikov
@@ -42,6 +43,17 @@ public class ProcessorTest {
         Assert.assertEquals("Test", obj.getPostLoadName());
     }
 
+    @Test
+    public void testIndex() throws Exception {
+        Compiler compiler = Compiler.javac().withProcessors(new EntityViewAnnotationProcessor()).withOptions("-A" + EntityViewAnnotationProcessor.GENERATE_INDEX + "=true");
+        Compilation compilation = compiler.compile(JavaFileObjects.forResource(AView.class.getName().replace('.', '/') + ".java"));
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+            .generatedFile(StandardLocation.CLASS_OUTPUT, Constants.ENTITY_VIEW_INDEX)
+            .contentsAsUtf8String()
+            .contains("version=" + EntityViewIndexWriter.VERSION + "\n" + AView.class.getName() + "\n");
+    }
+
     private Compilation test(Class<?>... views) {
         Compiler compiler = Compiler.javac().withProcessors(new EntityViewAnnotationProcessor());
         JavaFileObject[] javaFileObjects = new JavaFileObject[views.length];
@@ -4,6 +4,7 @@ import com.blazebit.persistence.view.EntityViewManager;
 import com.blazebit.persistence.view.SerializableEntityViewManager;
 import com.blazebit.persistence.view.StaticImplementation;
 import com.blazebit.persistence.view.spi.type.EntityViewProxy;
+import com.blazebit.persistence.view.spi.type.EntityViewTupleInstantiator;
 
 import java.io.Serializable;
 import java.util.List;
@@ -19,6 +20,12 @@ public class AViewImpl<X extends Serializable> implements AView<X>, EntityViewPr
 
     public static volatile EntityViewManager ENTITY_VIEW_MANAGER;
     public static final SerializableEntityViewManager SERIALIZABLE_ENTITY_VIEW_MANAGER = new SerializableEntityViewManager(AViewImpl.class, ENTITY_VIEW_MANAGER);
+    public static final EntityViewTupleInstantiator<AViewImpl> TUPLE_INSTANTIATOR = new EntityViewTupleInstantiator<AViewImpl>() {
+        @Override
+        public AViewImpl newInstance(int offset, Object[] tuple) {
+            return new AViewImpl((AViewImpl) null, offset, tuple);
+        }
+    };
 
     private final int age;
     private final byte[] bytes;
@@ -5,6 +5,7 @@ import com.blazebit.persistence.view.SerializableEntityViewManager;
 import com.blazebit.persistence.view.StaticImplementation;
 import com.blazebit.persistence.view.processor.model.sub.BaseView_com_blazebit_persistence_view_processor_model_BView;
 import com.blazebit.persistence.view.spi.type.EntityViewProxy;
+import com.blazebit.persistence.view.spi.type.EntityViewTupleInstantiator;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
@@ -18,6 +19,12 @@ public class BViewImpl<X extends Serializable> extends BaseView_com_blazebit_per
 
     public static volatile EntityViewManager ENTITY_VIEW_MANAGER;
     public static final SerializableEntityViewManager SERIALIZABLE_ENTITY_VIEW_MANAGER = new SerializableEntityViewManager(BViewImpl.class, ENTITY_VIEW_MANAGER);
+    public static final EntityViewTupleInstantiator<BViewImpl> TUPLE_INSTANTIATOR = new EntityViewTupleInstantiator<BViewImpl>() {
+        @Override
+        public BViewImpl newInstance(int offset, Object[] tuple) {
+            return new BViewImpl((BViewImpl) null, offset, tuple);
+        }
+    };
 
     private final Integer id;
     private String name;
@@ -61,7 +61,8 @@ public class AbstractEntityViewTest extends AbstractCoreTest {
         PackageOpener packageOpener = cbf.getService(PackageOpener.class);
         boolean unsafeDisabled = !Boolean.valueOf(String.valueOf(cfg.getProperty(ConfigurationProperties.PROXY_UNSAFE_ALLOWED)));
         boolean strictCascadingCheck = Boolean.valueOf(String.valueOf(cfg.getProperty(ConfigurationProperties.UPDATER_STRICT_CASCADING_CHECK)));
-        ProxyFactoryCacheKey proxyFactoryCacheKey = new ProxyFactoryCacheKey(unsafeDisabled, strictCascadingCheck, packageOpener);
+        boolean lazyLoading = Boolean.valueOf(String.valueOf(cfg.getProperty(ConfigurationProperties.LAZY_LOADING)));
+        ProxyFactoryCacheKey proxyFactoryCacheKey = new ProxyFactoryCacheKey(unsafeDisabled, strictCascadingCheck, lazyLoading, packageOpener);
         ProxyFactory proxyFactory;
         if ((proxyFactory = proxyFactoryCache.get(proxyFactoryCacheKey)) == null) {
             proxyFactoryCache.put(proxyFactoryCacheKey, ((EntityViewManagerImpl) evm).getProxyFactory());
@@ -101,11 +102,13 @@ public class AbstractEntityViewTest extends AbstractCoreTest {
     private static class ProxyFactoryCacheKey {
         private final boolean unsafeDisabled;
         private final boolean strictCascadingCheck;
+        private final boolean lazyLoading;
         private final PackageOpener packageOpener;
 
-        private ProxyFactoryCacheKey(boolean unsafeDisabled, boolean strictCascadingCheck, PackageOpener packageOpener) {
+        private ProxyFactoryCacheKey(boolean unsafeDisabled, boolean strictCascadingCheck, boolean lazyLoading, PackageOpener packageOpener) {
             this.unsafeDisabled = unsafeDisabled;
             this.strictCascadingCheck = strictCascadingCheck;
+            this.lazyLoading = lazyLoading;
             this.packageOpener = packageOpener;
         }
 
@@ -116,12 +119,13 @@ public class AbstractEntityViewTest extends AbstractCoreTest {
             ProxyFactoryCacheKey that = (ProxyFactoryCacheKey) o;
             return unsafeDisabled == that.unsafeDisabled &&
                     strictCascadingCheck == that.strictCascadingCheck &&
+                    lazyLoading == that.lazyLoading &&
                     packageOpener.equals(that.packageOpener);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(unsafeDisabled, strictCascadingCheck, packageOpener);
+            return Objects.hash(unsafeDisabled, strictCascadingCheck, lazyLoading, packageOpener);
         }
     }
 
@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.basic;
+
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViews;
+import com.blazebit.persistence.view.Mapping;
+import com.blazebit.persistence.view.metamodel.ManagedViewType;
+import com.blazebit.persistence.view.metamodel.MappingAttribute;
+import com.blazebit.persistence.view.metamodel.MethodAttribute;
+import com.blazebit.persistence.view.metamodel.ViewMetamodel;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import com.blazebit.persistence.view.testsuite.basic.model.DocumentValidationView;
+import com.blazebit.persistence.view.testsuite.basic.model.IdHolderView;
+import com.blazebit.persistence.view.testsuite.basic.model.PersonInvalidMappingValidationView;
+import com.blazebit.persistence.view.testsuite.basic.model.PersonValidationView;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class ParallelBootTest extends AbstractEntityViewTest {
+
+    private static final String PARALLELISM = "4";
+    private static final int BOOTS = 5;
+
+    @Test
+    public void testParallelBootProducesSameMetamodelAsSerialBoot() {
+        Class<?>[] views = { DocumentValidationView.class, PersonValidationView.class, ParallelPersonView1.class, ParallelPersonView2.class };
+        EntityViewManager serialEvm = createEntityViewManager("1", views);
+        EntityViewManager parallelEvm = createEntityViewManager(PARALLELISM, views);
+        try {
+            assertEquals(describe(serialEvm.getMetamodel()), describe(parallelEvm.getMetamodel()));
+        } finally {
+            serialEvm.close();
+            parallelEvm.close();
+        }
+    }
+
+    @Test
+    public void testParallelBootReportsErrorsInDeterministicOrder() {
+        Class<?>[] views = {
+            PersonInvalidMappingValidationView.class,
+            ParallelInvalidPersonView1.class,
+            ParallelInvalidPersonView2.class,
+            ParallelInvalidPersonView3.class
+        };
+        String serialMessage = getBootErrorMessage("1", views);
+        String parallelMessage = getBootErrorMessage(PARALLELISM, views);
+        // Boot a few times, so that different thread schedules are likely to happen
+        for (int i = 1; i < BOOTS; i++) {
+            assertEquals(parallelMessage, getBootErrorMessage(PARALLELISM, views));
+        }
+
+        // The errors are the same as the ones of the serial boot and are ordered by the view class name
+        List<String> serialErrors = new ArrayList<>(Arrays.asList(serialMessage.split("\n")));
+        List<String> parallelErrors = new ArrayList<>(Arrays.asList(parallelMessage.split("\n")));
+        Collections.sort(serialErrors);
+        Collections.sort(parallelErrors);
+        assertEquals(serialErrors, parallelErrors);
+
+        List<Class<?>> sortedViews = new ArrayList<>(Arrays.asList(views));
+        Collections.sort(sortedViews, (o1, o2) -> o1.getName().compareTo(o2.getName()));
+        int lastIndex = -1;
+        for (Class<?> view : sortedViews) {
+            int index = parallelMessage.indexOf(view.getSimpleName() + ".getName");
+            assertTrue("Expected an error for " + view.getName() + " after the previous view in: " + parallelMessage, index > lastIndex);
+            lastIndex = index;
+        }
+    }
+
+    private EntityViewManager createEntityViewManager(String parallelism, Class<?>... views) {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.BOOT_PARALLELISM, parallelism);
+        cfg.setProperty(ConfigurationProperties.TEMPLATE_EAGER_LOADING, "true");
+        cfg.setProperty(ConfigurationProperties.UPDATER_EAGER_LOADING, "true");
+        for (Class<?> view : views) {
+            cfg.addEntityView(view);
+        }
+        return cfg.createEntityViewManager(cbf);
+    }
+
+    private String getBootErrorMessage(String parallelism, Class<?>... views) {
+        try {
+            createEntityViewManager(parallelism, views).close();
+            Assert.fail("Expected validation exception!");
+            return null;
+        } catch (IllegalArgumentException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    private static List<String> describe(ViewMetamodel metamodel) {
+        List<String> description = new ArrayList<>();
+        for (ManagedViewType<?> managedView : metamodel.getManagedViews()) {
+            description.add(managedView.getJavaType().getName() + " -> " + managedView.getEntityClass().getName());
+            for (MethodAttribute<?, ?> attribute : managedView.getAttributes()) {
+                String mapping = attribute instanceof MappingAttribute<?, ?> ? ((MappingAttribute<?, ?>) attribute).getMapping() : attribute.getMappingType().name();
+                description.add(managedView.getJavaType().getName() + "." + attribute.getName() + ": " + attribute.getJavaType().getName() + " = " + mapping);
+            }
+        }
+        Collections.sort(description);
+        return description;
+    }
+
+    @EntityView(Person.class)
+    public interface ParallelPersonView1 extends IdHolderView<Long> {
+
+        public String getName();
+
+        @Mapping("partnerDocument.name")
+        public String getPartnerDocumentName();
+    }
+
+    @EntityView(Person.class)
+    public interface ParallelPersonView2 extends IdHolderView<Long> {
+
+        @Mapping("UPPER(name)")
+        public String getUpperName();
+
+        @Mapping("SIZE(ownedDocuments)")
+        public Long getOwnedDocumentsCount();
+    }
+
+    @EntityView(Person.class)
+    public interface ParallelInvalidPersonView1 extends IdHolderView<Long> {
+
+        @Mapping("partnerDocument.invalid1")
+        public String getName();
+    }
+
+    @EntityView(Person.class)
+    public interface ParallelInvalidPersonView2 extends IdHolderView<Long> {
+
+        @Mapping("partnerDocument.invalid2")
+        public String getName();
+    }
+
+    @EntityView(Person.class)
+    public interface ParallelInvalidPersonView3 extends IdHolderView<Long> {
+
+        @Mapping("partnerDocument.invalid3")
+        public String getName();
+    }
+}
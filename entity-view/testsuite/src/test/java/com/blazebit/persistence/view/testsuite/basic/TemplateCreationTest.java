@@ -0,0 +1,217 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.basic;
+
+import com.blazebit.persistence.parser.expression.AbstractCachingExpressionFactory;
+import com.blazebit.persistence.parser.expression.ExpressionFactory;
+import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViews;
+import com.blazebit.persistence.view.impl.EntityViewManagerImpl;
+import com.blazebit.persistence.view.impl.MacroConfigurationExpressionFactory;
+import com.blazebit.persistence.view.impl.macro.MutableEmbeddingViewJpqlMacro;
+import com.blazebit.persistence.view.impl.macro.MutableViewJpqlMacro;
+import com.blazebit.persistence.view.impl.metamodel.ViewTypeImpl;
+import com.blazebit.persistence.view.impl.objectbuilder.ViewTypeObjectBuilderTemplate;
+import com.blazebit.persistence.view.impl.proxy.ProxyFactory;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import com.blazebit.persistence.view.testsuite.basic.model.PersonView;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class TemplateCreationTest extends AbstractEntityViewTest {
+
+    private static final int THREADS = 8;
+
+    private EntityViewManagerImpl evmImpl;
+    private MacroConfigurationExpressionFactory ef;
+    private ViewTypeImpl<PersonView> viewType;
+
+    @Before
+    public void initEvm() {
+        evmImpl = (EntityViewManagerImpl) build(PersonView.class);
+        // Without macros the template key is cacheable, so the templates end up in the template cache
+        ef = new MacroConfigurationExpressionFactory(cbf.getService(ExpressionFactory.class).unwrap(AbstractCachingExpressionFactory.class), null);
+        viewType = evmImpl.getMetamodel().view(PersonView.class);
+    }
+
+    @Test
+    public void testConcurrentGetTemplateBuildsTemplateOnce() throws Exception {
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<ViewTypeObjectBuilderTemplate<?>>> futures = new ArrayList<>(THREADS);
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(new Callable<ViewTypeObjectBuilderTemplate<?>>() {
+                    @Override
+                    public ViewTypeObjectBuilderTemplate<?> call() throws Exception {
+                        startLatch.await();
+                        return getTemplate("concurrentRoot");
+                    }
+                }));
+            }
+            startLatch.countDown();
+
+            ViewTypeObjectBuilderTemplate<?> template = futures.get(0).get(30, TimeUnit.SECONDS);
+            assertNotNull(template);
+            for (Future<ViewTypeObjectBuilderTemplate<?>> future : futures) {
+                assertSame(template, future.get(30, TimeUnit.SECONDS));
+            }
+            assertSame(template, getTemplate("concurrentRoot"));
+            assertTrue(getPendingTemplateCreations().isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailedTemplateCreationDoesNotPoisonLaterCalls() throws Exception {
+        Field proxyFactoryField = EntityViewManagerImpl.class.getDeclaredField("proxyFactory");
+        proxyFactoryField.setAccessible(true);
+        ProxyFactory proxyFactory = (ProxyFactory) proxyFactoryField.get(evmImpl);
+        proxyFactoryField.set(evmImpl, null);
+        try {
+            getTemplate("failingRoot");
+            Assert.fail("Expected the template creation to fail");
+        } catch (NullPointerException ex) {
+            // Expected
+        } finally {
+            proxyFactoryField.set(evmImpl, proxyFactory);
+        }
+
+        assertTrue(getPendingTemplateCreations().isEmpty());
+        ViewTypeObjectBuilderTemplate<?> template = getTemplate("failingRoot");
+        assertNotNull(template);
+        assertSame(template, getTemplate("failingRoot"));
+    }
+
+    @Test(timeout = 30000)
+    @SuppressWarnings("unchecked")
+    public void testReentrantGetTemplateDoesNotWaitForItself() throws Exception {
+        // Simulate that the current thread is already building the template
+        Class<?> templateCreationClass = Class.forName(EntityViewManagerImpl.class.getName() + "$TemplateCreation");
+        Constructor<?> constructor = templateCreationClass.getDeclaredConstructor(Callable.class);
+        constructor.setAccessible(true);
+        Object creation = constructor.newInstance(new Callable<ViewTypeObjectBuilderTemplate<?>>() {
+            @Override
+            public ViewTypeObjectBuilderTemplate<?> call() {
+                throw new IllegalStateException("Must not be run");
+            }
+        });
+        ViewTypeObjectBuilderTemplate.Key key = new ViewTypeObjectBuilderTemplate.Key(ef, viewType, null, "reentrantRoot", null, 0);
+        Map<Object, Object> pendingTemplateCreations = (Map<Object, Object>) getPendingTemplateCreations();
+        pendingTemplateCreations.put(key, creation);
+        try {
+            assertNotNull(getTemplate("reentrantRoot"));
+            assertSame(creation, pendingTemplateCreations.get(key));
+        } finally {
+            pendingTemplateCreations.remove(key);
+        }
+    }
+
+    @Test
+    public void testTemplateWarmupRunsOnConfiguredExecutor() throws Exception {
+        final List<Runnable> tasks = Collections.synchronizedList(new ArrayList<Runnable>());
+        EntityViewManager warmupEvm = createWarmupEntityViewManager(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                tasks.add(command);
+            }
+        });
+        try {
+            assertEquals(1, tasks.size());
+            tasks.get(0).run();
+            // The boot context is released after the warmup
+            assertNull(getWarmupContext(tasks.get(0)));
+        } finally {
+            warmupEvm.close();
+        }
+    }
+
+    @Test
+    public void testCloseStopsTemplateWarmup() throws Exception {
+        final List<Runnable> tasks = Collections.synchronizedList(new ArrayList<Runnable>());
+        EntityViewManager warmupEvm = createWarmupEntityViewManager(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                tasks.add(command);
+            }
+        });
+        assertEquals(1, tasks.size());
+        assertNotNull(getWarmupContext(tasks.get(0)));
+        warmupEvm.close();
+
+        assertNull(getWarmupContext(tasks.get(0)));
+        assertNull(getField(EntityViewManagerImpl.class, warmupEvm, "templateWarmup"));
+        // A warmup that starts after the close does nothing
+        tasks.get(0).run();
+    }
+
+    @Test
+    public void testCloseShutsDownDefaultTemplateWarmupExecutor() throws Exception {
+        EntityViewManager warmupEvm = createWarmupEntityViewManager(null);
+        Object templateWarmup = getField(EntityViewManagerImpl.class, warmupEvm, "templateWarmup");
+        ExecutorService ownedExecutor = (ExecutorService) getField(templateWarmup.getClass(), templateWarmup, "ownedExecutor");
+        assertNotNull(ownedExecutor);
+        warmupEvm.close();
+
+        assertTrue(ownedExecutor.isShutdown());
+        assertTrue(ownedExecutor.awaitTermination(30, TimeUnit.SECONDS));
+    }
+
+    private ViewTypeObjectBuilderTemplate<?> getTemplate(String entityViewRoot) {
+        return evmImpl.getTemplate(ef, viewType, null, entityViewRoot, new MutableViewJpqlMacro(entityViewRoot), null, new MutableEmbeddingViewJpqlMacro());
+    }
+
+    private Map<?, ?> getPendingTemplateCreations() throws Exception {
+        return (Map<?, ?>) getField(EntityViewManagerImpl.class, evmImpl, "pendingTemplateCreations");
+    }
+
+    private EntityViewManager createWarmupEntityViewManager(Executor executor) {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.TEMPLATE_WARMUP_VIEWS, PersonView.class.getName());
+        cfg.setTemplateWarmupExecutor(executor);
+        cfg.addEntityView(PersonView.class);
+        return cfg.createEntityViewManager(cbf);
+    }
+
+    private static Object getWarmupContext(Runnable templateWarmup) throws Exception {
+        return getField(templateWarmup.getClass(), templateWarmup, "context");
+    }
+
+    private static Object getField(Class<?> clazz, Object object, String fieldName) throws Exception {
+        Field field = clazz.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(object);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.fetch.lazy;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.EntityViews;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import com.blazebit.persistence.view.testsuite.fetch.lazy.model.DocumentLazyView;
+import com.blazebit.persistence.view.testsuite.fetch.lazy.model.PersonLazyView;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class LazyFetchBatchTest extends AbstractEntityViewTest {
+
+    // More roots than the IN list elements or bind parameters that some databases support in a single query
+    private static final int DOCUMENT_COUNT = 2200;
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person owner = new Person("owner");
+                em.persist(owner);
+                for (int i = 0; i < DOCUMENT_COUNT; i++) {
+                    em.persist(new Document("doc" + i, owner));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testLazyLoadMoreRootsThanParameterLimit() {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.LAZY_LOADING, "true");
+        EntityViewManager evm = build(cfg, DocumentLazyView.class, PersonLazyView.class);
+
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d").orderByAsc("id");
+        EntityViewSetting<DocumentLazyView, CriteriaBuilder<DocumentLazyView>> setting = EntityViewSetting.create(DocumentLazyView.class);
+        setting.fetch("name");
+        List<DocumentLazyView> results = evm.applySetting(setting, criteria).getResultList();
+
+        assertEquals(DOCUMENT_COUNT, results.size());
+        // Accessing the attribute on the last object must load the attributes of all batches
+        assertEquals("owner", results.get(DOCUMENT_COUNT - 1).getOwner().getName());
+        for (DocumentLazyView result : results) {
+            assertEquals("owner", result.getOwner().getName());
+            assertEquals(0, result.getPartners().size());
+        }
+    }
+}
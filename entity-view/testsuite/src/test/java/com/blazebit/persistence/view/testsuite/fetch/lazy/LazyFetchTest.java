@@ -0,0 +1,178 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.fetch.lazy;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.EntityViews;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import com.blazebit.persistence.view.testsuite.fetch.lazy.model.DocumentLazyView;
+import com.blazebit.persistence.view.testsuite.fetch.lazy.model.PersonLazyView;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class LazyFetchTest extends AbstractEntityViewTest {
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person o1 = new Person("pers1");
+                Person o2 = new Person("pers2");
+                Person p1 = new Person("partner1");
+                Person p2 = new Person("partner2");
+                Person p3 = new Person("partner3");
+                em.persist(o1);
+                em.persist(o2);
+                em.persist(p1);
+                em.persist(p2);
+                em.persist(p3);
+
+                Document doc1 = new Document("doc1", o1);
+                Document doc2 = new Document("doc2", o2);
+                em.persist(doc1);
+                em.persist(doc2);
+
+                p1.setPartnerDocument(doc1);
+                p2.setPartnerDocument(doc1);
+                p3.setPartnerDocument(doc2);
+            }
+        });
+    }
+
+    @Test
+    public void testLazyLoadUnfetchedAttributes() {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.LAZY_LOADING, "true");
+        EntityViewManager evm = build(cfg, DocumentLazyView.class, PersonLazyView.class);
+
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d").orderByAsc("id");
+        EntityViewSetting<DocumentLazyView, CriteriaBuilder<DocumentLazyView>> setting = EntityViewSetting.create(DocumentLazyView.class);
+        setting.fetch("name");
+        List<DocumentLazyView> results = evm.applySetting(setting, criteria).getResultList();
+
+        assertEquals(2, results.size());
+        assertEquals("doc1", results.get(0).getName());
+        assertEquals("pers1", results.get(0).getOwner().getName());
+        assertEquals("pers2", results.get(1).getOwner().getName());
+        assertEquals(2, results.get(0).getPartners().size());
+        assertEquals(1, results.get(1).getPartners().size());
+    }
+
+    @Test
+    public void testLazyLoadWithBatchSize() {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.LAZY_LOADING, "true");
+        EntityViewManager evm = build(cfg, DocumentLazyView.class, PersonLazyView.class);
+
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d").orderByAsc("id");
+        EntityViewSetting<DocumentLazyView, CriteriaBuilder<DocumentLazyView>> setting = EntityViewSetting.create(DocumentLazyView.class);
+        setting.fetch("name");
+        setting.setProperty(ConfigurationProperties.DEFAULT_BATCH_SIZE, 1);
+        List<DocumentLazyView> results = evm.applySetting(setting, criteria).getResultList();
+
+        assertEquals(2, results.size());
+        assertEquals(1, results.get(1).getPartners().size());
+        assertEquals("pers1", results.get(0).getOwner().getName());
+        assertEquals("pers2", results.get(1).getOwner().getName());
+        assertEquals(2, results.get(0).getPartners().size());
+    }
+
+    @Test
+    public void testLazyLoadAfterEntityManagerClosed() {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.LAZY_LOADING, "true");
+        EntityViewManager evm = build(cfg, DocumentLazyView.class, PersonLazyView.class);
+
+        EntityManager otherEm = emf.createEntityManager();
+        List<DocumentLazyView> results;
+        try {
+            CriteriaBuilder<Document> criteria = cbf.create(otherEm, Document.class, "d").orderByAsc("id");
+            EntityViewSetting<DocumentLazyView, CriteriaBuilder<DocumentLazyView>> setting = EntityViewSetting.create(DocumentLazyView.class);
+            setting.fetch("name");
+            results = evm.applySetting(setting, criteria).getResultList();
+        } finally {
+            otherEm.close();
+        }
+
+        assertEquals(2, results.size());
+        assertEquals("doc1", results.get(0).getName());
+        try {
+            results.get(0).getOwner();
+            fail("Expected lazy loading to fail because the EntityManager is closed");
+        } catch (IllegalStateException ex) {
+            assertTrue(ex.getMessage().contains("'owner'"));
+            assertTrue(ex.getMessage().contains("EntityManager"));
+        }
+    }
+
+    @Test
+    public void testFetchedAttributeAccessAfterEntityManagerClosed() {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.LAZY_LOADING, "true");
+        EntityViewManager evm = build(cfg, DocumentLazyView.class, PersonLazyView.class);
+
+        EntityManager otherEm = emf.createEntityManager();
+        List<DocumentLazyView> results;
+        try {
+            CriteriaBuilder<Document> criteria = cbf.create(otherEm, Document.class, "d").orderByAsc("id");
+            EntityViewSetting<DocumentLazyView, CriteriaBuilder<DocumentLazyView>> setting = EntityViewSetting.create(DocumentLazyView.class);
+            setting.fetch("name");
+            setting.fetch("partners");
+            results = evm.applySetting(setting, criteria).getResultList();
+        } finally {
+            otherEm.close();
+        }
+
+        // The fetched collection must be accessible without loading the other unfetched attributes
+        assertEquals(2, results.size());
+        assertEquals(2, results.get(0).getPartners().size());
+        assertEquals(1, results.get(1).getPartners().size());
+        try {
+            results.get(0).getOwner();
+            fail("Expected lazy loading to fail because the EntityManager is closed");
+        } catch (IllegalStateException ex) {
+            assertTrue(ex.getMessage().contains("'owner'"));
+        }
+        assertEquals(2, results.get(0).getPartners().size());
+    }
+
+    @Test
+    public void testLazyLoadingDisabledForSetting() {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.LAZY_LOADING, "true");
+        EntityViewManager evm = build(cfg, DocumentLazyView.class, PersonLazyView.class);
+
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d").orderByAsc("id");
+        EntityViewSetting<DocumentLazyView, CriteriaBuilder<DocumentLazyView>> setting = EntityViewSetting.create(DocumentLazyView.class);
+        setting.fetch("name");
+        setting.setProperty(ConfigurationProperties.LAZY_LOADING, false);
+        List<DocumentLazyView> results = evm.applySetting(setting, criteria).getResultList();
+
+        assertEquals(2, results.size());
+        assertNull(results.get(0).getOwner());
+    }
+}
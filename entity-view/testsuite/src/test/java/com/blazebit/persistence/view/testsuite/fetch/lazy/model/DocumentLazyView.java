@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.fetch.lazy.model;
+
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.IdMapping;
+
+import java.util.Set;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@EntityView(Document.class)
+public interface DocumentLazyView {
+
+    @IdMapping
+    public Long getId();
+
+    public String getName();
+
+    public PersonLazyView getOwner();
+
+    public Set<PersonLazyView> getPartners();
+
+}
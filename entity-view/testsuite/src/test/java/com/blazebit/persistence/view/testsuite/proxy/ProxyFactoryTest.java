@@ -21,11 +21,13 @@ import com.blazebit.persistence.view.metamodel.ManagedViewType;
 import com.blazebit.persistence.view.metamodel.ViewMetamodel;
 import com.blazebit.persistence.view.metamodel.ViewType;
 import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import com.blazebit.persistence.view.spi.type.MutableStateTrackable;
 import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
 import com.blazebit.persistence.view.testsuite.proxy.model.DocumentClassView;
 import com.blazebit.persistence.view.testsuite.proxy.model.DocumentCreateView;
 import com.blazebit.persistence.view.testsuite.proxy.model.DocumentCreateViewWithPrimitiveArray;
 import com.blazebit.persistence.view.testsuite.proxy.model.DocumentInterfaceView;
+import com.blazebit.persistence.view.testsuite.proxy.model.DocumentManyAttributesView;
 import com.blazebit.persistence.view.testsuite.proxy.model.NameObjectView;
 import com.blazebit.persistence.view.testsuite.proxy.model.UnsafeDocumentClassView;
 import com.blazebit.reflection.ReflectionUtils;
@@ -326,12 +328,50 @@ public class ProxyFactoryTest extends AbstractEntityViewTest {
         assertEquals(NameObjectView.class.getSimpleName() + "(primaryName = test)", instance.toString());
     }
 
+    @Test
+    public void testProxyGenerationAfterReleasingClassPool() throws Exception {
+        ViewMetamodel metamodel = getViewMetamodel();
+        proxyFactory.getProxy(evm, (ManagedViewTypeImplementor<DocumentInterfaceView>) metamodel.view(DocumentInterfaceView.class));
+        proxyFactory.releaseClassPool();
+
+        Class<? extends DocumentCreateView> proxyClass = proxyFactory.getProxy(evm, (ManagedViewTypeImplementor<DocumentCreateView>) metamodel.view(DocumentCreateView.class));
+        DocumentCreateView instance = proxyClass.getConstructor(proxyClass, Map.class).newInstance(null, Collections.emptyMap());
+
+        assertTrue(instance.isPostCreated());
+        assertNotNull(instance.getContacts());
+    }
+
     @Test
     public void testMutableProxyWithPrimitiveArray() {
         ManagedViewType<DocumentCreateViewWithPrimitiveArray> viewType = build(entityViewConfiguration, DocumentCreateViewWithPrimitiveArray.class).getMetamodel().managedView(DocumentCreateViewWithPrimitiveArray.class);
         proxyFactory.getProxy(evm, (ManagedViewTypeImplementor<DocumentCreateViewWithPrimitiveArray>) viewType);
     }
 
+    @Test
+    public void testDirtyMaskWithMoreThan32MutableAttributes() throws Exception {
+        EntityViewManager evm = build(entityViewConfiguration, DocumentManyAttributesView.class);
+        DocumentManyAttributesView view = evm.getReference(DocumentManyAttributesView.class, 1L);
+        MutableStateTrackable trackable = (MutableStateTrackable) view;
+        int mutableAttributeCount = trackable.$$_getMutableState().length;
+        assertEquals(33, mutableAttributeCount);
+
+        for (int i = 0; i < mutableAttributeCount; i++) {
+            Method setter = DocumentManyAttributesView.class.getMethod(String.format("setName%02d", i), String.class);
+            setter.invoke(view, "name" + i);
+            assertEquals(i + 1, Long.bitCount(trackable.$$_getSimpleDirty()));
+        }
+
+        for (int i = 0; i < mutableAttributeCount; i++) {
+            assertTrue(trackable.$$_isDirty(i));
+        }
+        assertEquals((1L << mutableAttributeCount) - 1, trackable.$$_getSimpleDirty());
+
+        Object[] state = trackable.$$_getMutableState();
+        Object[] dirtyState = new Object[mutableAttributeCount];
+        assertTrue(trackable.$$_copyDirty(state, dirtyState));
+        assertArrayEquals(state, dirtyState);
+    }
+
     @Test
     public void close() throws NoSuchFieldException, IllegalAccessException {
         // Given
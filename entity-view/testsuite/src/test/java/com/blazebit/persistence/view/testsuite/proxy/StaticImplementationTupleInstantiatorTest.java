@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.proxy;
+
+import com.blazebit.persistence.spi.PackageOpener;
+import com.blazebit.persistence.view.StaticImplementation;
+import com.blazebit.persistence.view.impl.metamodel.ManagedViewTypeImplementor;
+import com.blazebit.persistence.view.impl.proxy.ObjectInstantiator;
+import com.blazebit.persistence.view.impl.proxy.ProxyFactory;
+import com.blazebit.persistence.view.impl.proxy.TupleConstructorReflectionInstantiator;
+import com.blazebit.persistence.view.metamodel.ViewType;
+import com.blazebit.persistence.view.spi.type.EntityViewTupleInstantiator;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import com.blazebit.persistence.view.testsuite.proxy.model.StaticImplementationDocumentView;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The static implementation of the view is generated by the annotation processor, which only runs in the apt profiles.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class StaticImplementationTupleInstantiatorTest extends AbstractEntityViewTest {
+
+    private final ProxyFactory proxyFactory = new ProxyFactory(false, false, PackageOpener.NOOP);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStaticTupleInstantiatorCreatesSameObjectAsReflection() throws Exception {
+        ViewType<StaticImplementationDocumentView> viewType = build(StaticImplementationDocumentView.class).getMetamodel().view(StaticImplementationDocumentView.class);
+        Set<String> errors = new HashSet<>();
+        proxyFactory.loadImplementation(errors, viewType, evm);
+        assertTrue(errors.toString(), errors.isEmpty());
+        Class<? extends StaticImplementationDocumentView> implementationClass = proxyFactory.getProxy(evm, (ManagedViewTypeImplementor<StaticImplementationDocumentView>) viewType);
+        Assume.assumeTrue("The static implementation is only generated when the annotation processor runs", implementationClass.isAnnotationPresent(StaticImplementation.class));
+
+        // The parameter order is id, name
+        Class<?>[] parameterTypes = new Class[]{ Long.class, String.class };
+        ObjectInstantiator<StaticImplementationDocumentView> instantiator = new TupleConstructorReflectionInstantiator<>(null, proxyFactory, (ManagedViewTypeImplementor<StaticImplementationDocumentView>) viewType, parameterTypes, evm, Collections.EMPTY_LIST, Collections.EMPTY_LIST);
+
+        // The instantiator uses the tuple instantiator of the static implementation instead of the reflective constructor invocation
+        Object staticTupleInstantiator = implementationClass.getField(EntityViewTupleInstantiator.FIELD_NAME).get(null);
+        assertNotNull(staticTupleInstantiator);
+        Field tupleInstantiatorField = TupleConstructorReflectionInstantiator.class.getDeclaredField("tupleInstantiator");
+        tupleInstantiatorField.setAccessible(true);
+        assertSame(staticTupleInstantiator, tupleInstantiatorField.get(instantiator));
+
+        StaticImplementationDocumentView instance = instantiator.newInstance(new Object[]{ 1L, "doc" });
+        Constructor<? extends StaticImplementationDocumentView> constructor = implementationClass.getDeclaredConstructor(implementationClass, int.class, Object[].class);
+        constructor.setAccessible(true);
+        StaticImplementationDocumentView reflectiveInstance = constructor.newInstance(null, 0, new Object[]{ 1L, "doc" });
+
+        assertSame(reflectiveInstance.getClass(), instance.getClass());
+        assertEquals(reflectiveInstance, instance);
+        assertEquals(reflectiveInstance.getId(), instance.getId());
+        assertEquals(reflectiveInstance.getName(), instance.getName());
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.proxy.model;
+
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.IdMapping;
+import com.blazebit.persistence.view.Mapping;
+import com.blazebit.persistence.view.UpdatableEntityView;
+
+/**
+ * A view with more mutable attributes than fit into an int dirty mask.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@UpdatableEntityView
+@EntityView(Document.class)
+public interface DocumentManyAttributesView {
+
+    @IdMapping
+    public Long getId();
+
+    @Mapping("name")
+    public String getName00();
+
+    public void setName00(String name00);
+
+    @Mapping("name")
+    public String getName01();
+
+    public void setName01(String name01);
+
+    @Mapping("name")
+    public String getName02();
+
+    public void setName02(String name02);
+
+    @Mapping("name")
+    public String getName03();
+
+    public void setName03(String name03);
+
+    @Mapping("name")
+    public String getName04();
+
+    public void setName04(String name04);
+
+    @Mapping("name")
+    public String getName05();
+
+    public void setName05(String name05);
+
+    @Mapping("name")
+    public String getName06();
+
+    public void setName06(String name06);
+
+    @Mapping("name")
+    public String getName07();
+
+    public void setName07(String name07);
+
+    @Mapping("name")
+    public String getName08();
+
+    public void setName08(String name08);
+
+    @Mapping("name")
+    public String getName09();
+
+    public void setName09(String name09);
+
+    @Mapping("name")
+    public String getName10();
+
+    public void setName10(String name10);
+
+    @Mapping("name")
+    public String getName11();
+
+    public void setName11(String name11);
+
+    @Mapping("name")
+    public String getName12();
+
+    public void setName12(String name12);
+
+    @Mapping("name")
+    public String getName13();
+
+    public void setName13(String name13);
+
+    @Mapping("name")
+    public String getName14();
+
+    public void setName14(String name14);
+
+    @Mapping("name")
+    public String getName15();
+
+    public void setName15(String name15);
+
+    @Mapping("name")
+    public String getName16();
+
+    public void setName16(String name16);
+
+    @Mapping("name")
+    public String getName17();
+
+    public void setName17(String name17);
+
+    @Mapping("name")
+    public String getName18();
+
+    public void setName18(String name18);
+
+    @Mapping("name")
+    public String getName19();
+
+    public void setName19(String name19);
+
+    @Mapping("name")
+    public String getName20();
+
+    public void setName20(String name20);
+
+    @Mapping("name")
+    public String getName21();
+
+    public void setName21(String name21);
+
+    @Mapping("name")
+    public String getName22();
+
+    public void setName22(String name22);
+
+    @Mapping("name")
+    public String getName23();
+
+    public void setName23(String name23);
+
+    @Mapping("name")
+    public String getName24();
+
+    public void setName24(String name24);
+
+    @Mapping("name")
+    public String getName25();
+
+    public void setName25(String name25);
+
+    @Mapping("name")
+    public String getName26();
+
+    public void setName26(String name26);
+
+    @Mapping("name")
+    public String getName27();
+
+    public void setName27(String name27);
+
+    @Mapping("name")
+    public String getName28();
+
+    public void setName28(String name28);
+
+    @Mapping("name")
+    public String getName29();
+
+    public void setName29(String name29);
+
+    @Mapping("name")
+    public String getName30();
+
+    public void setName30(String name30);
+
+    @Mapping("name")
+    public String getName31();
+
+    public void setName31(String name31);
+
+    @Mapping("name")
+    public String getName32();
+
+    public void setName32(String name32);
+}
@@ -12,6 +12,7 @@ import com.blazebit.persistence.view.FlushMode;
 import com.blazebit.persistence.view.FlushOperationBuilder;
 import com.blazebit.persistence.view.FlushStrategy;
 import com.blazebit.persistence.view.change.ChangeModel;
+import com.blazebit.persistence.view.change.ChangePatchWriter;
 import com.blazebit.persistence.view.change.SingularChangeModel;
 import com.blazebit.persistence.view.ConfigurationProperties;
 import com.blazebit.persistence.view.impl.collection.RecordingCollection;
@@ -25,7 +26,9 @@ import org.junit.Before;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityTransaction;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -289,6 +292,17 @@ public abstract class AbstractEntityViewUpdateTest<T> extends AbstractEntityView
         });
     }
 
+    protected void saveAll(final Collection<?> docViews) {
+        transactional(new TxVoidWork() {
+
+            @Override
+            public void work(EntityManager em) {
+                evm.saveAll(em, docViews);
+                em.flush();
+            }
+        });
+    }
+
     protected void saveFull(final Object docView) {
         transactional(new TxVoidWork() {
 
@@ -324,6 +338,19 @@ public abstract class AbstractEntityViewUpdateTest<T> extends AbstractEntityView
         });
     }
 
+    protected void saveAllWith(final Collection<?> docViews, Consumer<FlushOperationBuilder> c) {
+        transactional(new TxVoidWork() {
+
+            @Override
+            public void work(EntityManager em) {
+                FlushOperationBuilder flushOperationBuilder = evm.saveAllWith(em, docViews);
+                c.accept(flushOperationBuilder);
+                flushOperationBuilder.flush();
+                em.flush();
+            }
+        });
+    }
+
     protected void saveWithRollbackWith(final T docView, Consumer<FlushOperationBuilder> c) {
         transactional(new TxVoidWork() {
 
@@ -388,6 +415,27 @@ public abstract class AbstractEntityViewUpdateTest<T> extends AbstractEntityView
         }
     }
 
+    protected List<String> getChangePatch(T docView) {
+        final List<String> operations = new ArrayList<>();
+        evm.writeChangePatch(docView, new ChangePatchWriter() {
+            @Override
+            public void replace(String path, Object value) {
+                operations.add("replace " + path + " " + value);
+            }
+
+            @Override
+            public void add(String path, Object value) {
+                operations.add("add " + path + " " + value);
+            }
+
+            @Override
+            public void remove(String path, Object value) {
+                operations.add("remove " + path + " " + value);
+            }
+        });
+        return operations;
+    }
+
     protected boolean isFullMode() {
         return mode == FlushMode.FULL;
     }
@@ -112,6 +112,47 @@ public class EntityViewUpdateMutableBasicCollectionsTest extends AbstractEntityV
         assertEquals(doc1.getVersion(), docView.getVersion());
     }
 
+    @Test
+    public void testWriteChangePatchForAddToCollection() {
+        // Given & When
+        final UpdatableDocumentBasicWithCollectionsView docView = updateAddToCollection();
+
+        // Then
+        if (!isFullMode()) {
+            assertEquals(Arrays.asList("add /strings/1 newString"), getChangePatch(docView));
+        }
+    }
+
+    @Test
+    public void testWriteChangePatchForAddDuplicateToCollection() {
+        // Given
+        final UpdatableDocumentBasicWithCollectionsView docView = getDoc1View();
+
+        // When
+        docView.getStrings().add(new String("asd"));
+
+        // Then
+        // Only the added copy of the duplicate element is reported as added
+        if (!isFullMode()) {
+            assertEquals(Arrays.asList("add /strings/1 asd"), getChangePatch(docView));
+        }
+    }
+
+    @Test
+    public void testWriteChangePatchForRemoveFromCollection() {
+        // Given
+        final UpdatableDocumentBasicWithCollectionsView docView = getDoc1View();
+
+        // When
+        docView.getStrings().add("newString");
+        docView.getStrings().remove(0);
+
+        // Then
+        if (!isFullMode()) {
+            assertEquals(Arrays.asList("remove /strings/0 asd", "add /strings/0 newString"), getChangePatch(docView));
+        }
+    }
+
     @Test
     public void testUpdateAddToNewCollection() {
         // Given
@@ -182,6 +223,33 @@ public class EntityViewUpdateMutableBasicCollectionsTest extends AbstractEntityV
         assertEquals(doc1.getVersion(), docView.getVersion());
     }
 
+    @Test
+    public void testUpdateAddMultipleToCollection() {
+        // Given
+        final UpdatableDocumentBasicWithCollectionsView docView = getDoc1View();
+        clearQueries();
+
+        // When
+        docView.getStrings().add("newString1");
+        docView.getStrings().add("newString2");
+        docView.getStrings().add("newString1");
+        update(docView);
+
+        // Then
+        // Assert that all appended elements are inserted with a single statement
+        if (isQueryStrategy() && !isFullMode()) {
+            AssertStatementBuilder builder = assertUnorderedQuerySequence();
+            if (version) {
+                builder.update(Document.class);
+            }
+            builder.insert(Document.class, "strings")
+                    .validate();
+        }
+        clearPersistenceContextAndReload();
+        assertEquals(Arrays.asList("asd", "newString1", "newString2", "newString1"), doc1.getStrings());
+        assertEquals(doc1.getStrings(), docView.getStrings());
+    }
+
     @Test
     public void testUpdateReferenceAddToCollection() {
         // Given
@@ -47,6 +47,35 @@ public class EntityViewUpdateMutableBasicMapsTest extends AbstractEntityViewUpda
         return MODE_STRATEGY_VERSION_COMBINATIONS;
     }
 
+    @Test
+    public void testWriteChangePatchForPutSharedValue() {
+        // Given
+        final UpdatableDocumentBasicWithMapsView docView = getDoc1View();
+
+        // When
+        docView.getStringMap().put("newKey", new String("doc1"));
+
+        // Then
+        // The unchanged entry that has the same value as the added entry is not reported
+        if (!isFullMode()) {
+            assertEquals(Arrays.asList("add /stringMap/newKey doc1"), getChangePatch(docView));
+        }
+    }
+
+    @Test
+    public void testWriteChangePatchForRemoveFromMap() {
+        // Given
+        final UpdatableDocumentBasicWithMapsView docView = getDoc1View();
+
+        // When
+        docView.getStringMap().remove("doc1");
+
+        // Then
+        if (!isFullMode()) {
+            assertEquals(Arrays.asList("remove /stringMap/doc1 doc1"), getChangePatch(docView));
+        }
+    }
+
     @Test
     public void testUpdateReplaceCollection() {
         // Given
@@ -204,6 +233,75 @@ public class EntityViewUpdateMutableBasicMapsTest extends AbstractEntityViewUpda
         assertEquals(Collections.singleton("test"), doc1.getStringMap().keySet());
     }
 
+    @Test
+    public void testUpdateAddEntriesWithSameValue() {
+        // Given
+        final UpdatableDocumentBasicWithMapsView docView = getDoc1View();
+
+        // When
+        docView.getStringMap().put("newString1", "newString");
+        docView.getStringMap().put("newString2", "newString");
+        update(docView);
+
+        // Then
+        clearPersistenceContextAndReload();
+        assertEquals(3, doc1.getStringMap().size());
+        assertEquals("newString", doc1.getStringMap().get("newString1"));
+        assertEquals("newString", doc1.getStringMap().get("newString2"));
+        assertEquals(doc1.getStringMap(), docView.getStringMap());
+    }
+
+    @Test
+    public void testUpdateAddEntriesWithDistinctValues() {
+        // Given
+        final UpdatableDocumentBasicWithMapsView docView = getDoc1View();
+        clearQueries();
+
+        // When
+        docView.getStringMap().put("newString1", "newString1");
+        docView.getStringMap().put("newString2", "newString2");
+        update(docView);
+
+        // Then
+        // Assert that all entries are inserted with a single statement
+        if (isQueryStrategy() && !isFullMode()) {
+            AssertStatementBuilder builder = assertUnorderedQuerySequence();
+            if (version) {
+                builder.update(Document.class);
+            }
+            builder.insert(Document.class, "stringMap")
+                    .validate();
+        }
+        clearPersistenceContextAndReload();
+        assertEquals(3, doc1.getStringMap().size());
+        assertEquals("newString1", doc1.getStringMap().get("newString1"));
+        assertEquals("newString2", doc1.getStringMap().get("newString2"));
+        assertEquals(doc1.getStringMap(), docView.getStringMap());
+    }
+
+    @Test
+    public void testUpdateReplaceEntriesWithSameValue() {
+        // Given
+        final UpdatableDocumentBasicWithMapsView docView = getDoc1View();
+        docView.getStringMap().put("newString1", "newString1");
+        docView.getStringMap().put("newString2", "newString2");
+        update(docView);
+
+        // When
+        docView.getStringMap().put("doc1", "replaced");
+        docView.getStringMap().put("newString1", "replaced");
+        docView.getStringMap().put("newString2", "otherReplaced");
+        update(docView);
+
+        // Then
+        clearPersistenceContextAndReload();
+        assertEquals(3, doc1.getStringMap().size());
+        assertEquals("replaced", doc1.getStringMap().get("doc1"));
+        assertEquals("replaced", doc1.getStringMap().get("newString1"));
+        assertEquals("otherReplaced", doc1.getStringMap().get("newString2"));
+        assertEquals(doc1.getStringMap(), docView.getStringMap());
+    }
+
     protected void assertChangesUpdateAndFlush(UpdatableDocumentBasicWithMapsView docView) {
         if (!isFullMode()) {
             SingularChangeModel<UpdatableDocumentBasicWithMapsView> changeModel = evm.getChangeModel(docView);
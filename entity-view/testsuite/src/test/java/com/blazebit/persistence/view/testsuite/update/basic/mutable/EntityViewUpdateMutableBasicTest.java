@@ -9,8 +9,10 @@ import com.blazebit.persistence.testsuite.base.jpa.assertion.AssertStatementBuil
 import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
 import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
 import com.blazebit.persistence.view.FlushMode;
 import com.blazebit.persistence.view.FlushStrategy;
+import com.blazebit.persistence.view.OptimisticLockException;
 import com.blazebit.persistence.view.change.ChangeModel;
 import com.blazebit.persistence.view.change.SingularChangeModel;
 import com.blazebit.persistence.view.spi.type.MutableStateTrackable;
@@ -21,6 +23,7 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import javax.persistence.EntityManager;
 import java.util.Arrays;
 import java.util.Date;
 
@@ -57,6 +60,120 @@ public class EntityViewUpdateMutableBasicTest extends AbstractEntityViewUpdateBa
         assertEquals("newDoc", doc1.getName());
     }
 
+    @Test
+    public void testSaveAll() {
+        final UpdatableDocumentBasicView docView1 = getDoc1View();
+        final UpdatableDocumentBasicView docView2 = getDoc2View();
+
+        // When
+        docView1.setName("newDoc1");
+        docView2.setName("newDoc2");
+        saveAll(Arrays.asList(docView1, docView2));
+        clearPersistenceContextAndReload();
+
+        // Then
+        assertEquals("newDoc1", doc1.getName());
+        assertEquals("newDoc2", doc2.getName());
+        assertEmptyChangeModel(docView1);
+        assertEmptyChangeModel(docView2);
+    }
+
+    @Test
+    public void testSaveAllLoadsEntitiesWithSingleQuery() {
+        final UpdatableDocumentBasicView docView1 = getDoc1View();
+        final UpdatableDocumentBasicView docView2 = getDoc2View();
+        clearQueries();
+
+        // When
+        docView1.setName("newDoc1");
+        docView2.setName("newDoc2");
+        saveAll(Arrays.asList(docView1, docView2));
+
+        // Then
+        AssertStatementBuilder builder = assertUnorderedQuerySequence();
+        if (!isQueryStrategy()) {
+            fullFetch(builder);
+        }
+        builder.update(Document.class)
+                .update(Document.class)
+                .validate();
+        clearPersistenceContextAndReload();
+        assertEquals("newDoc1", doc1.getName());
+        assertEquals("newDoc2", doc2.getName());
+    }
+
+    @Test
+    public void testSaveAllReportsAllVersionConflicts() {
+        if (!version) {
+            return;
+        }
+        final UpdatableDocumentBasicView docView1 = getDoc1View();
+        final UpdatableDocumentBasicView docView2 = getDoc2View();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                em.createQuery("UPDATE Document d SET d.version = d.version + 1").executeUpdate();
+            }
+        });
+
+        // When
+        docView1.setName("newDoc1");
+        docView2.setName("newDoc2");
+        try {
+            saveAll(Arrays.asList(docView1, docView2));
+            fail("Expected an optimistic lock exception");
+        } catch (OptimisticLockException ex) {
+            // Then
+            // Only the entity flush strategy verifies the versions upfront, the query flush strategy fails on the first versioned update
+            if (!isQueryStrategy()) {
+                assertTrue(ex.getMessage().contains(doc1.getId().toString()));
+                assertTrue(ex.getMessage().contains(doc2.getId().toString()));
+            }
+        }
+        clearPersistenceContextAndReload();
+        assertEquals("doc1", doc1.getName());
+        assertEquals("doc2", doc2.getName());
+    }
+
+    @Test
+    public void testWriteChangePatch() {
+        // Given & When
+        final UpdatableDocumentBasicView docView = simpleUpdate();
+
+        // Then
+        if (!isFullMode()) {
+            assertEquals(Arrays.asList("replace /name newDoc"), getChangePatch(docView));
+            update(docView);
+            assertTrue(getChangePatch(docView).isEmpty());
+        }
+    }
+
+    @Test
+    public void testSetSameValueDoesNotMarkDirty() {
+        // Given
+        final UpdatableDocumentBasicView docView = getDoc1View();
+        long[] dirty = ((MutableStateTrackable) docView).$$_getDirty();
+
+        // When
+        docView.setName(docView.getName());
+
+        // Then
+        assertArrayEquals(dirty, ((MutableStateTrackable) docView).$$_getDirty());
+    }
+
+    @Test
+    public void testSetEqualValueDoesNotMarkDirty() {
+        // Given
+        final UpdatableDocumentBasicView docView = getDoc1View();
+        long[] dirty = ((MutableStateTrackable) docView).$$_getDirty();
+
+        // When
+        docView.setName(new String(docView.getName()));
+
+        // Then
+        assertArrayEquals(dirty, ((MutableStateTrackable) docView).$$_getDirty());
+    }
+
     @Test
     public void testSimpleUpdate() {
         // Given & When
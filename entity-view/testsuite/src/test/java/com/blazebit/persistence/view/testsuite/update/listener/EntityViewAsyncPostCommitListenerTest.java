@@ -0,0 +1,244 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.update.listener;
+
+import com.blazebit.persistence.testsuite.base.jpa.assertion.AssertStatementBuilder;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.view.FlushMode;
+import com.blazebit.persistence.view.FlushStrategy;
+import com.blazebit.persistence.view.impl.EntityViewManagerImpl;
+import com.blazebit.persistence.view.impl.update.PostCommitListenerDispatcher;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import com.blazebit.persistence.view.testsuite.update.AbstractEntityViewUpdateDocumentTest;
+import com.blazebit.persistence.view.testsuite.update.listener.model.UpdatableDocumentView;
+import com.blazebit.persistence.view.testsuite.update.listener.model.UpdatablePersonView;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@RunWith(Parameterized.class)
+// NOTE: No Datanucleus support yet
+@Category({ NoDatanucleus.class, NoEclipselink.class})
+public class EntityViewAsyncPostCommitListenerTest extends AbstractEntityViewUpdateDocumentTest<UpdatableDocumentView> {
+
+    private static final int ROUNDS = 10;
+
+    private ExecutorService executor;
+    private final List<RuntimeException> handledErrors = Collections.synchronizedList(new ArrayList<RuntimeException>());
+
+    public EntityViewAsyncPostCommitListenerTest(FlushMode mode, FlushStrategy strategy, boolean version) {
+        super(mode, strategy, version, UpdatableDocumentView.class);
+    }
+
+    @Parameterized.Parameters(name = "{0} - {1} - VERSIONED={2}")
+    public static Object[][] combinations() {
+        return MODE_STRATEGY_VERSION_COMBINATIONS;
+    }
+
+    @Override
+    protected void registerViewTypes(EntityViewConfiguration cfg) {
+        cfg.addEntityView(UpdatablePersonView.class);
+        executor = Executors.newFixedThreadPool(4);
+        cfg.setPostCommitListenerExecutor(executor);
+        cfg.setPostCommitListenerErrorHandler((entityViewManager, view, transition, exception) -> handledErrors.add(exception));
+    }
+
+    @After
+    public void shutdownExecutor() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testListenersForSameEntityRunInCommitOrder() throws Exception {
+        // Given
+        final UpdatableDocumentView docView1 = getDoc1View();
+        final UpdatableDocumentView docView2 = getDoc2View();
+        final Map<Long, List<String>> invocations = new ConcurrentHashMap<>();
+        final Map<Long, AtomicInteger> running = new ConcurrentHashMap<>();
+        final AtomicInteger maxRunningPerEntity = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(2 * ROUNDS);
+        invocations.put(docView1.getId(), Collections.synchronizedList(new ArrayList<String>()));
+        invocations.put(docView2.getId(), Collections.synchronizedList(new ArrayList<String>()));
+        running.put(docView1.getId(), new AtomicInteger());
+        running.put(docView2.getId(), new AtomicInteger());
+
+        // When
+        for (int i = 0; i < ROUNDS; i++) {
+            docView1.setName("doc1-" + i);
+            docView2.setName("doc2-" + i);
+            saveAllWith(Arrays.asList(docView1, docView2), flushOperationBuilder -> {
+                flushOperationBuilder.onPostCommitUpdate(UpdatableDocumentView.class, (entityViewManager, entityManager, view, transition) -> {
+                    AtomicInteger counter = running.get(view.getId());
+                    int current = counter.incrementAndGet();
+                    int max;
+                    while ((max = maxRunningPerEntity.get()) < current && !maxRunningPerEntity.compareAndSet(max, current)) {
+                        // Retry
+                    }
+                    try {
+                        // Give other tasks for the same entity the chance to overtake this one if ordering were broken
+                        Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    invocations.get(view.getId()).add(view.getName());
+                    counter.decrementAndGet();
+                    latch.countDown();
+                });
+            });
+        }
+
+        // Then
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        List<String> expectedDoc1 = new ArrayList<>();
+        List<String> expectedDoc2 = new ArrayList<>();
+        for (int i = 0; i < ROUNDS; i++) {
+            expectedDoc1.add("doc1-" + i);
+            expectedDoc2.add("doc2-" + i);
+        }
+        assertEquals(expectedDoc1, invocations.get(docView1.getId()));
+        assertEquals(expectedDoc2, invocations.get(docView2.getId()));
+        assertEquals(1, maxRunningPerEntity.get());
+        assertTrue(handledErrors.isEmpty());
+    }
+
+    @Test
+    public void testListenerReceivesCopyOfView() throws Exception {
+        // Given
+        final UpdatableDocumentView docView = getDoc1View();
+        final CountDownLatch modified = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+        final AtomicReference<UpdatableDocumentView> listenerView = new AtomicReference<>();
+        final AtomicReference<String> listenerName = new AtomicReference<>();
+
+        // When
+        docView.setName("newDoc");
+        saveWith(docView, flushOperationBuilder -> {
+            flushOperationBuilder.onPostCommitUpdate(UpdatableDocumentView.class, (entityViewManager, entityManager, view, transition) -> {
+                try {
+                    modified.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                listenerView.set(view);
+                listenerName.set(view.getName());
+                done.countDown();
+            });
+        });
+        docView.setName("modifiedAfterCommit");
+        modified.countDown();
+
+        // Then
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertNotSame(docView, listenerView.get());
+        assertEquals(docView.getId(), listenerView.get().getId());
+        assertEquals("newDoc", listenerName.get());
+    }
+
+    @Test
+    public void testListenerErrorIsPassedToErrorHandler() throws Exception {
+        // Given
+        final UpdatableDocumentView docView = getDoc1View();
+        final RuntimeException exception = new RuntimeException("Expected listener failure");
+        final CountDownLatch done = new CountDownLatch(1);
+
+        // When
+        docView.setName("newDoc");
+        saveWith(docView, flushOperationBuilder -> {
+            flushOperationBuilder.onPostCommitUpdate(UpdatableDocumentView.class, (entityViewManager, entityManager, view, transition) -> {
+                throw exception;
+            });
+            flushOperationBuilder.onPostCommitUpdate(UpdatableDocumentView.class, (entityViewManager, entityManager, view, transition) -> {
+                done.countDown();
+            });
+        });
+
+        // Then
+        // The failing listener doesn't prevent the following listeners from running
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(1, handledErrors.size());
+        assertSame(exception, handledErrors.get(0));
+        clearPersistenceContextAndReload();
+        assertEquals("newDoc", doc1.getName());
+    }
+
+    @Test
+    public void testQueueIsRetiredAfterDraining() throws Exception {
+        // Given
+        final UpdatableDocumentView docView = getDoc1View();
+        final Map<?, ?> queues = getQueues();
+        final AtomicInteger invocations = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < ROUNDS; i++) {
+            docView.setName("doc1-" + i);
+            saveWith(docView, flushOperationBuilder -> {
+                flushOperationBuilder.onPostCommitUpdate(UpdatableDocumentView.class, (entityViewManager, entityManager, view, transition) -> {
+                    invocations.incrementAndGet();
+                });
+            });
+            // Wait until the queue of the entity retired, so that the next dispatch has to create a new one
+            awaitEmpty(queues);
+        }
+
+        // Then
+        assertEquals(ROUNDS, invocations.get());
+        assertTrue(queues.isEmpty());
+    }
+
+    private Map<?, ?> getQueues() throws Exception {
+        PostCommitListenerDispatcher dispatcher = ((EntityViewManagerImpl) evm).getPostCommitListenerDispatcher();
+        Field field = PostCommitListenerDispatcher.class.getDeclaredField("queues");
+        field.setAccessible(true);
+        return (Map<?, ?>) field.get(dispatcher);
+    }
+
+    private static void awaitEmpty(Map<?, ?> queues) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!queues.isEmpty()) {
+            assertTrue("Post commit listener queue was not retired", System.nanoTime() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    @Override
+    protected AssertStatementBuilder fullFetch(AssertStatementBuilder builder) {
+        return builder;
+    }
+
+    @Override
+    protected AssertStatementBuilder versionUpdate(AssertStatementBuilder builder) {
+        return builder;
+    }
+}
@@ -25,9 +25,13 @@ import org.junit.runners.Parameterized;
 
 import javax.persistence.EntityManager;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  *
@@ -71,6 +75,47 @@ public class EntityViewUpdateListenerTest extends AbstractEntityViewUpdateDocume
         }
     }
 
+    @Test
+    public void testSaveAllKeepsOrder() {
+        // Given
+        final UpdatableDocumentView docView1 = getDoc1View();
+        final UpdatablePersonView personView = getP1View(UpdatablePersonView.class);
+        final UpdatableDocumentView docView2 = getDoc2View();
+        final List<Object> savedViews = Arrays.<Object>asList(docView1, personView, docView2);
+        final List<Object> flushedViews = new ArrayList<>();
+
+        // When
+        docView1.setName("newDoc1");
+        personView.setName("newPerson1");
+        docView2.setName("newDoc2");
+        saveAllWith(savedViews, flushOperationBuilder -> {
+            flushOperationBuilder.onPreUpdate(UpdatableDocumentView.class, view -> addIfSaved(savedViews, flushedViews, view));
+            flushOperationBuilder.onPreUpdate(UpdatablePersonView.class, view -> addIfSaved(savedViews, flushedViews, view));
+        });
+
+        // Then
+        // The documents have the same type and dirty state but must not be flushed together,
+        // because the second document could depend on the person e.g. through a foreign key
+        assertEquals(3, flushedViews.size());
+        assertSame(docView1, flushedViews.get(0));
+        assertSame(personView, flushedViews.get(1));
+        assertSame(docView2, flushedViews.get(2));
+        clearPersistenceContextAndReload();
+        assertEquals("newDoc1Updated", doc1.getName());
+        assertEquals("newPerson1", p1.getName());
+        assertEquals("newDoc2Updated", doc2.getName());
+    }
+
+    private static void addIfSaved(List<Object> savedViews, List<Object> flushedViews, Object view) {
+        // Only record the saved objects and not nested views that are equal
+        for (Object savedView : savedViews) {
+            if (savedView == view) {
+                flushedViews.add(view);
+                return;
+            }
+        }
+    }
+
     @Test
     public void testSimpleUpdate() {
         // Given
@@ -127,6 +127,53 @@ public class EntityViewRemoveCascadeOneToManyTest extends AbstractEntityViewUpda
         Assert.assertNull(person);
     }
 
+    @Test
+    public void testRemoveByIdMultipleNestedElements() {
+        // Given
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                PrimitivePerson owner = em.getReference(PrimitivePerson.class, person.getId());
+                for (int i = 2; i <= 4; i++) {
+                    PrimitiveDocument doc = new PrimitiveDocument("doc" + i);
+                    doc.setOwner(owner);
+                    em.persist(doc);
+
+                    PrimitiveVersion version = new PrimitiveVersion();
+                    version.setVersionId(i);
+                    version.setDocument(doc);
+                    em.persist(version);
+                }
+            }
+        });
+        clearQueries();
+
+        // When
+        remove(PersonIdView.class, person.getId());
+
+        // Then
+        if (isQueryStrategy()) {
+            // Every cascade level is deleted with a single statement, regardless of the amount of owned documents
+            assertUnorderedQuerySequence()
+                .select(PrimitivePerson.class)
+                .select(PrimitiveDocument.class)
+                .select(PrimitiveVersion.class)
+                .delete(PrimitiveDocument.class, "contacts")
+                .delete(PrimitiveDocument.class, "people")
+                .delete(PrimitiveDocument.class, "peopleCollectionBag")
+                .delete(PrimitiveDocument.class, "peopleListBag")
+                .delete(PrimitiveVersion.class)
+                .delete(PrimitiveDocument.class)
+                .delete(PrimitivePerson.class)
+                .validate();
+        }
+
+        clearPersistenceContextAndReload();
+        Assert.assertNull(person);
+        Assert.assertEquals(0L, (long) em.createQuery("SELECT COUNT(*) FROM PrimitiveDocument", Long.class).getSingleResult());
+        Assert.assertEquals(0L, (long) em.createQuery("SELECT COUNT(*) FROM PrimitiveVersion", Long.class).getSingleResult());
+    }
+
     // Test for issue #1520
     @Test
     public void testRemoveFamilyById() {
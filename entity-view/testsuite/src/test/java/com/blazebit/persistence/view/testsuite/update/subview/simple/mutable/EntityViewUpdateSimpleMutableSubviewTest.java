@@ -23,6 +23,8 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.util.Arrays;
+
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -192,6 +194,47 @@ public class EntityViewUpdateSimpleMutableSubviewTest extends AbstractEntityView
         assertEquals("newPerson", doc1.getResponsiblePerson().getName());
     }
 
+    @Test
+    public void testSaveAllWithModifyExisting() {
+        // Given
+        final UpdatableDocumentView docView1 = getDoc1View();
+        final UpdatableDocumentView docView2 = getDoc2View();
+        clearQueries();
+
+        // When
+        docView1.getResponsiblePerson().setName("newPerson1");
+        docView2.getResponsiblePerson().setName("newPerson2");
+        saveAll(Arrays.asList(docView1, docView2));
+
+        // Then
+        // The documents and the responsible persons of both views are loaded with a single query
+        AssertStatementBuilder builder = assertUnorderedQuerySequence();
+
+        if (isQueryStrategy()) {
+            builder.update(Person.class)
+                    .update(Person.class);
+            if (isFullMode() || version) {
+                builder.update(Document.class)
+                        .update(Document.class);
+            }
+        } else {
+            fullFetch(builder);
+
+            if (version) {
+                builder.update(Document.class)
+                        .update(Document.class);
+            }
+            builder.update(Person.class)
+                    .update(Person.class);
+        }
+
+        builder.validate();
+
+        clearPersistenceContextAndReload();
+        assertEquals("newPerson1", doc1.getResponsiblePerson().getName());
+        assertEquals("newPerson2", doc2.getResponsiblePerson().getName());
+    }
+
     @Test
     public void testUpdateToNull() {
         // Given
@@ -16,6 +16,7 @@ import com.blazebit.persistence.view.EntityViewBuilder;
 import com.blazebit.persistence.view.EntityViewManager;
 import com.blazebit.persistence.view.EntityViewSetting;
 import com.blazebit.persistence.view.FlushOperationBuilder;
+import com.blazebit.persistence.view.change.ChangePatchWriter;
 import com.blazebit.persistence.view.change.SingularChangeModel;
 import com.blazebit.persistence.view.metamodel.ViewMetamodel;
 
@@ -52,6 +53,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -387,6 +389,10 @@ public class EntityViewMessageBodyReader implements MessageBodyReader<Object> {
             return entityViewManager.get().getChangeModel(entityView);
         }
 
+        public void writeChangePatch(Object entityView, ChangePatchWriter writer) {
+            entityViewManager.get().writeChangePatch(entityView, writer);
+        }
+
         public <T> T create(Class<T> entityViewClass) {
             return entityViewManager.get().create(entityViewClass);
         }
@@ -501,6 +507,14 @@ public class EntityViewMessageBodyReader implements MessageBodyReader<Object> {
             return entityViewManager.get().saveFullWithTo(entityManager, view, entity);
         }
 
+        public void saveAll(EntityManager entityManager, Collection<?> views) {
+            entityViewManager.get().saveAll(entityManager, views);
+        }
+
+        public FlushOperationBuilder saveAllWith(EntityManager entityManager, Collection<?> views) {
+            return entityViewManager.get().saveAllWith(entityManager, views);
+        }
+
         public void remove(EntityManager entityManager, Object view) {
             entityViewManager.get().remove(entityManager, view);
         }
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.integration.quarkus.deployment;
+
+import com.blazebit.persistence.CriteriaBuilderFactory;
+import com.blazebit.persistence.integration.quarkus.deployment.entity.Document;
+import com.blazebit.persistence.integration.quarkus.deployment.entity.Person;
+import com.blazebit.persistence.integration.quarkus.deployment.listener.DocumentPostPersistEntityListener;
+import com.blazebit.persistence.integration.quarkus.deployment.view.DocumentCreateView;
+import com.blazebit.persistence.integration.quarkus.deployment.view.DocumentView;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import io.quarkus.test.QuarkusUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the criteria builder factory and entity view manager are built from the configurations prepared during static initialization.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class PreparedConfigurationsTest {
+
+    @RegisterExtension
+    final static QuarkusUnitTest RUNNER = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Document.class, Person.class)
+                    .addClasses(DocumentView.class, DocumentCreateView.class)
+                    .addClasses(DocumentPostPersistEntityListener.class)
+                    .addClasses(ConfigurationObserver.class)
+                    .addAsResource("application.properties")
+                    .addAsResource("META-INF/persistence.xml")
+            );
+
+    @Inject
+    EntityManager em;
+    @Inject
+    CriteriaBuilderFactory cbf;
+    @Inject
+    EntityViewManager evm;
+    @Inject
+    ConfigurationObserver configurationObserver;
+
+    @Test
+    public void testPreparedConfigurationsAreUsed() {
+        // Trigger the lazy creation of the beans
+        assertNotNull(cbf.getService(CriteriaBuilderConfiguration.class));
+        assertNotNull(evm.getMetamodel().view(DocumentView.class));
+
+        CriteriaBuilderConfiguration criteriaBuilderConfiguration = configurationObserver.criteriaBuilderConfiguration;
+        assertNotNull(criteriaBuilderConfiguration);
+        assertNotNull(criteriaBuilderConfiguration.getFunction("count_tuple"));
+
+        EntityViewConfiguration entityViewConfiguration = configurationObserver.entityViewConfiguration;
+        assertNotNull(entityViewConfiguration);
+        assertTrue(entityViewConfiguration.getEntityViews().contains(DocumentView.class));
+        assertTrue(entityViewConfiguration.getEntityViews().contains(DocumentCreateView.class));
+        assertEquals(Boolean.FALSE.toString(), entityViewConfiguration.getProperty(ConfigurationProperties.PROXY_UNSAFE_ALLOWED));
+    }
+
+    @Test
+    @Transactional
+    public void testFindWithPreparedConfigurations() {
+        Document d = new Document();
+        em.persist(d);
+        DocumentView documentView = evm.find(em, DocumentView.class, d.getId());
+        assertEquals(d.getId(), documentView.getId());
+    }
+
+    /**
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    @ApplicationScoped
+    public static class ConfigurationObserver {
+
+        volatile CriteriaBuilderConfiguration criteriaBuilderConfiguration;
+        volatile EntityViewConfiguration entityViewConfiguration;
+
+        void onCriteriaBuilderConfiguration(@Observes CriteriaBuilderConfiguration criteriaBuilderConfiguration) {
+            this.criteriaBuilderConfiguration = criteriaBuilderConfiguration;
+        }
+
+        void onEntityViewConfiguration(@Observes EntityViewConfiguration entityViewConfiguration) {
+            this.entityViewConfiguration = entityViewConfiguration;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import com.blazebit.persistence.view.EntityViews;
 import com.blazebit.persistence.view.spi.EntityViewConfiguration;
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.runtime.JPAConfig;
+import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 
 import jakarta.enterprise.inject.Default;
@@ -29,10 +30,61 @@ import java.util.function.Supplier;
 @Recorder
 public class EntityViewRecorder {
 
-    public Supplier<CriteriaBuilderFactory> criteriaBuilderFactorySupplier(BlazePersistenceInstanceConfiguration blazePersistenceConfig, String blazePersistenceInstanceName, String persistenceUnitName) {
+    /**
+     * Creates the criteria builder configuration with the default functions and dialects during static initialization,
+     * so that native images contain the registry in the image heap.
+     *
+     * @param blazePersistenceConfig The Blaze-Persistence instance configuration
+     * @return The prepared criteria builder configuration
+     * @since 1.6.15
+     */
+    public RuntimeValue<CriteriaBuilderConfiguration> criteriaBuilderConfiguration(BlazePersistenceInstanceConfiguration blazePersistenceConfig) {
+        CriteriaBuilderConfiguration criteriaBuilderConfiguration = Criteria.getDefault();
+        blazePersistenceConfig.apply(criteriaBuilderConfiguration);
+        return new RuntimeValue<>(criteriaBuilderConfiguration);
+    }
+
+    /**
+     * Creates the entity view configuration and reads the entity view mappings during static initialization,
+     * so that native images contain the parsed mappings in the image heap.
+     *
+     * @param blazePersistenceConfig The Blaze-Persistence instance configuration
+     * @param entityViewClasses The entity view class names
+     * @param entityViewListenerClasses The entity view listener class names
+     * @return The prepared entity view configuration
+     * @since 1.6.15
+     */
+    public RuntimeValue<EntityViewConfiguration> entityViewConfiguration(BlazePersistenceInstanceConfiguration blazePersistenceConfig,
+                                                                         Set<String> entityViewClasses,
+                                                                         Set<String> entityViewListenerClasses) {
+        EntityViewConfiguration entityViewConfiguration = EntityViews.createDefaultConfiguration();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (String entityViewClass : entityViewClasses) {
+            try {
+                entityViewConfiguration.addEntityView(
+                    classLoader.loadClass(entityViewClass)
+                );
+            } catch (ClassNotFoundException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        for (String entityViewListenerClass : entityViewListenerClasses) {
+            try {
+                entityViewConfiguration.addEntityViewListener(
+                        classLoader.loadClass(entityViewListenerClass)
+                );
+            } catch (ClassNotFoundException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        blazePersistenceConfig.apply(entityViewConfiguration);
+        entityViewConfiguration.setProperty(ConfigurationProperties.PROXY_UNSAFE_ALLOWED, Boolean.FALSE.toString());
+        return new RuntimeValue<>(entityViewConfiguration);
+    }
+
+    public Supplier<CriteriaBuilderFactory> criteriaBuilderFactorySupplier(RuntimeValue<CriteriaBuilderConfiguration> criteriaBuilderConfigurationValue, String blazePersistenceInstanceName, String persistenceUnitName) {
         return () -> {
-            CriteriaBuilderConfiguration criteriaBuilderConfiguration = Criteria.getDefault();
-            blazePersistenceConfig.apply(criteriaBuilderConfiguration);
+            CriteriaBuilderConfiguration criteriaBuilderConfiguration = criteriaBuilderConfigurationValue.getValue();
             Annotation[] cbfQualifiers;
             if (BlazePersistenceInstanceUtil.isDefaultBlazePersistenceInstance(blazePersistenceInstanceName)) {
                 cbfQualifiers = new Annotation[] { new Default.Literal() };
@@ -46,34 +98,10 @@ public class EntityViewRecorder {
         };
     }
 
-    public Supplier<EntityViewManager> entityViewManagerSupplier(BlazePersistenceInstanceConfiguration blazePersistenceConfig,
-                                                                 String blazePersistenceInstanceName,
-                                                                 Set<String> entityViewClasses,
-                                                                 Set<String> entityViewListenerClasses) {
+    public Supplier<EntityViewManager> entityViewManagerSupplier(RuntimeValue<EntityViewConfiguration> entityViewConfigurationValue,
+                                                                 String blazePersistenceInstanceName) {
         return () -> {
-            EntityViewConfiguration entityViewConfiguration = EntityViews.createDefaultConfiguration();
-            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-            for (String entityViewClass : entityViewClasses) {
-                try {
-                    entityViewConfiguration.addEntityView(
-                        classLoader.loadClass(entityViewClass)
-                    );
-                } catch (ClassNotFoundException e) {
-                    throw new RuntimeException(e);
-                }
-            }
-            for (String entityViewListenerClass : entityViewListenerClasses) {
-                try {
-                    entityViewConfiguration.addEntityViewListener(
-                            classLoader.loadClass(entityViewListenerClass)
-                    );
-                } catch (ClassNotFoundException e) {
-                    throw new RuntimeException(e);
-                }
-            }
-            blazePersistenceConfig.apply(entityViewConfiguration);
-            entityViewConfiguration.setProperty(ConfigurationProperties.PROXY_UNSAFE_ALLOWED, Boolean.FALSE.toString());
-
+            EntityViewConfiguration entityViewConfiguration = entityViewConfigurationValue.getValue();
             Annotation[] cbfQualifiers;
             if (BlazePersistenceInstanceUtil.isDefaultBlazePersistenceInstance(blazePersistenceInstanceName)) {
                 cbfQualifiers = new Annotation[] { new Default.Literal() };
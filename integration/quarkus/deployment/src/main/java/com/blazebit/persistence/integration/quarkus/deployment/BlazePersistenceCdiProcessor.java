@@ -88,10 +88,32 @@ class BlazePersistenceCdiProcessor {
         return new AnnotationsTransformerBuildItem(transformer);
     }
 
+    @Record(ExecutionTime.STATIC_INIT)
+    @BuildStep
+    void prepareConfigurations(EntityViewRecorder recorder,
+                               List<BlazePersistenceInstanceDescriptorBuildItem> blazePersistenceDescriptors,
+                               BuildProducer<BlazePersistenceInstanceConfigurationBuildItem> configurationBuildItemBuildProducer) {
+        // Reading the entity view mappings and building the function registry does not need the entity manager factory,
+        // so we do that during static initialization which is executed at build time for native images
+        for (BlazePersistenceInstanceDescriptorBuildItem blazePersistenceDescriptor : blazePersistenceDescriptors) {
+            BlazePersistenceInstanceConfiguration blazePersistenceConfig = blazePersistenceDescriptor.getBlazePersistenceConfig();
+            configurationBuildItemBuildProducer.produce(new BlazePersistenceInstanceConfigurationBuildItem(
+                    blazePersistenceDescriptor.getBlazePersistenceInstanceName(),
+                    recorder.criteriaBuilderConfiguration(blazePersistenceConfig),
+                    recorder.entityViewConfiguration(
+                            blazePersistenceConfig,
+                            blazePersistenceDescriptor.getEntityViewClasses(),
+                            blazePersistenceDescriptor.getEntityViewListenerClasses()
+                    )
+            ));
+        }
+    }
+
     @Record(ExecutionTime.RUNTIME_INIT)
     @BuildStep
     void generateBeans(EntityViewRecorder recorder,
                                  List<BlazePersistenceInstanceDescriptorBuildItem> blazePersistenceDescriptors,
+                                 List<BlazePersistenceInstanceConfigurationBuildItem> blazePersistenceConfigurations,
                                  BuildProducer<AdditionalBeanBuildItem> additionalBeans,
                                  BuildProducer<SyntheticBeanBuildItem> syntheticBeanBuildItemBuildProducer) {
         if (blazePersistenceDescriptors.isEmpty()) {
@@ -108,24 +130,20 @@ class BlazePersistenceCdiProcessor {
             String blazePersistenceInstanceName = blazePersistenceDescriptor.getBlazePersistenceInstanceName();
             BlazePersistenceInstanceConfiguration blazePersistenceConfig = blazePersistenceDescriptor.getBlazePersistenceConfig();
             String persistenceUnitName = blazePersistenceConfig.persistenceUnit.orElse(PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME);
+            BlazePersistenceInstanceConfigurationBuildItem configurations = getConfigurations(blazePersistenceConfigurations, blazePersistenceInstanceName);
 
             syntheticBeanBuildItemBuildProducer
                     .produce(createSyntheticBean(blazePersistenceInstanceName,
                             true,
                             CriteriaBuilderFactory.class,
-                            recorder.criteriaBuilderFactorySupplier(blazePersistenceConfig, blazePersistenceInstanceName, persistenceUnitName),
+                            recorder.criteriaBuilderFactorySupplier(configurations.getCriteriaBuilderConfiguration(), blazePersistenceInstanceName, persistenceUnitName),
                             true));
 
             syntheticBeanBuildItemBuildProducer
                     .produce(createSyntheticBean(blazePersistenceInstanceName,
                             true,
                             EntityViewManager.class,
-                            recorder.entityViewManagerSupplier(
-                                    blazePersistenceConfig,
-                                    blazePersistenceInstanceName,
-                                    blazePersistenceDescriptor.getEntityViewClasses(),
-                                    blazePersistenceDescriptor.getEntityViewListenerClasses()
-                            ),
+                            recorder.entityViewManagerSupplier(configurations.getEntityViewConfiguration(), blazePersistenceInstanceName),
                             false));
 
             return;
@@ -136,28 +154,33 @@ class BlazePersistenceCdiProcessor {
             BlazePersistenceInstanceConfiguration blazePersistenceConfig = blazePersistenceDescriptor.getBlazePersistenceConfig();
             String persistenceUnitName = blazePersistenceConfig.persistenceUnit.orElse(PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME);
             boolean defaultBlazePersistenceInstance = BlazePersistenceInstanceUtil.isDefaultBlazePersistenceInstance(blazePersistenceInstanceName);
+            BlazePersistenceInstanceConfigurationBuildItem configurations = getConfigurations(blazePersistenceConfigurations, blazePersistenceInstanceName);
 
             syntheticBeanBuildItemBuildProducer
                     .produce(createSyntheticBean(blazePersistenceInstanceName,
                             defaultBlazePersistenceInstance,
                             CriteriaBuilderFactory.class,
-                            recorder.criteriaBuilderFactorySupplier(blazePersistenceConfig, blazePersistenceInstanceName, persistenceUnitName),
+                            recorder.criteriaBuilderFactorySupplier(configurations.getCriteriaBuilderConfiguration(), blazePersistenceInstanceName, persistenceUnitName),
                             true));
 
             syntheticBeanBuildItemBuildProducer
                     .produce(createSyntheticBean(blazePersistenceInstanceName,
                             defaultBlazePersistenceInstance,
                             EntityViewManager.class,
-                            recorder.entityViewManagerSupplier(
-                                    blazePersistenceConfig,
-                                    blazePersistenceInstanceName,
-                                    blazePersistenceDescriptor.getEntityViewClasses(),
-                                    blazePersistenceDescriptor.getEntityViewListenerClasses()
-                            ),
+                            recorder.entityViewManagerSupplier(configurations.getEntityViewConfiguration(), blazePersistenceInstanceName),
                             false));
         }
     }
 
+    private static BlazePersistenceInstanceConfigurationBuildItem getConfigurations(List<BlazePersistenceInstanceConfigurationBuildItem> blazePersistenceConfigurations, String blazePersistenceInstanceName) {
+        for (BlazePersistenceInstanceConfigurationBuildItem configurations : blazePersistenceConfigurations) {
+            if (configurations.getBlazePersistenceInstanceName().equals(blazePersistenceInstanceName)) {
+                return configurations;
+            }
+        }
+        throw new IllegalStateException("No prepared configurations found for Blaze-Persistence instance '" + blazePersistenceInstanceName + "'");
+    }
+
     private static <T> SyntheticBeanBuildItem createSyntheticBean(String blazePersistenceInstanceName, boolean isDefaultBlazePersistenceInstance,
                                                                   Class<T> type, Supplier<T> supplier, boolean defaultBean) {
         SyntheticBeanBuildItem.ExtendedBeanConfigurator configurator = SyntheticBeanBuildItem
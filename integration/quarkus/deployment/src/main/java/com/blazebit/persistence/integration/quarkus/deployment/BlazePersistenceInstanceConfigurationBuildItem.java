@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+package com.blazebit.persistence.integration.quarkus.deployment;
+
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import io.quarkus.builder.item.MultiBuildItem;
+import io.quarkus.runtime.RuntimeValue;
+
+/**
+ * Holds the configurations of a Blaze-Persistence instance that are prepared during static initialization.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public final class BlazePersistenceInstanceConfigurationBuildItem extends MultiBuildItem {
+    private final String blazePersistenceInstanceName;
+    private final RuntimeValue<CriteriaBuilderConfiguration> criteriaBuilderConfiguration;
+    private final RuntimeValue<EntityViewConfiguration> entityViewConfiguration;
+
+    public BlazePersistenceInstanceConfigurationBuildItem(String blazePersistenceInstanceName, RuntimeValue<CriteriaBuilderConfiguration> criteriaBuilderConfiguration, RuntimeValue<EntityViewConfiguration> entityViewConfiguration) {
+        this.blazePersistenceInstanceName = blazePersistenceInstanceName;
+        this.criteriaBuilderConfiguration = criteriaBuilderConfiguration;
+        this.entityViewConfiguration = entityViewConfiguration;
+    }
+
+    public String getBlazePersistenceInstanceName() {
+        return blazePersistenceInstanceName;
+    }
+
+    public RuntimeValue<CriteriaBuilderConfiguration> getCriteriaBuilderConfiguration() {
+        return criteriaBuilderConfiguration;
+    }
+
+    public RuntimeValue<EntityViewConfiguration> getEntityViewConfiguration() {
+        return entityViewConfiguration;
+    }
+}